@@ -0,0 +1,41 @@
+package com.example.hotel_inventory.benchmark;
+
+import com.example.hotel_inventory.dto.InventoryGroupSummary;
+import com.example.hotel_inventory.dto.StockSummary;
+import com.example.hotel_inventory.service.InventoryService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The aggregations behind /api/admin/stats and the category/supplier reports.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class AdminReportBenchmark {
+
+    @Benchmark
+    public StockSummary stockSummary(BenchmarkDatabase database) {
+        return database.bean(InventoryService.class).getStockSummary();
+    }
+
+    @Benchmark
+    public List<InventoryGroupSummary> categorySummaries(BenchmarkDatabase database) {
+        return database.bean(InventoryService.class).getCategorySummaries();
+    }
+
+    @Benchmark
+    public List<InventoryGroupSummary> supplierSummaries(BenchmarkDatabase database) {
+        return database.bean(InventoryService.class).getSupplierSummaries();
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.hotel_inventory.benchmark;
+
+import com.example.hotel_inventory.dto.ItemRequestDto;
+import com.example.hotel_inventory.model.InventoryItem;
+import com.example.hotel_inventory.model.ItemRequest;
+import com.example.hotel_inventory.repository.InventoryItemRepository;
+import com.example.hotel_inventory.repository.ItemRequestRepository;
+import com.example.hotel_inventory.service.AdminInspectorService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One approval per invocation. A fresh pending request is inserted before each
+ * call (outside the measurement) against an item stocked so it never runs out.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ApproveItemRequestBenchmark {
+
+    private InventoryItem item;
+    private Long requestId;
+
+    @Setup(Level.Trial)
+    public void createItem(BenchmarkDatabase database) {
+        item = database.bean(InventoryItemRepository.class).save(InventoryItem.builder()
+                .name("Approval stock")
+                .quantity(Integer.MAX_VALUE)
+                .minQuantity(10)
+                .price(new BigDecimal("1.00"))
+                .build());
+    }
+
+    @Setup(Level.Invocation)
+    public void createRequest(BenchmarkDatabase database) {
+        requestId = database.bean(ItemRequestRepository.class).save(ItemRequest.builder()
+                .inspector(database.inspector)
+                .inventoryItem(item)
+                .requestedQuantity(1)
+                .locationType("ROOM")
+                .locationIdentifier("101")
+                .build()).getId();
+    }
+
+    @Benchmark
+    public ItemRequestDto approveItemRequest(BenchmarkDatabase database) {
+        return database.bean(AdminInspectorService.class).approveItemRequest(requestId, database.admin.getId());
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.hotel_inventory.benchmark;
+
+import com.example.hotel_inventory.HotelInventoryApplication;
+import com.example.hotel_inventory.config.IdSequenceInitializer;
+import com.example.hotel_inventory.model.Category;
+import com.example.hotel_inventory.model.Supplier;
+import com.example.hotel_inventory.model.User;
+import com.example.hotel_inventory.repository.CategoryRepository;
+import com.example.hotel_inventory.repository.SupplierRepository;
+import com.example.hotel_inventory.repository.UserRepository;
+import com.example.hotel_inventory.service.InventorySearchIndex;
+import com.example.hotel_inventory.service.InventoryStatsAggregate;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The application context, without the web layer, on an in-memory H2 database
+ * seeded with {@code rows} inventory items spread over 50 categories and 20
+ * suppliers, plus one stock transaction per ten items and 1,000 item requests
+ * from a single inspector. Started once per fork.
+ */
+@State(Scope.Benchmark)
+public class BenchmarkDatabase {
+
+    static final int CATEGORIES = 50;
+    static final int SUPPLIERS = 20;
+    static final int ITEM_REQUESTS = 1_000;
+
+    @Param({"10000", "100000", "1000000"})
+    public int rows;
+
+    ConfigurableApplicationContext context;
+    JdbcTemplate jdbcTemplate;
+    User admin;
+    User inspector;
+    long firstCategoryId;
+
+    @Setup(Level.Trial)
+    public void start() {
+        start(new SpringApplicationBuilder(HotelInventoryApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("benchmark"));
+    }
+
+    // Also used by benchmarks that need other profiles or settings, or the web layer
+    void start(SpringApplicationBuilder application, String... args) {
+        context = application.run(args);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        seed();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    private void seed() {
+        UserRepository userRepository = bean(UserRepository.class);
+        admin = userRepository.save(user("bench-admin", User.UserRole.ADMIN));
+        inspector = userRepository.save(user("bench-inspector", User.UserRole.INSPECTOR));
+
+        List<Category> categories = new ArrayList<>();
+        for (int i = 0; i < CATEGORIES; i++) {
+            categories.add(Category.builder().name("Bench category " + i).isActive(true).build());
+        }
+        firstCategoryId = bean(CategoryRepository.class).saveAll(categories).get(0).getId();
+
+        List<Supplier> suppliers = new ArrayList<>();
+        for (int i = 0; i < SUPPLIERS; i++) {
+            suppliers.add(Supplier.builder().name("Bench supplier " + i).email("supplier" + i + "@bench.test")
+                    .isActive(true).build());
+        }
+        long firstSupplierId = bean(SupplierRepository.class).saveAll(suppliers).get(0).getId();
+
+        // Set-based inserts; going through JPA would dominate setup time at a million rows
+        long itemBase = firstUnallocatedId("inventory_items_seq");
+        jdbcTemplate.update(
+                "INSERT INTO inventory_items (id, name, description, category_id, supplier_id, quantity, price, " +
+                "status, min_quantity, max_quantity, unit_of_measurement, created_at, updated_at, created_by) " +
+                "SELECT ? + x, CONCAT(CASE MOD(x, 8) WHEN 0 THEN 'Bath Towel' WHEN 1 THEN 'Hand Towel' " +
+                "WHEN 2 THEN 'Feather Pillow' WHEN 3 THEN 'Shampoo Bottle' WHEN 4 THEN 'Conditioner' " +
+                "WHEN 5 THEN 'Bed Sheet' WHEN 6 THEN 'Coffee Capsule' ELSE 'Toilet Paper' END, ' ', x), " +
+                "CONCAT('Benchmark item ', x), ? + MOD(x, ?), ? + MOD(x, ?), " +
+                "MOD(x * 7, 200), 0.99 + MOD(x, 100), " +
+                "CASE WHEN MOD(x * 7, 200) = 0 THEN 'OUT_OF_STOCK' " +
+                "WHEN MOD(x * 7, 200) <= 10 THEN 'LOW_STOCK' ELSE 'IN_STOCK' END, " +
+                "10, 1000, 'pieces', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, ? " +
+                "FROM SYSTEM_RANGE(1, ?) AS r(x)",
+                itemBase, firstCategoryId, CATEGORIES, firstSupplierId, SUPPLIERS, admin.getId(), rows);
+
+        jdbcTemplate.update(
+                "INSERT INTO stock_transactions (id, item_id, type, quantity, previous_quantity, new_quantity, " +
+                "reason, transaction_date, performed_by, created_at) " +
+                "SELECT ? + x, ? + 1 + MOD(x * 10, ?), 'ADD', 5, 0, 5, 'Seed', CURRENT_TIMESTAMP, ?, CURRENT_TIMESTAMP " +
+                "FROM SYSTEM_RANGE(1, ?) AS r(x)",
+                firstUnallocatedId("stock_transactions_seq"), itemBase, rows, admin.getId(), rows / 10);
+
+        jdbcTemplate.update(
+                "INSERT INTO item_requests (id, inspector_id, inventory_item_id, requested_quantity, location_type, " +
+                "location_identifier, status, created_at, updated_at) " +
+                "SELECT ? + x, ?, ? + 1 + MOD(x * 13, ?), 1, 'ROOM', CONCAT('', 100 + MOD(x, 300)), 'PENDING', " +
+                "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP FROM SYSTEM_RANGE(1, ?) AS r(x)",
+                firstUnallocatedId("item_requests_seq"), inspector.getId(), itemBase, rows, ITEM_REQUESTS);
+
+        // Rows above were given explicit ids; move the id sequences past them
+        bean(IdSequenceInitializer.class).afterPropertiesSet();
+        bean(InventoryStatsAggregate.class).rebuild();
+        bean(InventorySearchIndex.class).rebuild();
+    }
+
+    // Ids below the sequence's next value may already sit in a pooled block held by Hibernate
+    long firstUnallocatedId(String sequence) {
+        return jdbcTemplate.queryForObject(
+                "SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE LOWER(SEQUENCE_NAME) = ?",
+                Long.class, sequence);
+    }
+
+    private User user(String username, User.UserRole role) {
+        return User.builder()
+                .username(username)
+                .email(username + "@bench.test")
+                .password("benchmark")
+                .firstName(username)
+                .lastName("Bench")
+                .role(role)
+                .isActive(true)
+                .build();
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.hotel_inventory.benchmark;
+
+import com.example.hotel_inventory.dto.request.InventoryItemUpdate;
+import com.example.hotel_inventory.dto.response.BulkUpdateSummary;
+import com.example.hotel_inventory.service.InventoryService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A 10,000 row bulk update, the largest the endpoint accepts. Every row sets a
+ * new quantity, so each call writes 10,000 UPDATEs and 10,000 ADJUSTMENT
+ * transactions; the target is under two seconds.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class BulkUpdateBenchmark {
+
+    static final int UPDATES = 10_000;
+
+    private List<Long> itemIds;
+    private List<InventoryItemUpdate> updates;
+    private int round;
+
+    @Setup(Level.Trial)
+    public void loadItems(BenchmarkDatabase database) {
+        itemIds = database.jdbcTemplate.queryForList(
+                "SELECT id FROM inventory_items ORDER BY id LIMIT ?", Long.class, UPDATES);
+    }
+
+    // Alternates between two quantities no seeded item has, so no row is ever unchanged
+    @Setup(Level.Invocation)
+    public void createUpdates() {
+        int quantity = 500 + round++ % 2;
+        updates = new ArrayList<>(itemIds.size());
+        for (Long id : itemIds) {
+            updates.add(InventoryItemUpdate.builder().id(id).quantity(quantity).reason("Benchmark recount").build());
+        }
+    }
+
+    @Benchmark
+    public BulkUpdateSummary bulkUpdateItems(BenchmarkDatabase database) {
+        return database.bean(InventoryService.class).bulkUpdateItems(updates, database.admin.getId());
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.hotel_inventory.benchmark;
+
+import com.example.hotel_inventory.model.InventoryItem;
+import com.example.hotel_inventory.model.StockTransaction;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * {@link StockTransaction} as it was mapped before its ids came from a pooled
+ * sequence. Hibernate cannot batch IDENTITY inserts, since it needs each row's
+ * generated id straight away. Only on the benchmark classpath, so the table
+ * only exists in benchmark runs.
+ */
+@Entity
+@Table(name = "identity_stock_transactions")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IdentityStockTransaction {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "item_id", nullable = false)
+    private InventoryItem item;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private StockTransaction.TransactionType type;
+
+    @Column(nullable = false)
+    private int quantity;
+
+    @Column(name = "previous_quantity")
+    private int previousQuantity;
+
+    @Column(name = "new_quantity")
+    private int newQuantity;
+
+    @Column(name = "transaction_date")
+    private LocalDateTime transactionDate;
+}
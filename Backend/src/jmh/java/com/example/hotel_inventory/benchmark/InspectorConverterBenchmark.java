@@ -0,0 +1,49 @@
+package com.example.hotel_inventory.benchmark;
+
+import com.example.hotel_inventory.dto.InventoryItemDto;
+import com.example.hotel_inventory.dto.ItemRequestDto;
+import com.example.hotel_inventory.dto.request.InventoryItemFilter;
+import com.example.hotel_inventory.service.InspectorService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inspector read paths, which load entities and map them through the
+ * InspectorServiceImpl converters: one page of items, a whole category
+ * (rows / 50 items) and the inspector's 1,000 item requests.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class InspectorConverterBenchmark {
+
+    private static final PageRequest PAGE = PageRequest.of(0, 200, Sort.by("name"));
+
+    @Benchmark
+    public Page<InventoryItemDto> inventoryPage(BenchmarkDatabase database) {
+        return database.bean(InspectorService.class).findInventoryItems(new InventoryItemFilter(), PAGE);
+    }
+
+    @Benchmark
+    public List<InventoryItemDto> inventoryByCategory(BenchmarkDatabase database) {
+        return database.bean(InspectorService.class).getInventoryItemsByCategory(database.firstCategoryId);
+    }
+
+    @Benchmark
+    public List<ItemRequestDto> myItemRequests(BenchmarkDatabase database) {
+        return database.bean(InspectorService.class).getMyItemRequests(database.inspector.getId());
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.hotel_inventory.benchmark;
+
+import com.example.hotel_inventory.dto.InventoryItemDto;
+import com.example.hotel_inventory.service.InspectorService;
+import com.example.hotel_inventory.service.InventorySearchIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inspector inventory search: the index lookup alone and the full endpoint path,
+ * which also loads the top 20 items with their references. Queries cover an exact
+ * word, a prefix typed so far, a typo and a multi-word query.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class InventorySearchBenchmark {
+
+    private static final int LIMIT = 20;
+
+    @Param({"towel", "shamp", "pilow", "bath towel 42"})
+    public String query;
+
+    @Benchmark
+    public List<Long> indexLookup(BenchmarkDatabase database) {
+        return database.bean(InventorySearchIndex.class).search(query, LIMIT);
+    }
+
+    @Benchmark
+    public List<InventoryItemDto> searchEndpoint(BenchmarkDatabase database) {
+        return database.bean(InspectorService.class).searchInventoryItems(query, LIMIT);
+    }
+}
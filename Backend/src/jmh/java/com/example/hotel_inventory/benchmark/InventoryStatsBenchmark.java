@@ -0,0 +1,35 @@
+package com.example.hotel_inventory.benchmark;
+
+import com.example.hotel_inventory.dto.InventoryStats;
+import com.example.hotel_inventory.service.InventoryService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dashboard stats: the in-memory aggregate read that serves the endpoint,
+ * and the full rebuild from the database it falls back to.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class InventoryStatsBenchmark {
+
+    @Benchmark
+    public InventoryStats getInventoryStats(BenchmarkDatabase database) {
+        return database.bean(InventoryService.class).getInventoryStats();
+    }
+
+    @Benchmark
+    public InventoryStats rebuildInventoryStats(BenchmarkDatabase database) {
+        return database.bean(InventoryService.class).rebuildInventoryStats();
+    }
+}
@@ -0,0 +1,195 @@
+package com.example.hotel_inventory.benchmark;
+
+import com.example.hotel_inventory.HotelInventoryApplication;
+import com.example.hotel_inventory.config.IdSequenceInitializer;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load test of the blocking read endpoints. Starts the whole application on
+ * a random port over the H2 benchmark database (seeded with {@code rows} items and as
+ * many bookings), then {@code clients} concurrent clients each send their next request
+ * as soon as the previous response arrives, cycling through {@link #ENDPOINTS}. Runs once per
+ * mode named on the command line, {@code platform} and/or {@code virtual} (the "virtual"
+ * profile), and prints throughput and latency percentiles per endpoint.
+ *
+ * Run with: mvn -P benchmarks test-compile exec:exec -Dbenchmark.main=com.example.hotel_inventory.benchmark.LoadTest -Djmh.args="platform virtual"
+ * Other arguments: clients=2000 rows=1000 warmup=10 duration=30 (seconds).
+ */
+public final class LoadTest {
+
+    private static final List<String> ENDPOINTS = List.of("/api/inventory", "/api/frontdesk", "/api/inspector/inventory");
+
+    // Overridden by name=value arguments
+    private static int clients = 2_000;
+    private static int rows = 1_000;
+    private static Duration warmup = Duration.ofSeconds(10);
+    private static Duration duration = Duration.ofSeconds(30);
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) {
+        List<String> modes = new ArrayList<>();
+        for (String arg : args) {
+            String[] option = arg.split("=", 2);
+            if (option.length == 1) {
+                modes.add(arg);
+                continue;
+            }
+            int value = Integer.parseInt(option[1]);
+            switch (option[0]) {
+                case "clients" -> clients = value;
+                case "rows" -> rows = value;
+                case "warmup" -> warmup = Duration.ofSeconds(value);
+                case "duration" -> duration = Duration.ofSeconds(value);
+                default -> throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+        if (modes.isEmpty()) {
+            modes = List.of("platform", "virtual");
+        }
+        Map<String, Map<String, Latencies>> results = new LinkedHashMap<>();
+        for (String mode : modes) {
+            results.put(mode, run(mode));
+        }
+
+        System.out.printf("%n%d clients, %d items, %ds measured%n", clients, rows, duration.toSeconds());
+        System.out.printf("%-9s %-26s %9s %7s %9s %9s %9s %9s%n",
+                "mode", "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "max ms");
+        results.forEach((mode, endpoints) -> endpoints.forEach((endpoint, latencies) -> {
+            long[] sorted = latencies.sorted();
+            System.out.printf("%-9s %-26s %9d %7d %9.0f %9.1f %9.1f %9.1f%n", mode, endpoint,
+                    sorted.length, latencies.errors.get(), sorted.length / (double) duration.toSeconds(),
+                    millis(percentile(sorted, 0.50)), millis(percentile(sorted, 0.99)),
+                    millis(percentile(sorted, 1.0)));
+        }));
+    }
+
+    private static Map<String, Latencies> run(String mode) {
+        if ("virtual".equals(mode) && Runtime.version().feature() < 21) {
+            System.err.printf("Virtual threads need Java 21+, this is Java %d: the virtual run uses platform threads%n",
+                    Runtime.version().feature());
+        }
+        String[] profiles = "virtual".equals(mode)
+                ? new String[]{"benchmark", "virtual"}
+                : new String[]{"benchmark"};
+
+        BenchmarkDatabase database = new BenchmarkDatabase();
+        database.rows = rows;
+        database.start(new SpringApplicationBuilder(HotelInventoryApplication.class)
+                .profiles(profiles)
+                .properties("server.port=0"));
+        try {
+            seedBookings(database);
+            int port = database.context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+            URI base = URI.create("http://localhost:" + port);
+
+            System.err.printf("[%s] warming up for %ds with %d clients%n", mode, warmup.toSeconds(), clients);
+            drive(client, base, warmup);
+            System.err.printf("[%s] measuring for %ds%n", mode, duration.toSeconds());
+            return drive(client, base, duration);
+        } finally {
+            database.stop();
+        }
+    }
+
+    private static void seedBookings(BenchmarkDatabase database) {
+        database.jdbcTemplate.update(
+                "INSERT INTO frontdesk (id, guest_name, guest_email, room_number, room_type, status, " +
+                "expected_check_in, expected_check_out, number_of_guests, total_amount, payment_status, " +
+                "created_by, created_at, updated_at) " +
+                "SELECT ? + x, CONCAT('Guest ', x), CONCAT('guest', x, '@bench.test'), CONCAT('', 100 + MOD(x, 300)), " +
+                "'DOUBLE', 'RESERVED', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 2, 120.0, 'PENDING', 'bench', " +
+                "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP FROM SYSTEM_RANGE(1, ?) AS r(x)",
+                database.firstUnallocatedId("frontdesk_seq"), rows);
+        database.bean(IdSequenceInitializer.class).afterPropertiesSet();
+    }
+
+    private static Map<String, Latencies> drive(HttpClient client, URI base, Duration period) {
+        Map<String, Latencies> latencies = new LinkedHashMap<>();
+        ENDPOINTS.forEach(endpoint -> latencies.put(endpoint, new Latencies()));
+        long deadline = System.nanoTime() + period.toNanos();
+
+        CompletableFuture<?>[] running = new CompletableFuture<?>[clients];
+        for (int i = 0; i < clients; i++) {
+            CompletableFuture<Void> done = new CompletableFuture<>();
+            next(client, base, latencies, i, deadline, done);
+            running[i] = done;
+        }
+        CompletableFuture.allOf(running).join();
+        return latencies;
+    }
+
+    private static void next(HttpClient client, URI base, Map<String, Latencies> latencies,
+                             int sequence, long deadline, CompletableFuture<Void> done) {
+        long start = System.nanoTime();
+        if (start >= deadline) {
+            done.complete(null);
+            return;
+        }
+        String endpoint = ENDPOINTS.get(sequence % ENDPOINTS.size());
+        HttpRequest request = HttpRequest.newBuilder(base.resolve(endpoint))
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    latencies.get(endpoint).record(System.nanoTime() - start,
+                            error == null && response.statusCode() == 200);
+                    next(client, base, latencies, sequence + 1, deadline, done);
+                });
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[(int) Math.ceil(percentile * sorted.length) - 1];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    /**
+     * Response times of one endpoint, including failed requests.
+     */
+    private static final class Latencies {
+        private long[] nanos = new long[1024];
+        private int size;
+        private final AtomicLong errors = new AtomicLong();
+
+        synchronized void record(long elapsed, boolean ok) {
+            if (size == nanos.length) {
+                nanos = Arrays.copyOf(nanos, size * 2);
+            }
+            nanos[size++] = elapsed;
+            if (!ok) {
+                errors.incrementAndGet();
+            }
+        }
+
+        synchronized long[] sorted() {
+            long[] copy = Arrays.copyOf(nanos, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.hotel_inventory.benchmark;
+
+import com.example.hotel_inventory.HotelInventoryApplication;
+import com.example.hotel_inventory.dto.InventoryItemDto;
+import com.example.hotel_inventory.dto.request.InventoryItemFilter;
+import com.example.hotel_inventory.service.InspectorService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of two inspector reads under the default logging settings from
+ * application.properties (every statement printed and formatted, DEBUG levels)
+ * and under the prod profile (SQL logged only when slow, async appender).
+ * Console output goes to target/logging-benchmark-{logging}.log instead of
+ * JMH's own output.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class LoggingBenchmark {
+
+    // The application.properties values that the benchmark profile turns down
+    private static final String[] DEFAULT_LOGGING = {
+            "--spring.jpa.show-sql=true",
+            "--spring.jpa.properties.hibernate.format_sql=true",
+            "--logging.level.com.example.hotel_inventory=DEBUG",
+            "--logging.level.org.springframework.web=DEBUG",
+            "--logging.level.org.hibernate.SQL=DEBUG",
+            "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=TRACE"
+    };
+
+    private static final PageRequest PAGE = PageRequest.of(0, 50, Sort.by("name"));
+
+    @Param({"default", "prod"})
+    public String logging;
+
+    @Param({"10000"})
+    public int rows;
+
+    private final BenchmarkDatabase database = new BenchmarkDatabase();
+    private PrintStream console;
+    private PrintStream logFile;
+    private InspectorService inspectorService;
+    private long itemId;
+
+    @Setup(Level.Trial)
+    public void start() throws FileNotFoundException {
+        console = System.out;
+        logFile = new PrintStream(new FileOutputStream("target/logging-benchmark-" + logging + ".log"), true);
+        System.setOut(logFile);
+
+        database.rows = rows;
+        SpringApplicationBuilder application = new SpringApplicationBuilder(HotelInventoryApplication.class)
+                .web(WebApplicationType.NONE);
+        if ("prod".equals(logging)) {
+            database.start(application.profiles("benchmark", "prod"));
+        } else {
+            database.start(application.profiles("benchmark"), DEFAULT_LOGGING);
+        }
+        inspectorService = database.bean(InspectorService.class);
+        itemId = database.jdbcTemplate.queryForObject("SELECT MIN(id) FROM inventory_items", Long.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        database.stop();
+        System.setOut(console);
+        logFile.close();
+    }
+
+    @Benchmark
+    public InventoryItemDto itemById() {
+        return inspectorService.getInventoryItemById(itemId);
+    }
+
+    @Benchmark
+    public Page<InventoryItemDto> inventoryPage() {
+        return inspectorService.findInventoryItems(new InventoryItemFilter(), PAGE);
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.hotel_inventory.benchmark;
+
+import com.example.hotel_inventory.model.InventoryItem;
+import com.example.hotel_inventory.model.StockTransaction;
+import com.example.hotel_inventory.repository.InventoryItemRepository;
+import com.example.hotel_inventory.repository.StockTransactionRepository;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserting 5,000 stock transactions in one transaction: saveAll on the pooled
+ * sequence mapping, batched by hibernate.jdbc.batch_size, against the same rows
+ * persisted with IDENTITY ids, one INSERT per row.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class StockTransactionInsertBenchmark {
+
+    static final int ROWS = 5_000;
+
+    private InventoryItem item;
+    private TransactionTemplate transactionTemplate;
+
+    @Setup(Level.Trial)
+    public void createItem(BenchmarkDatabase database) {
+        item = database.bean(InventoryItemRepository.class).save(InventoryItem.builder()
+                .name("Insert stock")
+                .quantity(10)
+                .minQuantity(10)
+                .price(new BigDecimal("1.00"))
+                .build());
+        transactionTemplate = database.bean(TransactionTemplate.class);
+    }
+
+    @Benchmark
+    public int pooledSaveAll(BenchmarkDatabase database) {
+        StockTransactionRepository repository = database.bean(StockTransactionRepository.class);
+        return transactionTemplate.execute(status -> {
+            List<StockTransaction> transactions = new ArrayList<>(ROWS);
+            for (int i = 0; i < ROWS; i++) {
+                transactions.add(StockTransaction.builder()
+                        .item(item)
+                        .type(StockTransaction.TransactionType.ADD)
+                        .quantity(1)
+                        .previousQuantity(i)
+                        .newQuantity(i + 1)
+                        .build());
+            }
+            return repository.saveAll(transactions).size();
+        });
+    }
+
+    @Benchmark
+    public int identityPersist(BenchmarkDatabase database) {
+        EntityManager entityManager = database.bean(EntityManager.class);
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            for (int i = 0; i < ROWS; i++) {
+                entityManager.persist(IdentityStockTransaction.builder()
+                        .item(item)
+                        .type(StockTransaction.TransactionType.ADD)
+                        .quantity(1)
+                        .previousQuantity(i)
+                        .newQuantity(i + 1)
+                        .transactionDate(now)
+                        .build());
+            }
+            return ROWS;
+        });
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.hotel_inventory.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Caching for reference data. The caches themselves (Caffeine, bounded, with a
+ * TTL) are configured through spring.cache.* in application.properties.
+ *
+ * The cache advice runs outside the transaction advice, so an eviction on a
+ * write path only happens once that write has committed and a concurrent read
+ * cannot put the old row back.
+ *
+ * Lookups by id or username do not cache a miss ({@code unless = "#result == null"};
+ * the condition sees the Optional's contents). Ids come from the database, so a miss
+ * could otherwise hide the row a later create inserts under that key.
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+
+    public static final String CATEGORIES = "categories";
+    public static final String CATEGORY = "category";
+    public static final String SUPPLIERS = "suppliers";
+    public static final String SUPPLIER = "supplier";
+    public static final String USERS = "users";
+    public static final String USER = "user";
+    public static final String USER_BY_USERNAME = "userByUsername";
+}
@@ -0,0 +1,72 @@
+package com.example.hotel_inventory.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Moves the id sequences of the write-heavy tables past their existing rows.
+ *
+ * These tables used to take ids from AUTO_INCREMENT. They now use pooled
+ * sequences (so Hibernate can batch their inserts), and on MySQL Hibernate
+ * creates each sequence as a one-row *_seq table starting at 1. Without this,
+ * the first inserts into a database with existing data would reuse ids.
+ * Runs once the schema is in place and before anything can insert.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+@Slf4j
+public class IdSequenceInitializer implements InitializingBean {
+
+    // Must match allocationSize on the entities' @SequenceGenerator
+    private static final int ALLOCATION_SIZE = 50;
+
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "stock_transactions", "stock_transactions_seq",
+            "item_requests", "item_requests_seq",
+            "inspection_items", "inspection_items_seq",
+            "inventory_items", "inventory_items_seq",
+            "frontdesk", "frontdesk_seq");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        String database = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+
+        SEQUENCES.forEach((table, sequence) -> {
+            Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+            if (maxId == null) {
+                return;
+            }
+            // A pooled optimizer hands out the block below the value it reads, so leave a full block of headroom
+            long nextValue = maxId + ALLOCATION_SIZE + 1;
+
+            if ("MySQL".equalsIgnoreCase(database)) {
+                int updated = jdbcTemplate.update(
+                        "UPDATE " + sequence + " SET next_val = ? WHERE next_val < ?", nextValue, nextValue);
+                if (updated > 0) {
+                    log.info("Advanced {} to {} (max id in {} is {})", sequence, nextValue, table, maxId);
+                }
+            } else if ("H2".equalsIgnoreCase(database)) {
+                Long current = jdbcTemplate.queryForObject(
+                        "SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE LOWER(SEQUENCE_NAME) = ?",
+                        Long.class, sequence);
+                if (current != null && current < nextValue) {
+                    jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + nextValue);
+                    log.info("Advanced {} to {} (max id in {} is {})", sequence, nextValue, table, maxId);
+                }
+            } else {
+                log.warn("Not aligning {} on {}; make sure it is past the max id in {}", sequence, database, table);
+            }
+        });
+    }
+}
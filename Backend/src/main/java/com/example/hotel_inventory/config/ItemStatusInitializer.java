@@ -0,0 +1,34 @@
+package com.example.hotel_inventory.config;
+
+import com.example.hotel_inventory.repository.InventoryItemRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+
+/**
+ * Brings stored item statuses in line with their stock.
+ *
+ * Status used to be set only when an approval took stock, and never moved back to
+ * IN_STOCK, so existing rows can disagree with their quantity. Low-stock and
+ * out-of-stock reads now go by status alone, so those rows are corrected once the
+ * schema is in place and before anything reads them. Rows already in line are not
+ * written, which makes this a no-op on later starts.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+@Slf4j
+public class ItemStatusInitializer implements InitializingBean {
+
+    private final InventoryItemRepository inventoryItemRepository;
+
+    @Override
+    public void afterPropertiesSet() {
+        int corrected = inventoryItemRepository.refreshStatuses();
+        if (corrected > 0) {
+            log.info("Corrected the status of {} inventory items", corrected);
+        }
+    }
+}
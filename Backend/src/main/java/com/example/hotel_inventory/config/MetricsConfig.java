@@ -0,0 +1,42 @@
+package com.example.hotel_inventory.config;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Set;
+
+/**
+ * Metrics beyond what Actuator registers on its own (HTTP requests, Spring Data
+ * repository invocations, HikariCP, Hibernate statistics, caches). All of them
+ * are scraped from /actuator/prometheus.
+ */
+@Configuration
+public class MetricsConfig {
+
+    public static final String SERVICE_TIMER = "hotel.service";
+
+    // Request approval and inventory stats, the paths with latency targets; other
+    // service methods only publish count, total and max
+    private static final Set<String> HISTOGRAM_METHODS = Set.of(
+            "approveItemRequest", "rejectItemRequest", "processItemRequests",
+            "getInventoryStats", "rebuildInventoryStats", "getStockSummary");
+
+    @Bean
+    public MeterFilter serviceHistograms() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (SERVICE_TIMER.equals(id.getName()) && HISTOGRAM_METHODS.contains(id.getTag("method"))) {
+                    return DistributionStatisticConfig.builder()
+                            .percentilesHistogram(true)
+                            .build()
+                            .merge(config);
+                }
+                return config;
+            }
+        };
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.hotel_inventory.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Background jobs (@Scheduled): the outbox dispatcher, the nightly forecast and the
+ * inspection rollup. They share the scheduler pool (spring.task.scheduling.pool.size),
+ * sized so a nightly job does not hold up outbox dispatch while it runs.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,63 @@
+package com.example.hotel_inventory.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every public method of the core services as {@value MetricsConfig#SERVICE_TIMER},
+ * tagged with the service, the method and the exception thrown ("none" on success).
+ *
+ * Ordered ahead of the transaction advice, so the time includes the commit.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(public * *(..)) && (" +
+            "within(com.example.hotel_inventory.service.InventoryService+) || " +
+            "within(com.example.hotel_inventory.service.InspectorService+) || " +
+            "within(com.example.hotel_inventory.service.InspectorSyncService+) || " +
+            "within(com.example.hotel_inventory.service.AdminInspectorService+) || " +
+            "within(com.example.hotel_inventory.service.FrontdeskService+) || " +
+            "within(com.example.hotel_inventory.service.DemandForecastService+) || " +
+            "within(com.example.hotel_inventory.service.LocationService+) || " +
+            "within(com.example.hotel_inventory.service.UserService))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            Timer.builder(MetricsConfig.SERVICE_TIMER)
+                    .description("Service method execution time")
+                    .tag("service", serviceName(joinPoint))
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("exception", exception)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // InventoryServiceImpl is reported as InventoryService
+    private static String serviceName(ProceedingJoinPoint joinPoint) {
+        String name = AopUtils.getTargetClass(joinPoint.getTarget()).getSimpleName();
+        return name.endsWith("Impl") ? name.substring(0, name.length() - "Impl".length()) : name;
+    }
+}
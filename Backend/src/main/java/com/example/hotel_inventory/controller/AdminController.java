@@ -1,16 +1,39 @@
 package com.example.hotel_inventory.controller;
 
+import com.example.hotel_inventory.dto.InventoryGroupSummary;
 import com.example.hotel_inventory.dto.ItemRequestDto;
+import com.example.hotel_inventory.dto.RoomTypeConsumptionDto;
+import com.example.hotel_inventory.dto.StockSummary;
+import com.example.hotel_inventory.dto.request.InventoryItemUpdate;
+import com.example.hotel_inventory.dto.request.ItemRequestDecision;
+import com.example.hotel_inventory.dto.request.RoomTypeConsumptionRequest;
+import com.example.hotel_inventory.dto.response.BulkUpdateSummary;
+import com.example.hotel_inventory.dto.response.DiscrepancyStatsDto;
+import com.example.hotel_inventory.dto.response.ForecastRunSummary;
+import com.example.hotel_inventory.dto.response.ItemRequestDecisionResult;
+import com.example.hotel_inventory.dto.response.RollupRunSummary;
+import com.example.hotel_inventory.model.InspectionDailyRollup;
 import com.example.hotel_inventory.model.InventoryItem;
 import com.example.hotel_inventory.service.AdminInspectorService;
+import com.example.hotel_inventory.service.DemandForecastService;
+import com.example.hotel_inventory.service.InspectionDiscrepancyRollup;
 import com.example.hotel_inventory.service.InventoryService;
+import com.example.hotel_inventory.service.ReorderForecaster;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -25,22 +48,28 @@ public class AdminController {
     @Autowired
     private AdminInspectorService adminInspectorService;
 
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ReorderForecaster reorderForecaster;
+
+    @Autowired
+    private DemandForecastService demandForecastService;
+
+    @Autowired
+    private InspectionDiscrepancyRollup discrepancyRollup;
+
     @GetMapping("/stats")
     public ResponseEntity<Map<String, Object>> getAdminStats() {
         try {
-            List<InventoryItem> allItems = inventoryService.getAllItems();
+            StockSummary summary = inventoryService.getStockSummary();
             
             Map<String, Object> stats = new HashMap<>();
-            stats.put("totalItems", allItems.size());
-            stats.put("totalValue", allItems.stream()
-                .map(item -> item.getPrice().multiply(BigDecimal.valueOf(item.getQuantity())))
-                .reduce(BigDecimal.ZERO, BigDecimal::add));
-            stats.put("lowStockItems", allItems.stream()
-                .filter(item -> item.getQuantity() <= 10 && item.getQuantity() > 0)
-                .count());
-            stats.put("outOfStockItems", allItems.stream()
-                .filter(item -> item.getQuantity() == 0)
-                .count());
+            stats.put("totalItems", summary.getTotalItems());
+            stats.put("totalValue", summary.getTotalValue());
+            stats.put("lowStockItems", summary.getLowStockItems());
+            stats.put("outOfStockItems", summary.getOutOfStockItems());
             
             return ResponseEntity.ok(stats);
         } catch (Exception e) {
@@ -51,10 +80,7 @@ public class AdminController {
     @GetMapping("/inventory/low-stock")
     public ResponseEntity<List<InventoryItem>> getLowStockItems() {
         try {
-            List<InventoryItem> lowStockItems = inventoryService.getAllItems()
-                .stream()
-                .filter(item -> item.getQuantity() <= 10 && item.getQuantity() > 0)
-                .toList();
+            List<InventoryItem> lowStockItems = inventoryService.getLowStockItems();
             return ResponseEntity.ok(lowStockItems);
         } catch (Exception e) {
             return ResponseEntity.internalServerError().build();
@@ -64,10 +90,7 @@ public class AdminController {
     @GetMapping("/inventory/out-of-stock")
     public ResponseEntity<List<InventoryItem>> getOutOfStockItems() {
         try {
-            List<InventoryItem> outOfStockItems = inventoryService.getAllItems()
-                .stream()
-                .filter(item -> item.getQuantity() == 0)
-                .toList();
+            List<InventoryItem> outOfStockItems = inventoryService.getOutOfStockItems();
             return ResponseEntity.ok(outOfStockItems);
         } catch (Exception e) {
             return ResponseEntity.internalServerError().build();
@@ -98,22 +121,8 @@ public class AdminController {
     @GetMapping("/reports/categories")
     public ResponseEntity<Map<String, Object>> getCategoryReport() {
         try {
-            List<InventoryItem> items = inventoryService.getAllItems();
-            
-            Map<String, Object> categoryStats = new HashMap<>();
-            items.stream()
-                .collect(java.util.stream.Collectors.groupingBy(
-                    item -> item.getCategory().getName(),
-                    java.util.stream.Collectors.summarizingInt(InventoryItem::getQuantity)))
-                .forEach((category, stats) -> {
-                    Map<String, Object> categoryData = new HashMap<>();
-                    categoryData.put("totalQuantity", stats.getSum());
-                    categoryData.put("itemCount", stats.getCount());
-                    categoryStats.put(category, categoryData);
-                });
-            
             Map<String, Object> report = new HashMap<>();
-            report.put("categoryStats", categoryStats);
+            report.put("categoryStats", toGroupStats(inventoryService.getCategorySummaries(), "Uncategorized"));
             report.put("generatedAt", LocalDateTime.now());
             
             return ResponseEntity.ok(report);
@@ -125,22 +134,8 @@ public class AdminController {
     @GetMapping("/reports/suppliers")
     public ResponseEntity<Map<String, Object>> getSupplierReport() {
         try {
-            List<InventoryItem> items = inventoryService.getAllItems();
-            
-            Map<String, Object> supplierStats = new HashMap<>();
-            items.stream()
-                .collect(java.util.stream.Collectors.groupingBy(
-                    item -> item.getSupplier().getName(),
-                    java.util.stream.Collectors.summarizingInt(InventoryItem::getQuantity)))
-                .forEach((supplier, stats) -> {
-                    Map<String, Object> supplierData = new HashMap<>();
-                    supplierData.put("totalQuantity", stats.getSum());
-                    supplierData.put("itemCount", stats.getCount());
-                    supplierStats.put(supplier, supplierData);
-                });
-            
             Map<String, Object> report = new HashMap<>();
-            report.put("supplierStats", supplierStats);
+            report.put("supplierStats", toGroupStats(inventoryService.getSupplierSummaries(), "No Supplier"));
             report.put("generatedAt", LocalDateTime.now());
             
             return ResponseEntity.ok(report);
@@ -172,14 +167,107 @@ public class AdminController {
         return ResponseEntity.ok(result);
     }
 
+    // Every decision is checked before any is applied, so one bad entry cannot roll back the batch at flush
+    @PostMapping("/item-requests/bulk")
+    public ResponseEntity<List<ItemRequestDecisionResult>> processItemRequests(
+            @RequestBody @Size(max = 500, message = "At most 500 decisions can be processed at once")
+            List<@Valid ItemRequestDecision> decisions) {
+        Long adminUserId = 1L; // No authentication; use default/system user ID
+        List<ItemRequestDecisionResult> results = adminInspectorService.processItemRequests(decisions, adminUserId);
+        return ResponseEntity.ok(results);
+    }
+
     @PostMapping("/inventory/bulk-update")
-    public ResponseEntity<List<InventoryItem>> bulkUpdateInventory(@RequestBody List<Map<String, Object>> updates) {
-        try {
-            // Implementation for bulk updates would go here
-            // For now, return empty list
-            return ResponseEntity.ok(List.of());
-        } catch (Exception e) {
-            return ResponseEntity.internalServerError().build();
+    public ResponseEntity<BulkUpdateSummary> bulkUpdateInventory(
+            @RequestBody @Size(max = 10_000, message = "At most 10000 updates can be applied at once")
+            List<@Valid InventoryItemUpdate> updates) {
+        Long adminUserId = 1L; // No authentication; use default/system user ID
+        BulkUpdateSummary summary = inventoryService.bulkUpdateItems(updates, adminUserId);
+        return ResponseEntity.ok(summary);
+    }
+
+    // Runs the nightly forecast job now, through yesterday unless a day is given
+    @PostMapping("/forecast/run")
+    public ResponseEntity<ForecastRunSummary> runForecast(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate through) {
+        return ResponseEntity.ok(reorderForecaster.run(through != null ? through : LocalDate.now().minusDays(1)));
+    }
+
+    // Shortage/damage/missing rates of completed inspection lines, days from..to inclusive (default last 30)
+    @GetMapping("/inspections/discrepancies")
+    public ResponseEntity<List<DiscrepancyStatsDto>> getDiscrepancyStats(
+            @RequestParam(defaultValue = "ITEM") InspectionDailyRollup.Dimension groupBy,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(29);
+        return ResponseEntity.ok(adminInspectorService.getDiscrepancyStats(groupBy, start, end));
+    }
+
+    // Runs the nightly inspection rollup now, through yesterday unless a day is given
+    @PostMapping("/inspections/rollup")
+    public ResponseEntity<RollupRunSummary> runInspectionRollup(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate through) {
+        return ResponseEntity.ok(discrepancyRollup.run(through != null ? through : LocalDate.now().minusDays(1)));
+    }
+
+    // Per room type consumption templates used by /api/frontdesk/demand
+    @GetMapping("/consumption-templates")
+    public ResponseEntity<List<RoomTypeConsumptionDto>> getConsumptionTemplates() {
+        return ResponseEntity.ok(demandForecastService.getConsumptionTemplates());
+    }
+
+    @PutMapping("/consumption-templates")
+    public ResponseEntity<RoomTypeConsumptionDto> saveConsumptionTemplate(
+            @Valid @RequestBody RoomTypeConsumptionRequest request) {
+        return ResponseEntity.ok(demandForecastService.saveConsumptionTemplate(request));
+    }
+
+    @DeleteMapping("/consumption-templates/{id}")
+    public ResponseEntity<Void> deleteConsumptionTemplate(@PathVariable Long id) {
+        demandForecastService.deleteConsumptionTemplate(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    // Hit/miss counters for the reference data caches
+    @GetMapping("/cache/stats")
+    public ResponseEntity<Map<String, Object>> getCacheStats() {
+        Map<String, Object> cacheStats = new HashMap<>();
+        for (String name : cacheManager.getCacheNames()) {
+            if (cacheManager.getCache(name) instanceof CaffeineCache cache) {
+                CacheStats stats = cache.getNativeCache().stats();
+                Map<String, Object> cacheData = new HashMap<>();
+                cacheData.put("size", cache.getNativeCache().estimatedSize());
+                cacheData.put("hits", stats.hitCount());
+                cacheData.put("misses", stats.missCount());
+                cacheData.put("hitRate", stats.hitRate());
+                cacheData.put("evictions", stats.evictionCount());
+                cacheStats.put(name, cacheData);
+            }
         }
+        return ResponseEntity.ok(cacheStats);
+    }
+
+    // Keyed by name as before; groups that share a name (suppliers are not unique by name, and
+    // a real group may be called like the placeholder) are added together, not overwritten
+    private Map<String, Object> toGroupStats(List<InventoryGroupSummary> summaries, String unassignedName) {
+        Map<String, InventoryGroupSummary> byName = new LinkedHashMap<>();
+        summaries.forEach(summary -> byName.merge(
+                summary.getGroupName() != null ? summary.getGroupName() : unassignedName, summary,
+                (a, b) -> new InventoryGroupSummary(null, a.getGroupName(),
+                        a.getItemCount() + b.getItemCount(),
+                        a.getTotalQuantity() + b.getTotalQuantity(),
+                        a.getTotalValue() == null ? b.getTotalValue()
+                                : b.getTotalValue() == null ? a.getTotalValue() : a.getTotalValue().add(b.getTotalValue()))));
+
+        Map<String, Object> groupStats = new HashMap<>();
+        byName.forEach((name, summary) -> {
+            Map<String, Object> groupData = new HashMap<>();
+            groupData.put("totalQuantity", summary.getTotalQuantity());
+            groupData.put("itemCount", summary.getItemCount());
+            groupData.put("totalValue", summary.getTotalValue());
+            groupStats.put(name, groupData);
+        });
+        return groupStats;
     }
-}
+}
\ No newline at end of file
@@ -2,70 +2,49 @@ package com.example.hotel_inventory.controller;
 
 import com.example.hotel_inventory.dto.CategoryDto;
 import com.example.hotel_inventory.dto.request.CreateCategoryRequest;
-import com.example.hotel_inventory.model.Category;
-import com.example.hotel_inventory.repository.CategoryRepository;
+import com.example.hotel_inventory.service.CategoryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/categories")
 @RequiredArgsConstructor
 public class CategoryController {
-    private final CategoryRepository categoryRepository;
+    private final CategoryService categoryService;
 
     @PostMapping
     public ResponseEntity<CategoryDto> createCategory(@Valid @RequestBody CreateCategoryRequest request) {
-        Category category = Category.builder()
-                .name(request.getName())
-                .description(request.getDescription())
-                .isActive(request.isActive())
-                .supplyItem(request.getSupplyItem())
-                .build();
-        Category savedCategory = categoryRepository.save(category);
-        return ResponseEntity.ok(CategoryDto.fromEntity(savedCategory));
+        return ResponseEntity.ok(categoryService.createCategory(request));
     }
 
     @GetMapping
     public ResponseEntity<List<CategoryDto>> getAllCategories() {
-        List<CategoryDto> categories = categoryRepository.findAll().stream()
-                .map(CategoryDto::fromEntity)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(categories);
+        return ResponseEntity.ok(categoryService.getAllCategories());
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<CategoryDto> getCategory(@PathVariable Long id) {
-        return categoryRepository.findById(id)
-                .map(CategoryDto::fromEntity)
+        return categoryService.getCategory(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<CategoryDto> updateCategory(@PathVariable Long id, @Valid @RequestBody CreateCategoryRequest request) {
-        return categoryRepository.findById(id)
-                .map(category -> {
-                    category.setName(request.getName());
-                    category.setDescription(request.getDescription());
-                    category.setActive(request.isActive());
-                    category.setSupplyItem(request.getSupplyItem());
-                    Category savedCategory = categoryRepository.save(category);
-                    return ResponseEntity.ok(CategoryDto.fromEntity(savedCategory));
-                })
+        return categoryService.updateCategory(id, request)
+                .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteCategory(@PathVariable Long id) {
-        if (!categoryRepository.existsById(id)) {
+        if (!categoryService.deleteCategory(id)) {
             return ResponseEntity.notFound().build();
         }
-        categoryRepository.deleteById(id);
         return ResponseEntity.noContent().build();
     }
 } 
\ No newline at end of file
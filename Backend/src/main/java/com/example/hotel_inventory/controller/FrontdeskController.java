@@ -2,14 +2,20 @@ package com.example.hotel_inventory.controller;
 
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import com.example.hotel_inventory.dto.FrontdeskDto;
+import com.example.hotel_inventory.dto.ItemDemandDto;
 import com.example.hotel_inventory.dto.request.CreateFrontdeskRequest;
 import com.example.hotel_inventory.dto.request.UpdateFrontdeskRequest;
 import com.example.hotel_inventory.dto.response.ApiResponse;
+import com.example.hotel_inventory.dto.response.PageResponse;
+import com.example.hotel_inventory.model.Frontdesk;
+import com.example.hotel_inventory.service.DemandForecastService;
 import com.example.hotel_inventory.service.FrontdeskService;
 
 import jakarta.validation.Valid;
@@ -22,6 +28,7 @@ import lombok.RequiredArgsConstructor;
 public class FrontdeskController {
     
     private final FrontdeskService frontdeskService;
+    private final DemandForecastService demandForecastService;
 
     @GetMapping
     public ResponseEntity<List<FrontdeskDto>> getAllBookings() {
@@ -33,6 +40,27 @@ public class FrontdeskController {
         }
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<PageResponse<FrontdeskDto>> getBookingPage(
+            @RequestParam(required = false) Frontdesk.BookingStatus status,
+            @PageableDefault(size = 50, sort = "expectedCheckIn") Pageable pageable) {
+        try {
+            return ResponseEntity.ok(PageResponse.from(frontdeskService.getBookings(status, pageable)));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    // Inventory needed by upcoming stays, per item and night
+    @GetMapping("/demand")
+    public ResponseEntity<List<ItemDemandDto>> getProjectedDemand(@RequestParam(defaultValue = "14") int days) {
+        try {
+            return ResponseEntity.ok(demandForecastService.projectDemand(days));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<FrontdeskDto> getBookingById(@PathVariable Long id) {
         try {
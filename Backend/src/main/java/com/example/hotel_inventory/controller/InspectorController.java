@@ -3,13 +3,26 @@ package com.example.hotel_inventory.controller;
 import com.example.hotel_inventory.dto.*;
 import com.example.hotel_inventory.dto.request.CreateInspectionRequest;
 import com.example.hotel_inventory.dto.request.CreateItemRequestRequest;
+import com.example.hotel_inventory.dto.request.InventoryItemFilter;
+import com.example.hotel_inventory.dto.request.SubmitInspectionRequest;
+import com.example.hotel_inventory.dto.request.SyncUploadRequest;
 import com.example.hotel_inventory.dto.response.ApiResponse;
+import com.example.hotel_inventory.dto.response.InspectorSyncResponse;
+import com.example.hotel_inventory.dto.response.PageResponse;
+import com.example.hotel_inventory.dto.response.SyncUploadResponse;
 import com.example.hotel_inventory.service.InspectorService;
+import com.example.hotel_inventory.service.InspectorSyncService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
@@ -22,6 +35,9 @@ public class InspectorController {
     @Autowired
     private InspectorService inspectorService;
 
+    @Autowired
+    private InspectorSyncService inspectorSyncService;
+
     // Item Request endpoints
     @PostMapping("/item-requests")
     public ResponseEntity<ItemRequestDto> createItemRequest(
@@ -53,6 +69,15 @@ public class InspectorController {
         return ResponseEntity.ok(result);
     }
 
+    // Header and all lines in one call, instead of create plus one call per line
+    @PostMapping("/inspections/submit")
+    public ResponseEntity<InspectionDto> submitInspection(
+            @Valid @RequestBody SubmitInspectionRequest request) {
+        Long inspectorId = 1L; // Default inspector for development
+        InspectionDto result = inspectorService.submitInspection(request, inspectorId);
+        return ResponseEntity.ok(result);
+    }
+
     @GetMapping("/inspections")
     public ResponseEntity<List<InspectionDto>> getMyInspections() {
         Long inspectorId = 1L; // Default inspector for development
@@ -60,6 +85,18 @@ public class InspectorController {
         return ResponseEntity.ok(inspections);
     }
 
+    @GetMapping("/inspections/page")
+    public ResponseEntity<PageResponse<InspectionDto>> getMyInspectionPage(
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        Long inspectorId = 1L; // Default inspector for development
+        return ResponseEntity.ok(PageResponse.from(inspectorService.getMyInspections(inspectorId, pageable)));
+    }
+
+    @GetMapping("/locations/{locationId}/inspections")
+    public ResponseEntity<List<InspectionDto>> getInspectionsAtLocation(@PathVariable Long locationId) {
+        return ResponseEntity.ok(inspectorService.getInspectionsAtLocation(locationId));
+    }
+
     @GetMapping("/inspections/{inspectionId}")
     public ResponseEntity<InspectionDto> getInspection(@PathVariable Long inspectionId) {
         InspectionDto inspection = inspectorService.getInspectionById(inspectionId);
@@ -84,7 +121,7 @@ public class InspectorController {
     @PostMapping("/inspections/{inspectionId}/items")
     public ResponseEntity<InspectionItemDto> addInspectionItem(
             @PathVariable Long inspectionId,
-            @RequestBody InspectionItemDto inspectionItemDto) {
+            @Valid @RequestBody InspectionItemDto inspectionItemDto) {
         InspectionItemDto result = inspectorService.addInspectionItem(inspectionId, inspectionItemDto);
         return ResponseEntity.ok(result);
     }
@@ -92,7 +129,7 @@ public class InspectorController {
     @PutMapping("/inspection-items/{inspectionItemId}")
     public ResponseEntity<InspectionItemDto> updateInspectionItem(
             @PathVariable Long inspectionItemId,
-            @RequestBody InspectionItemDto inspectionItemDto) {
+            @Validated(InspectionItemDto.Update.class) @RequestBody InspectionItemDto inspectionItemDto) {
         InspectionItemDto result = inspectorService.updateInspectionItem(inspectionItemId, inspectionItemDto);
         return ResponseEntity.ok(result);
     }
@@ -103,6 +140,19 @@ public class InspectorController {
         return ResponseEntity.ok().build();
     }
 
+    // Offline sync: inventory changes since the app's last version, and its queued uploads
+    @GetMapping("/sync")
+    public ResponseEntity<InspectorSyncResponse> pullChanges(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since) {
+        return ResponseEntity.ok(inspectorSyncService.pullChanges(since));
+    }
+
+    @PostMapping("/sync")
+    public ResponseEntity<SyncUploadResponse> pushChanges(@Valid @RequestBody SyncUploadRequest request) {
+        Long inspectorId = 1L; // Default inspector for development
+        return ResponseEntity.ok(inspectorSyncService.pushChanges(request, inspectorId));
+    }
+
     // Inventory view endpoints (read-only)
     @GetMapping("/inventory")
     public ResponseEntity<List<InventoryItemDto>> getAllInventoryItems() {
@@ -110,6 +160,13 @@ public class InspectorController {
         return ResponseEntity.ok(items);
     }
 
+    @GetMapping("/inventory/page")
+    public ResponseEntity<PageResponse<InventoryItemDto>> findInventoryItems(
+            @ModelAttribute InventoryItemFilter filter,
+            @PageableDefault(size = 50, sort = "id") Pageable pageable) {
+        return ResponseEntity.ok(PageResponse.from(inspectorService.findInventoryItems(filter, pageable)));
+    }
+
     @GetMapping("/inventory/{itemId}")
     public ResponseEntity<InventoryItemDto> getInventoryItem(@PathVariable Long itemId) {
         InventoryItemDto item = inspectorService.getInventoryItemById(itemId);
@@ -129,8 +186,9 @@ public class InspectorController {
     }
 
     @GetMapping("/inventory/search")
-    public ResponseEntity<List<InventoryItemDto>> searchInventoryItems(@RequestParam String searchTerm) {
-        List<InventoryItemDto> items = inspectorService.searchInventoryItems(searchTerm);
+    public ResponseEntity<List<InventoryItemDto>> searchInventoryItems(@RequestParam String searchTerm,
+                                                                       @RequestParam(defaultValue = "20") int limit) {
+        List<InventoryItemDto> items = inspectorService.searchInventoryItems(searchTerm, limit);
         return ResponseEntity.ok(items);
     }
 
@@ -2,15 +2,32 @@ package com.example.hotel_inventory.controller;
 
 import com.example.hotel_inventory.dto.InventoryItemDto;
 import com.example.hotel_inventory.dto.InventoryStats;
+import com.example.hotel_inventory.dto.StockTransactionDto;
 import com.example.hotel_inventory.dto.request.CreateInventoryItemRequest;
+import com.example.hotel_inventory.dto.request.InventoryItemFilter;
+import com.example.hotel_inventory.dto.response.CursorPage;
+import com.example.hotel_inventory.dto.response.PageResponse;
 import com.example.hotel_inventory.model.InventoryItem;
 import com.example.hotel_inventory.model.StockTransaction;
+import com.example.hotel_inventory.service.InventoryChangeStream;
 import com.example.hotel_inventory.service.InventoryService;
+import com.example.hotel_inventory.service.ReorderForecaster;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -18,18 +35,23 @@ import java.util.stream.Collectors;
 @RequestMapping("/api/inventory")
 @RequiredArgsConstructor
 public class InventoryController {
+    private static final int MAX_TRANSACTION_PAGE_SIZE = 200;
+
     private final InventoryService inventoryService;
+    private final InventoryChangeStream changeStream;
+    private final ReorderForecaster forecaster;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     public ResponseEntity<InventoryItemDto> addItem(@Valid @RequestBody CreateInventoryItemRequest request) {
         InventoryItem item = inventoryService.addItem(request);
-        return ResponseEntity.ok(InventoryItemDto.fromEntity(item));
+        return ResponseEntity.ok(toDto(item));
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<InventoryItemDto> updateItem(@PathVariable Long id, @Valid @RequestBody CreateInventoryItemRequest request) {
         InventoryItem item = inventoryService.updateItem(id, request);
-        return ResponseEntity.ok(InventoryItemDto.fromEntity(item));
+        return ResponseEntity.ok(toDto(item));
     }
 
     @DeleteMapping("/{id}")
@@ -41,21 +63,48 @@ public class InventoryController {
     @GetMapping("/{id}")
     public ResponseEntity<InventoryItemDto> getItem(@PathVariable Long id) {
         InventoryItem item = inventoryService.getItem(id);
-        return ResponseEntity.ok(InventoryItemDto.fromEntity(item));
+        return ResponseEntity.ok(toDto(item));
     }
 
     @GetMapping
     public ResponseEntity<List<InventoryItemDto>> getAllItems() {
         List<InventoryItemDto> items = inventoryService.getAllItems().stream()
-                .map(InventoryItemDto::fromEntity)
+                .map(this::toDto)
                 .collect(Collectors.toList());
         return ResponseEntity.ok(items);
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<PageResponse<InventoryItemDto>> findItems(
+            @ModelAttribute InventoryItemFilter filter,
+            @PageableDefault(size = 50, sort = "id") Pageable pageable) {
+        return ResponseEntity.ok(PageResponse.from(
+                inventoryService.findItems(filter, pageable).map(this::toDto)));
+    }
+
+    // Writes each row as it comes off the database cursor instead of building the whole list
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportItems(@ModelAttribute InventoryItemFilter filter) {
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.writeStartArray();
+                inventoryService.exportItems(filter, item -> {
+                    try {
+                        generator.writeObject(item);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
     @GetMapping("/low-stock")
     public ResponseEntity<List<InventoryItemDto>> getLowStockItems() {
         List<InventoryItemDto> items = inventoryService.getLowStockItems().stream()
-                .map(InventoryItemDto::fromEntity)
+                .map(this::toDto)
                 .collect(Collectors.toList());
         return ResponseEntity.ok(items);
     }
@@ -63,7 +112,7 @@ public class InventoryController {
     @GetMapping("/out-of-stock")
     public ResponseEntity<List<InventoryItemDto>> getOutOfStockItems() {
         List<InventoryItemDto> items = inventoryService.getOutOfStockItems().stream()
-                .map(InventoryItemDto::fromEntity)
+                .map(this::toDto)
                 .collect(Collectors.toList());
         return ResponseEntity.ok(items);
     }
@@ -78,8 +127,36 @@ public class InventoryController {
         return ResponseEntity.ok(inventoryService.getTransactionsForItem(itemId));
     }
 
+    @GetMapping("/{itemId}/transactions/page")
+    public ResponseEntity<CursorPage<StockTransactionDto>> getTransactionHistory(
+            @PathVariable Long itemId,
+            @RequestParam(required = false) StockTransaction.TransactionType type,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_TRANSACTION_PAGE_SIZE));
+        return ResponseEntity.ok(inventoryService.getTransactionHistory(itemId, type, from, to, cursor, pageSize));
+    }
+
     @GetMapping("/stats")
     public ResponseEntity<InventoryStats> getInventoryStats() {
         return ResponseEntity.ok(inventoryService.getInventoryStats());
     }
-} 
\ No newline at end of file
+
+    @PostMapping("/stats/rebuild")
+    public ResponseEntity<InventoryStats> rebuildInventoryStats() {
+        return ResponseEntity.ok(inventoryService.rebuildInventoryStats());
+    }
+
+    // Server-sent events: "snapshot" with the stats totals, then "changes" with changed items
+    // and stats deltas at most every 250 ms, or "resync" when the client fell too far behind
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges() {
+        return changeStream.subscribe();
+    }
+
+    private InventoryItemDto toDto(InventoryItem item) {
+        return InventoryItemDto.fromEntity(item, forecaster.forecastFor(item.getId()));
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.hotel_inventory.controller;
+
+import com.example.hotel_inventory.dto.LocationDto;
+import com.example.hotel_inventory.dto.ParLevelDto;
+import com.example.hotel_inventory.dto.request.CreateLocationRequest;
+import com.example.hotel_inventory.dto.request.ParLevelRequest;
+import com.example.hotel_inventory.service.LocationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import jakarta.validation.Valid;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/locations")
+@RequiredArgsConstructor
+public class LocationController {
+    private final LocationService locationService;
+
+    @PostMapping
+    public ResponseEntity<LocationDto> createLocation(@Valid @RequestBody CreateLocationRequest request) {
+        return ResponseEntity.ok(locationService.createLocation(request));
+    }
+
+    @GetMapping
+    public ResponseEntity<List<LocationDto>> getLocations(@RequestParam(required = false) String type) {
+        return ResponseEntity.ok(locationService.getLocations(type));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<LocationDto> getLocation(@PathVariable Long id) {
+        return ResponseEntity.ok(locationService.getLocation(id));
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<LocationDto> updateLocation(@PathVariable Long id, @Valid @RequestBody CreateLocationRequest request) {
+        return ResponseEntity.ok(locationService.updateLocation(id, request));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteLocation(@PathVariable Long id) {
+        locationService.deleteLocation(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/{id}/par-levels")
+    public ResponseEntity<List<ParLevelDto>> getParLevels(@PathVariable Long id) {
+        return ResponseEntity.ok(locationService.getParLevels(id));
+    }
+
+    // Replaces the whole set; an empty list clears it
+    @PutMapping("/{id}/par-levels")
+    public ResponseEntity<List<ParLevelDto>> replaceParLevels(@PathVariable Long id,
+                                                             @RequestBody List<ParLevelRequest> parLevels) {
+        return ResponseEntity.ok(locationService.replaceParLevels(id, parLevels));
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.hotel_inventory.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Units of one item removed from stock on one day, aggregated in the database.
+ */
+@Data
+@NoArgsConstructor
+public class DailyConsumption {
+    private Long itemId;
+    private LocalDate day;
+    private long quantity;
+
+    public DailyConsumption(Long itemId, LocalDate day, Long quantity) {
+        this.itemId = itemId;
+        this.day = day;
+        this.quantity = quantity != null ? quantity : 0L;
+    }
+}
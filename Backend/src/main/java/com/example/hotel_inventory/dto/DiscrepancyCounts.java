@@ -0,0 +1,48 @@
+package com.example.hotel_inventory.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Discrepancy counts for one dimension key, summed from rollup rows or line groups.
+ */
+@Data
+@NoArgsConstructor
+public class DiscrepancyCounts {
+    private String key;
+    private long lines;
+    private long shortLines;
+    private long shortUnits;
+    private long damagedLines;
+    private long missingLines;
+
+    public DiscrepancyCounts(String key) {
+        this.key = key;
+    }
+
+    public DiscrepancyCounts(String key, Long lines, Long shortLines, Long shortUnits,
+                             Long damagedLines, Long missingLines) {
+        this.key = key;
+        this.lines = lines != null ? lines : 0L;
+        this.shortLines = shortLines != null ? shortLines : 0L;
+        this.shortUnits = shortUnits != null ? shortUnits : 0L;
+        this.damagedLines = damagedLines != null ? damagedLines : 0L;
+        this.missingLines = missingLines != null ? missingLines : 0L;
+    }
+
+    public void add(InspectionLineGroup group) {
+        lines += group.getLines();
+        shortLines += group.getShortLines();
+        shortUnits += group.getShortUnits();
+        damagedLines += group.getDamagedLines();
+        missingLines += group.getMissingLines();
+    }
+
+    public void add(DiscrepancyCounts counts) {
+        lines += counts.getLines();
+        shortLines += counts.getShortLines();
+        shortUnits += counts.getShortUnits();
+        damagedLines += counts.getDamagedLines();
+        missingLines += counts.getMissingLines();
+    }
+}
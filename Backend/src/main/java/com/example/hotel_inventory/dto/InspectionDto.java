@@ -17,6 +17,7 @@ public class InspectionDto {
     private Long id;
     private Long inspectorId;
     private String inspectorName;
+    private Long locationId;
     private String locationType;
     private String locationIdentifier;
     private Inspection.InspectionStatus status;
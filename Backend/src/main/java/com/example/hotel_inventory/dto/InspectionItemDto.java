@@ -1,5 +1,10 @@
 package com.example.hotel_inventory.dto;
 
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import jakarta.validation.groups.Default;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -14,12 +19,30 @@ import java.time.LocalDateTime;
 public class InspectionItemDto {
     private Long id;
     private Long inspectionId;
+
+    // Not checked when a line is updated, which never changes its item
+    @NotNull(message = "Inventory item is required")
     private Long inventoryItemId;
+
     private String itemName;
+
+    // Blank until counted, for lines prefilled from par levels
+    @Min(value = 0, message = "Expected quantity cannot be negative", groups = {Default.class, Update.class})
     private Integer expectedQuantity;
+
+    @Min(value = 0, message = "Actual quantity cannot be negative", groups = {Default.class, Update.class})
     private Integer actualQuantity;
+
+    @Pattern(regexp = "GOOD|DAMAGED|MISSING", message = "Condition must be GOOD, DAMAGED or MISSING",
+            groups = {Default.class, Update.class})
     private String conditionStatus;
+
+    @Size(max = 255, message = "Notes cannot exceed 255 characters", groups = {Default.class, Update.class})
     private String notes;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+
+    // Validation group for changes to an existing line
+    public interface Update {
+    }
 }
@@ -0,0 +1,40 @@
+package com.example.hotel_inventory.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Lines of completed inspections grouped in the database by completion day, item,
+ * inspector and location, with their discrepancy counts.
+ */
+@Data
+@NoArgsConstructor
+public class InspectionLineGroup {
+    private LocalDate day;
+    private Long itemId;
+    private Long inspectorId;
+    private String locationType;
+    private String locationIdentifier;
+    private long lines;
+    private long shortLines;
+    private long shortUnits;
+    private long damagedLines;
+    private long missingLines;
+
+    public InspectionLineGroup(LocalDate day, Long itemId, Long inspectorId, String locationType,
+                               String locationIdentifier, Long lines, Long shortLines, Long shortUnits,
+                               Long damagedLines, Long missingLines) {
+        this.day = day;
+        this.itemId = itemId;
+        this.inspectorId = inspectorId;
+        this.locationType = locationType;
+        this.locationIdentifier = locationIdentifier;
+        this.lines = lines != null ? lines : 0L;
+        this.shortLines = shortLines != null ? shortLines : 0L;
+        this.shortUnits = shortUnits != null ? shortUnits : 0L;
+        this.damagedLines = damagedLines != null ? damagedLines : 0L;
+        this.missingLines = missingLines != null ? missingLines : 0L;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.hotel_inventory.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Per-category or per-supplier stock totals, produced by a GROUP BY query.
+ * groupId and groupName are null for items with no category/supplier.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class InventoryGroupSummary {
+    private Long groupId;
+    private String groupName;
+    private Long itemCount;
+    private Long totalQuantity;
+    private BigDecimal totalValue;
+}
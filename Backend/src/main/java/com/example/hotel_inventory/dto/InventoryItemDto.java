@@ -1,6 +1,7 @@
 package com.example.hotel_inventory.dto;
 
 import com.example.hotel_inventory.model.InventoryItem;
+import com.example.hotel_inventory.model.ItemForecast;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
@@ -32,6 +33,7 @@ public class InventoryItemDto {
     private LocalDateTime updatedAt;
     private UserDto createdBy;
     private UserDto updatedBy;
+    private ItemForecastDto forecast;
 
     public static InventoryItemDto fromEntity(InventoryItem item) {
         return InventoryItemDto.builder()
@@ -55,4 +57,10 @@ public class InventoryItemDto {
                 .updatedBy(item.getUpdatedBy() != null ? UserDto.fromEntity(item.getUpdatedBy()) : null)
                 .build();
     }
-} 
\ No newline at end of file
+
+    public static InventoryItemDto fromEntity(InventoryItem item, ItemForecast forecast) {
+        InventoryItemDto dto = fromEntity(item);
+        dto.setForecast(forecast != null ? ItemForecastDto.of(forecast, item.getQuantity()) : null);
+        return dto;
+    }
+}
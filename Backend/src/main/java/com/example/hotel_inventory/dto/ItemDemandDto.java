@@ -0,0 +1,34 @@
+package com.example.hotel_inventory.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Projected demand for one inventory item from upcoming bookings: units per night over the
+ * requested window, their total rounded up, and how far that exceeds the current quantity.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ItemDemandDto {
+    private Long itemId;
+    private String itemName;
+    private int currentQuantity;
+    private int totalDemand;
+    private int shortfall;
+    private List<DailyDemand> daily;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DailyDemand {
+        private LocalDate date;
+        private double quantity;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.hotel_inventory.dto;
+
+import com.example.hotel_inventory.model.ItemForecast;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * An item's consumption forecast. dailyUsage and reorderPoint are as of forecastDate;
+ * daysOfCover and reorderNeeded use the item's current quantity.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ItemForecastDto {
+    private double dailyUsage;
+    private int reorderPoint;
+    private Double daysOfCover;
+    private boolean reorderNeeded;
+    private LocalDate forecastDate;
+
+    public static ItemForecastDto of(ItemForecast forecast, int quantity) {
+        return ItemForecastDto.builder()
+                .dailyUsage(Math.round(forecast.getDailyUsage() * 100) / 100.0)
+                .reorderPoint(forecast.getReorderPoint())
+                .daysOfCover(daysOfCover(quantity, forecast.getDailyUsage()))
+                .reorderNeeded(quantity <= forecast.getReorderPoint())
+                .forecastDate(forecast.getForecastDate())
+                .build();
+    }
+
+    public static Double daysOfCover(int quantity, double dailyUsage) {
+        // Below this the item is effectively not being used
+        if (dailyUsage < 0.001) {
+            return null;
+        }
+        return Math.round(quantity / dailyUsage * 10) / 10.0;
+    }
+}
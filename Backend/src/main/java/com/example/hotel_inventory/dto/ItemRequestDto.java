@@ -19,6 +19,7 @@ public class ItemRequestDto {
     private Long inventoryItemId;
     private String itemName;
     private Integer requestedQuantity;
+    private Long locationId;
     private String locationType;
     private String locationIdentifier;
     private String reason;
@@ -0,0 +1,36 @@
+package com.example.hotel_inventory.dto;
+
+import com.example.hotel_inventory.model.Location;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LocationDto {
+    private Long id;
+    private String locationType;
+    private String identifier;
+    private String description;
+    // Only filled in when a single location is read
+    private List<ParLevelDto> parLevels;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static LocationDto fromEntity(Location location) {
+        return LocationDto.builder()
+                .id(location.getId())
+                .locationType(location.getLocationType())
+                .identifier(location.getIdentifier())
+                .description(location.getDescription())
+                .createdAt(location.getCreatedAt())
+                .updatedAt(location.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.hotel_inventory.dto;
+
+import com.example.hotel_inventory.model.ParLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ParLevelDto {
+    private Long id;
+    private Long itemId;
+    private String itemName;
+    private int parQuantity;
+
+    public static ParLevelDto fromEntity(ParLevel parLevel) {
+        return ParLevelDto.builder()
+                .id(parLevel.getId())
+                .itemId(parLevel.getItem().getId())
+                .itemName(parLevel.getItem().getName())
+                .parQuantity(parLevel.getParQuantity())
+                .build();
+    }
+}
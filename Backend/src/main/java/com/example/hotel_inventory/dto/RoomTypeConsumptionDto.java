@@ -0,0 +1,31 @@
+package com.example.hotel_inventory.dto;
+
+import com.example.hotel_inventory.model.RoomTypeConsumption;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RoomTypeConsumptionDto {
+    private Long id;
+    private String roomType;
+    private Long itemId;
+    private String itemName;
+    private double perRoomNight;
+    private double perGuestNight;
+
+    public static RoomTypeConsumptionDto fromEntity(RoomTypeConsumption template) {
+        return RoomTypeConsumptionDto.builder()
+                .id(template.getId())
+                .roomType(template.getRoomType())
+                .itemId(template.getItem().getId())
+                .itemName(template.getItem().getName())
+                .perRoomNight(template.getPerRoomNight())
+                .perGuestNight(template.getPerGuestNight())
+                .build();
+    }
+}
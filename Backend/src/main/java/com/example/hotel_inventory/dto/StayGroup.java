@@ -0,0 +1,28 @@
+package com.example.hotel_inventory.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Bookings of one room type that arrive and leave on the same days, aggregated in the
+ * database: how many rooms and how many guests.
+ */
+@Data
+@NoArgsConstructor
+public class StayGroup {
+    private String roomType;
+    private LocalDate arrival;
+    private LocalDate departure;
+    private long rooms;
+    private long guests;
+
+    public StayGroup(String roomType, LocalDate arrival, LocalDate departure, Long rooms, Long guests) {
+        this.roomType = roomType;
+        this.arrival = arrival;
+        this.departure = departure;
+        this.rooms = rooms != null ? rooms : 0L;
+        this.guests = guests != null ? guests : 0L;
+    }
+}
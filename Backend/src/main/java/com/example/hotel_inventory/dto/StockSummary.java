@@ -0,0 +1,26 @@
+package com.example.hotel_inventory.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Whole-table stock totals computed by a single aggregate query.
+ * SUM over an empty table yields null, so the constructor normalises to zero.
+ */
+@Data
+@NoArgsConstructor
+public class StockSummary {
+    private long totalItems;
+    private long lowStockItems;
+    private long outOfStockItems;
+    private BigDecimal totalValue;
+
+    public StockSummary(Long totalItems, Long lowStockItems, Long outOfStockItems, BigDecimal totalValue) {
+        this.totalItems = totalItems != null ? totalItems : 0L;
+        this.lowStockItems = lowStockItems != null ? lowStockItems : 0L;
+        this.outOfStockItems = outOfStockItems != null ? outOfStockItems : 0L;
+        this.totalValue = totalValue != null ? totalValue : BigDecimal.ZERO;
+    }
+}
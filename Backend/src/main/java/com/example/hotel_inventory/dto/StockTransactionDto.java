@@ -0,0 +1,42 @@
+package com.example.hotel_inventory.dto;
+
+import com.example.hotel_inventory.model.StockTransaction;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockTransactionDto {
+    private Long id;
+    private Long itemId;
+    private StockTransaction.TransactionType type;
+    private int quantity;
+    private int previousQuantity;
+    private int newQuantity;
+    private String reason;
+    private LocalDateTime transactionDate;
+    private Long performedById;
+    private String performedByName;
+
+    public static StockTransactionDto fromEntity(StockTransaction transaction) {
+        return StockTransactionDto.builder()
+                .id(transaction.getId())
+                .itemId(transaction.getItem().getId())
+                .type(transaction.getType())
+                .quantity(transaction.getQuantity())
+                .previousQuantity(transaction.getPreviousQuantity())
+                .newQuantity(transaction.getNewQuantity())
+                .reason(transaction.getReason())
+                .transactionDate(transaction.getTransactionDate())
+                .performedById(transaction.getPerformedBy() != null ? transaction.getPerformedBy().getId() : null)
+                .performedByName(transaction.getPerformedBy() != null ?
+                    transaction.getPerformedBy().getFirstName() + " " + transaction.getPerformedBy().getLastName() : null)
+                .build();
+    }
+}
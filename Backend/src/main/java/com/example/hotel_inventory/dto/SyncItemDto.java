@@ -0,0 +1,28 @@
+package com.example.hotel_inventory.dto;
+
+import com.example.hotel_inventory.model.InventoryItem;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * An inventory item as the inspector app keeps it offline: flat, with the category by id
+ * (the sync response carries the categories once), and without audit users or forecasts.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncItemDto {
+    private Long id;
+    private String name;
+    private Long categoryId;
+    private int quantity;
+    private int minQuantity;
+    private int maxQuantity;
+    private InventoryItem.ItemStatus status;
+    private String unitOfMeasurement;
+    private String condition;
+    private LocalDateTime updatedAt;
+}
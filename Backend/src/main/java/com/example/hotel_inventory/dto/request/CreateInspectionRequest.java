@@ -12,13 +12,21 @@ import jakarta.validation.constraints.*;
 @AllArgsConstructor
 @Builder
 public class CreateInspectionRequest {
-    
-    @NotBlank(message = "Location type is required")
+
+    // Its par levels become the inspection's lines; type and identifier are taken from it
+    private Long locationId;
+
     private String locationType;
-    
-    @NotBlank(message = "Location identifier is required")
+
     private String locationIdentifier;
     
     @Size(max = 1000, message = "Notes cannot exceed 1000 characters")
     private String notes;
+
+    // A known location, or a free-text type and identifier
+    @AssertTrue(message = "Location or location type and identifier are required")
+    public boolean isLocationGiven() {
+        return locationId != null
+                || (locationType != null && !locationType.isBlank() && locationIdentifier != null && !locationIdentifier.isBlank());
+    }
 }
@@ -20,12 +20,24 @@ public class CreateItemRequestRequest {
     @Min(value = 1, message = "Requested quantity must be at least 1")
     private Integer requestedQuantity;
     
-    @NotBlank(message = "Location type is required")
+    // Type and identifier are taken from the location when it is given
+    private Long locationId;
+
     private String locationType;
-    
-    @NotBlank(message = "Location identifier is required")
+
     private String locationIdentifier;
     
     @Size(max = 500, message = "Reason cannot exceed 500 characters")
     private String reason;
+
+    // Set by the inspector app for requests made offline; sending one again returns the stored request
+    @Size(max = 64, message = "Client reference cannot exceed 64 characters")
+    private String clientRef;
+
+    // A known location, or a free-text type and identifier
+    @AssertTrue(message = "Location or location type and identifier are required")
+    public boolean isLocationGiven() {
+        return locationId != null
+                || (locationType != null && !locationType.isBlank() && locationIdentifier != null && !locationIdentifier.isBlank());
+    }
 }
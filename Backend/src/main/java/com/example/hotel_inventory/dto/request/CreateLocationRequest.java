@@ -0,0 +1,24 @@
+package com.example.hotel_inventory.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CreateLocationRequest {
+
+    @NotBlank(message = "Location type is required")
+    private String locationType;
+
+    @NotBlank(message = "Identifier is required")
+    private String identifier;
+
+    @Size(max = 500, message = "Description cannot exceed 500 characters")
+    private String description;
+}
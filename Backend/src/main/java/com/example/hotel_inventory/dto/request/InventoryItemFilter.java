@@ -0,0 +1,26 @@
+package com.example.hotel_inventory.dto.request;
+
+import com.example.hotel_inventory.model.InventoryItem;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Optional listing filters, bound from query parameters. Null fields are ignored.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InventoryItemFilter {
+    private Long categoryId;
+    private Long supplierId;
+    private InventoryItem.ItemStatus status;
+    private Integer minQuantity;
+    private Integer maxQuantity;
+    private BigDecimal minPrice;
+    private BigDecimal maxPrice;
+}
@@ -0,0 +1,43 @@
+package com.example.hotel_inventory.dto.request;
+
+import com.example.hotel_inventory.model.InventoryItem;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * One row of a bulk inventory update. Only the fields that are set are changed.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InventoryItemUpdate {
+
+    @NotNull(message = "Item ID is required")
+    private Long id;
+
+    @Min(value = 0, message = "Quantity cannot be negative")
+    private Integer quantity;
+
+    @DecimalMin(value = "0", message = "Price cannot be negative")
+    private BigDecimal price;
+
+    private InventoryItem.ItemStatus status;
+
+    @Size(max = 500, message = "Reason cannot exceed 500 characters")
+    private String reason;
+
+    @AssertTrue(message = "Nothing to update")
+    public boolean isChangeGiven() {
+        return quantity != null || price != null || status != null;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.hotel_inventory.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.constraints.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ItemRequestDecision {
+
+    @NotNull(message = "Request ID is required")
+    private Long requestId;
+
+    @NotNull(message = "Action is required")
+    private Action action;
+
+    @Size(max = 255, message = "Notes cannot exceed 255 characters")
+    private String notes;
+
+    public enum Action {
+        APPROVE,
+        REJECT
+    }
+}
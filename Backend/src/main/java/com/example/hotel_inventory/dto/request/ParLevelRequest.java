@@ -0,0 +1,18 @@
+package com.example.hotel_inventory.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One entry of a location's par levels; the list sent replaces the location's par levels.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ParLevelRequest {
+    private Long itemId;
+    private int parQuantity;
+}
@@ -0,0 +1,30 @@
+package com.example.hotel_inventory.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Creates or replaces the template for a room type and item.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RoomTypeConsumptionRequest {
+    @NotBlank(message = "Room type is required")
+    private String roomType;
+
+    @NotNull(message = "Item is required")
+    private Long itemId;
+
+    @PositiveOrZero
+    private double perRoomNight;
+
+    @PositiveOrZero
+    private double perGuestNight;
+}
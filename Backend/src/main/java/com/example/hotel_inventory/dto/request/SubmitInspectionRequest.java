@@ -0,0 +1,60 @@
+package com.example.hotel_inventory.dto.request;
+
+import com.example.hotel_inventory.dto.InspectionItemDto;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A whole inspection in one call: the header, every line, and whether it is finished.
+ * Lines need inventoryItemId; their id and inspectionId are ignored.
+ *
+ * Inspections recorded offline carry the app's own clientRef, so uploading one again
+ * returns the stored inspection, and completedAt, when it was finished on the device.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SubmitInspectionRequest {
+
+    // Type and identifier are taken from the location when it is given
+    private Long locationId;
+
+    private String locationType;
+
+    private String locationIdentifier;
+
+    @Size(max = 1000, message = "Notes cannot exceed 1000 characters")
+    private String notes;
+
+    // Submit as COMPLETED rather than IN_PROGRESS
+    private boolean complete;
+
+    @Size(max = 64, message = "Client reference cannot exceed 64 characters")
+    private String clientRef;
+
+    // Defaults to now, and is never later than now
+    private LocalDateTime completedAt;
+
+    @Valid
+    @NotNull
+    @Builder.Default
+    private List<InspectionItemDto> items = new ArrayList<>();
+
+    // A known location, or a free-text type and identifier
+    @AssertTrue(message = "Location or location type and identifier are required")
+    public boolean isLocationGiven() {
+        return locationId != null
+                || (locationType != null && !locationType.isBlank() && locationIdentifier != null && !locationIdentifier.isBlank());
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.hotel_inventory.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Inspections and item requests the inspector app queued while offline. Every entry needs
+ * its clientRef. baseVersion is the sync version the app had when it queued them, so
+ * requests made against stock that has changed since can be reported as conflicts.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SyncUploadRequest {
+
+    private LocalDateTime baseVersion;
+
+    @Valid
+    @NotNull
+    @Size(max = 500, message = "Cannot upload more than 500 inspections at once")
+    @Builder.Default
+    private List<SubmitInspectionRequest> inspections = new ArrayList<>();
+
+    @Valid
+    @NotNull
+    @Size(max = 500, message = "Cannot upload more than 500 item requests at once")
+    @Builder.Default
+    private List<CreateItemRequestRequest> itemRequests = new ArrayList<>();
+}
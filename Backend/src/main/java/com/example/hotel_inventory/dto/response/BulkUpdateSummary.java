@@ -0,0 +1,34 @@
+package com.example.hotel_inventory.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Result of a bulk update. Only failed rows are listed, identified by their
+ * position in the request, so the response stays small for large batches.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkUpdateSummary {
+    private int requested;
+    private int updated;
+    private int unchanged;
+    private int failed;
+    private int stockTransactions;
+    private List<RowFailure> failures;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowFailure {
+        private int index;
+        private Long id;
+        private String message;
+    }
+}
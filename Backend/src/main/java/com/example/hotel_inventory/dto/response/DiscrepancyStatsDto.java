@@ -0,0 +1,27 @@
+package com.example.hotel_inventory.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Inspection discrepancies for one item, location type, location or inspector over the
+ * requested days. Rates are fractions of the inspected lines.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DiscrepancyStatsDto {
+    private String key;
+    private String label;
+    private long lines;
+    private long shortLines;
+    private long shortUnits;
+    private long damagedLines;
+    private long missingLines;
+    private double shortageRate;
+    private double damageRate;
+    private double missingRate;
+}
@@ -0,0 +1,26 @@
+package com.example.hotel_inventory.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * What one run of the forecast job did. fromDate is null when the forecasts were
+ * already up to date and no ledger rows were read.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ForecastRunSummary {
+    private LocalDate fromDate;
+    private LocalDate forecastDate;
+    private long ledgerRows;
+    private int itemsForecast;
+    private int itemsCreated;
+    private int itemsPruned;
+    private long elapsedMillis;
+}
@@ -0,0 +1,28 @@
+package com.example.hotel_inventory.dto.response;
+
+import com.example.hotel_inventory.dto.CategoryDto;
+import com.example.hotel_inventory.dto.SyncItemDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Inventory for the inspector app. When full, items holds every item and the app replaces
+ * what it has; otherwise items are the ones changed since the app's watermark and
+ * deletedItemIds the ones removed since. The app sends version back as its next watermark.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InspectorSyncResponse {
+    private LocalDateTime version;
+    private boolean full;
+    private List<CategoryDto> categories;
+    private List<SyncItemDto> items;
+    private List<Long> deletedItemIds;
+}
@@ -0,0 +1,56 @@
+package com.example.hotel_inventory.dto.response;
+
+import com.example.hotel_inventory.model.InventoryItem;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Payload of the inventory change stream. A "snapshot" or "resync" event carries the
+ * current stats totals only; a "changes" event carries the latest quantity and status
+ * of every item changed since the previous event and how each total moved.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class InventoryChangeEvent {
+    private List<ItemChange> items;
+    private Stats stats;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class ItemChange {
+        private Long id;
+        private Integer quantity;
+        private InventoryItem.ItemStatus status;
+        private Boolean removed;
+
+        public static ItemChange updated(Long id, int quantity, InventoryItem.ItemStatus status) {
+            return new ItemChange(id, quantity, status, null);
+        }
+
+        public static ItemChange removed(Long id) {
+            return new ItemChange(id, null, null, true);
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Stats {
+        private long totalItems;
+        private long lowStockItems;
+        private long outOfStockItems;
+        private BigDecimal totalValue;
+        private long totalTransactions;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.hotel_inventory.dto.response;
+
+import com.example.hotel_inventory.dto.ItemRequestDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one decision in a bulk approve/reject call. On failure request is
+ * null and message says why; the other decisions in the batch still apply.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ItemRequestDecisionResult {
+    private Long requestId;
+    private boolean success;
+    private String message;
+    private ItemRequestDto request;
+
+    public static ItemRequestDecisionResult failed(Long requestId, String message) {
+        return ItemRequestDecisionResult.builder()
+                .requestId(requestId)
+                .success(false)
+                .message(message)
+                .build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.hotel_inventory.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * What one run of the inspection rollup did. fromDate is null when the rollup was
+ * already up to date.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RollupRunSummary {
+    private LocalDate fromDate;
+    private LocalDate throughDate;
+    private long lineGroups;
+    private int rowsWritten;
+    private long elapsedMillis;
+}
@@ -0,0 +1,20 @@
+package com.example.hotel_inventory.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One result per uploaded entry, in the order they were sent.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SyncUploadResponse {
+    private List<SyncUploadResult> inspections;
+    private List<SyncUploadResult> itemRequests;
+}
@@ -0,0 +1,46 @@
+package com.example.hotel_inventory.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one queued upload, by the app's clientRef. CREATED and DUPLICATE carry the
+ * stored id, so the app can drop the entry from its queue either way. CONFLICT means the
+ * inventory changed underneath the entry and the inspector should review it; FAILED means
+ * it was rejected (message says why). Neither stores anything.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SyncUploadResult {
+    private String clientRef;
+    private Outcome outcome;
+    private Long id;
+    private String message;
+
+    public static SyncUploadResult of(String clientRef, Outcome outcome, Long id) {
+        return SyncUploadResult.builder()
+                .clientRef(clientRef)
+                .outcome(outcome)
+                .id(id)
+                .build();
+    }
+
+    public static SyncUploadResult rejected(String clientRef, Outcome outcome, String message) {
+        return SyncUploadResult.builder()
+                .clientRef(clientRef)
+                .outcome(outcome)
+                .message(message)
+                .build();
+    }
+
+    public enum Outcome {
+        CREATED,
+        DUPLICATE,
+        CONFLICT,
+        FAILED
+    }
+}
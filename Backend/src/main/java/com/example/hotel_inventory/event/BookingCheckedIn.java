@@ -0,0 +1,24 @@
+package com.example.hotel_inventory.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A booking moved to CHECKED_IN.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookingCheckedIn {
+    private Long bookingId;
+    private String roomNumber;
+    private String roomType;
+    private Integer numberOfGuests;
+    private LocalDateTime checkInDate;
+    private LocalDateTime expectedCheckOut;
+}
@@ -0,0 +1,18 @@
+package com.example.hotel_inventory.event;
+
+import java.util.List;
+
+/**
+ * Consumes one type of domain event from the outbox, a batch at a time.
+ *
+ * Handlers run on the outbox dispatcher thread inside its transaction, after the
+ * transaction that published the events has committed. Delivery is at least once:
+ * a batch is offered again if any handler in the same dispatch fails, so handlers
+ * must tolerate seeing an event twice.
+ */
+public interface DomainEventHandler<E> {
+
+    Class<E> eventType();
+
+    void handle(List<E> events);
+}
@@ -0,0 +1,23 @@
+package com.example.hotel_inventory.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * An inspector's item request was approved and its quantity taken from stock.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ItemRequestApproved {
+    private Long requestId;
+    private Long itemId;
+    private int quantity;
+    private String locationType;
+    private String locationIdentifier;
+    private Long inspectorId;
+    private Long approvedById;
+}
@@ -0,0 +1,24 @@
+package com.example.hotel_inventory.event;
+
+import com.example.hotel_inventory.model.StockTransaction;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * An item's quantity moved. One event per item per transaction, however many
+ * stock transactions produced the move.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockChanged {
+    private Long itemId;
+    private int previousQuantity;
+    private int newQuantity;
+    private int minQuantity;
+    private StockTransaction.TransactionType type;
+    private Long performedById;
+}
@@ -4,9 +4,12 @@ import lombok.Data;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
+import org.springframework.validation.method.ParameterErrors;
+import org.springframework.validation.method.ParameterValidationResult;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -33,7 +36,27 @@ public class GlobalExceptionHandler {
             String errorMessage = error.getDefaultMessage();
             errors.put(fieldName, errorMessage);
         });
+        return validationError(errors);
+    }
+
+    // Constraints on a handler's parameters or their elements, e.g. a @Size list of @Valid request bodies
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ResponseEntity<ValidationErrorResponse> handleMethodValidationExceptions(HandlerMethodValidationException ex) {
+        Map<String, String> errors = new HashMap<>();
+        for (ParameterValidationResult result : ex.getParameterValidationResults()) {
+            String parameter = result.getMethodParameter().getParameterName()
+                    + (result.getContainerIndex() != null ? "[" + result.getContainerIndex() + "]" : "");
+            if (result instanceof ParameterErrors parameterErrors) {
+                parameterErrors.getFieldErrors().forEach(error ->
+                        errors.put(parameter + "." + error.getField(), error.getDefaultMessage()));
+            } else {
+                result.getResolvableErrors().forEach(error -> errors.put(parameter, error.getDefaultMessage()));
+            }
+        }
+        return validationError(errors);
+    }
 
+    private ResponseEntity<ValidationErrorResponse> validationError(Map<String, String> errors) {
         ValidationErrorResponse error = new ValidationErrorResponse();
         error.setTimestamp(LocalDateTime.now());
         error.setStatus(HttpStatus.BAD_REQUEST.value());
@@ -5,14 +5,18 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "frontdesk")
+@Table(name = "frontdesk", indexes = {
+        // Upcoming stays for the demand projection
+        @Index(name = "idx_frontdesk_status_expected_out", columnList = "status, expected_check_out")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Frontdesk {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "frontdesk_seq")
+    @SequenceGenerator(name = "frontdesk_seq", sequenceName = "frontdesk_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "guest_name", nullable = false)
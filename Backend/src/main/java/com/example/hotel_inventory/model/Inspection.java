@@ -2,11 +2,25 @@ package com.example.hotel_inventory.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "inspections")
+@Table(name = "inspections", uniqueConstraints = {
+        // One inspection per device-generated reference, so a re-sent upload is not stored twice
+        @UniqueConstraint(name = "uk_inspections_inspector_client_ref", columnNames = {"inspector_id", "client_ref"})
+}, indexes = {
+        // An inspector's inspections, newest first
+        @Index(name = "idx_inspections_inspector_created", columnList = "inspector_id, created_at"),
+        // A location's inspections, newest first
+        @Index(name = "idx_inspections_location_created", columnList = "location_id, created_at"),
+        // Covers the inspection side of the discrepancy rollup
+        @Index(name = "idx_inspections_completed", columnList =
+                "status, completed_at, inspector_id, location_type, location_identifier")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -16,7 +30,7 @@ public class Inspection {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "inspector_id", nullable = false)
     private User inspector;
 
@@ -26,6 +40,12 @@ public class Inspection {
     @Column(name = "location_identifier", nullable = false)
     private String locationIdentifier;
 
+    // The Location inspected, when it is a known one; locationType and locationIdentifier are copied from it
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "location_id")
+    @OnDelete(action = OnDeleteAction.SET_NULL)
+    private Location location;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false)
     @Builder.Default
@@ -34,6 +54,10 @@ public class Inspection {
     @Column(name = "notes", length = 1000)
     private String notes;
 
+    // Set by the inspector app for inspections recorded offline (see InspectorSyncService)
+    @Column(name = "client_ref", length = 64)
+    private String clientRef;
+
     @Column(name = "started_at")
     private LocalDateTime startedAt;
 
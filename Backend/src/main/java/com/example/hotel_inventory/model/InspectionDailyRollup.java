@@ -0,0 +1,64 @@
+package com.example.hotel_inventory.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDate;
+
+/**
+ * Inspection line counts of completed inspections for one day, summed per item, location
+ * type, location or inspector (dimensionKey: the item or inspector id, the location type,
+ * or "type/identifier"). The ALL row of a day holds the day's totals and is written even
+ * when nothing was inspected, so the latest ALL day marks how far the rollup has got.
+ */
+@Entity
+@Table(name = "inspection_daily_rollups", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_inspection_rollups_day_key", columnNames = {"rollup_day", "dimension", "dimension_key"})
+}, indexes = {
+        // Covers the discrepancy report: a dimension's rows over a range of days
+        @Index(name = "idx_inspection_rollups_report", columnList =
+                "dimension, rollup_day, dimension_key, line_count, short_lines, short_units, damaged_lines, missing_lines")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InspectionDailyRollup {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "inspection_daily_rollups_seq")
+    @SequenceGenerator(name = "inspection_daily_rollups_seq", sequenceName = "inspection_daily_rollups_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "rollup_day", nullable = false)
+    private LocalDate day;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Dimension dimension;
+
+    @Column(name = "dimension_key", nullable = false, length = 500)
+    private String dimensionKey;
+
+    @Column(name = "line_count", nullable = false)
+    private long lines;
+
+    // Lines whose actual quantity is below the expected one, and by how many units in total
+    @Column(name = "short_lines", nullable = false)
+    private long shortLines;
+
+    @Column(name = "short_units", nullable = false)
+    private long shortUnits;
+
+    @Column(name = "damaged_lines", nullable = false)
+    private long damagedLines;
+
+    @Column(name = "missing_lines", nullable = false)
+    private long missingLines;
+
+    public enum Dimension {
+        ALL,
+        ITEM,
+        LOCATION_TYPE,
+        LOCATION,
+        INSPECTOR
+    }
+}
@@ -5,21 +5,26 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "inspection_items")
+@Table(name = "inspection_items", indexes = {
+        // Also covers the line side of the discrepancy rollup
+        @Index(name = "idx_inspection_items_inspection", columnList =
+                "inspection_id, inventory_item_id, expected_quantity, actual_quantity, condition_status")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class InspectionItem {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "inspection_items_seq")
+    @SequenceGenerator(name = "inspection_items_seq", sequenceName = "inspection_items_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "inspection_id", nullable = false)
     private Inspection inspection;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "inventory_item_id", nullable = false)
     private InventoryItem inventoryItem;
 
@@ -6,14 +6,29 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "inventory_items")
+@NamedEntityGraph(name = "InventoryItem.references", attributeNodes = {
+        @NamedAttributeNode("category"),
+        @NamedAttributeNode("supplier"),
+        @NamedAttributeNode("createdBy"),
+        @NamedAttributeNode("updatedBy")
+})
+@Table(name = "inventory_items", indexes = {
+        // Covering indexes so the category/supplier reports never touch the base rows
+        @Index(name = "idx_inventory_items_category_stock", columnList = "category_id, quantity, price"),
+        @Index(name = "idx_inventory_items_supplier_stock", columnList = "supplier_id, quantity, price"),
+        // Low-stock and out-of-stock listings and counts are status lookups
+        @Index(name = "idx_inventory_items_status", columnList = "status"),
+        // Inspector sync reads the items changed since a client's watermark
+        @Index(name = "idx_inventory_items_updated_at", columnList = "updated_at")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class InventoryItem {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "inventory_items_seq")
+    @SequenceGenerator(name = "inventory_items_seq", sequenceName = "inventory_items_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -80,14 +95,35 @@ public class InventoryItem {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
-        if (status == null) {
-            status = ItemStatus.IN_STOCK;
-        }
+        refreshStatus();
     }
 
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
+        refreshStatus();
+    }
+
+    // Status follows quantity and minQuantity (see ItemStatus.forStock), so every
+    // mutation of either goes through these setters
+
+    public void setQuantity(int quantity) {
+        this.quantity = quantity;
+        refreshStatus();
+    }
+
+    public void setMinQuantity(int minQuantity) {
+        this.minQuantity = minQuantity;
+        refreshStatus();
+    }
+
+    public void setStatus(ItemStatus status) {
+        this.status = status;
+        refreshStatus();
+    }
+
+    private void refreshStatus() {
+        status = ItemStatus.forStock(quantity, minQuantity, status);
     }
 
     public int getCurrentStock() {
@@ -106,6 +142,21 @@ public class InventoryItem {
         IN_STOCK,
         LOW_STOCK,
         OUT_OF_STOCK,
-        DISCONTINUED
+        DISCONTINUED;
+
+        /**
+         * The status an item with this stock should have. DISCONTINUED is only set and cleared
+         * by hand; any other status is derived: OUT_OF_STOCK at zero, LOW_STOCK at or below the
+         * minimum, IN_STOCK above it. The UPDATEs in InventoryItemRepository use the same rule.
+         */
+        public static ItemStatus forStock(int quantity, int minQuantity, ItemStatus current) {
+            if (current == DISCONTINUED) {
+                return DISCONTINUED;
+            }
+            if (quantity == 0) {
+                return OUT_OF_STOCK;
+            }
+            return quantity <= minQuantity ? LOW_STOCK : IN_STOCK;
+        }
     }
 } 
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.example.hotel_inventory.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * Marks a deleted inventory item, so inspector apps syncing changes since a watermark
+ * learn to drop it. Keyed by the item's id, which is never reused.
+ */
+@Entity
+@Table(name = "inventory_item_tombstones", indexes = {
+        @Index(name = "idx_inventory_item_tombstones_deleted", columnList = "deleted_at, item_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InventoryItemTombstone {
+    @Id
+    @Column(name = "item_id")
+    private Long itemId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+}
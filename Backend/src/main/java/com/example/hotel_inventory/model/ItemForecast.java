@@ -0,0 +1,51 @@
+package com.example.hotel_inventory.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Consumption forecast for one inventory item, maintained by the nightly forecast job.
+ *
+ * dailyUsage and dailyUsageVariance are exponentially weighted over the units removed
+ * per day up to and including forecastDate. They are all the job needs to carry on from
+ * the next day, so the ledger before forecastDate is never read again.
+ */
+@Entity
+@Table(name = "item_forecasts")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ItemForecast {
+    // The inventory item's id. No foreign key: items can be deleted freely and the job prunes their rows
+    @Id
+    @Column(name = "item_id")
+    private Long itemId;
+
+    @Column(name = "daily_usage", nullable = false)
+    private double dailyUsage;
+
+    @Column(name = "daily_usage_variance", nullable = false)
+    private double dailyUsageVariance;
+
+    @Column(name = "reorder_point", nullable = false)
+    private int reorderPoint;
+
+    // At the item's quantity when the run wrote the row; null while the item has no usage
+    @Column(name = "days_of_cover")
+    private Double daysOfCover;
+
+    @Column(name = "forecast_date", nullable = false)
+    private LocalDate forecastDate;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+}
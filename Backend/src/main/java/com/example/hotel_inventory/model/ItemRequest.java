@@ -2,17 +2,26 @@ package com.example.hotel_inventory.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "item_requests")
+@Table(name = "item_requests", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_item_requests_inspector_client_ref", columnNames = {"inspector_id", "client_ref"})
+}, indexes = {
+        // A location's requests, newest first
+        @Index(name = "idx_item_requests_location_created", columnList = "location_id, created_at")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class ItemRequest {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "item_requests_seq")
+    @SequenceGenerator(name = "item_requests_seq", sequenceName = "item_requests_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne
@@ -32,9 +41,19 @@ public class ItemRequest {
     @Column(name = "location_identifier")
     private String locationIdentifier; // Room number, Kitchen section, etc.
 
+    // The Location the request is for, when it is a known one; locationType and locationIdentifier are copied from it
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "location_id")
+    @OnDelete(action = OnDeleteAction.SET_NULL)
+    private Location location;
+
     @Column(name = "reason", length = 500)
     private String reason;
 
+    // Set by the inspector app for requests made offline (see InspectorSyncService)
+    @Column(name = "client_ref", length = 64)
+    private String clientRef;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false)
     @Builder.Default
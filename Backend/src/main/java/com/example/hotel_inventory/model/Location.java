@@ -0,0 +1,51 @@
+package com.example.hotel_inventory.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * A place that is stocked and inspected, e.g. ROOM 101 or KITCHEN Pastry. Its par levels
+ * say how much of each item it should hold. Inspections and item requests refer to it by
+ * id and keep a copy of its type and identifier.
+ */
+@Entity
+@Table(name = "locations", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_locations_type_identifier", columnNames = {"location_type", "identifier"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Location {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "locations_seq")
+    @SequenceGenerator(name = "locations_seq", sequenceName = "locations_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "location_type", nullable = false)
+    private String locationType; // ROOM, KITCHEN, OFFICE, etc.
+
+    @Column(nullable = false)
+    private String identifier; // Room number, Kitchen section, etc.
+
+    @Column(length = 500)
+    private String description;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.hotel_inventory.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * How many of one inventory item a location should hold, e.g. 4 towels in ROOM 101.
+ * New inspections of the location start with one line per par level, expecting this quantity.
+ */
+@Entity
+@Table(name = "par_levels", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_par_levels_location_item", columnNames = {"location_id", "item_id"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ParLevel {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "par_levels_seq")
+    @SequenceGenerator(name = "par_levels_seq", sequenceName = "par_levels_seq", allocationSize = 50)
+    private Long id;
+
+    // Par levels go with their location and with their item
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "location_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Location location;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "item_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private InventoryItem item;
+
+    @Column(name = "par_quantity", nullable = false)
+    private int parQuantity;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
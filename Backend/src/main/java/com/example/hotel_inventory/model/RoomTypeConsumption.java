@@ -0,0 +1,60 @@
+package com.example.hotel_inventory.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * Consumption template: how much of one inventory item a night in a room of the given
+ * type uses, per room (e.g. a set of sheets) and per guest (e.g. towels, toiletries).
+ * roomType matches Frontdesk.roomType.
+ */
+@Entity
+@Table(name = "room_type_consumption", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_room_type_consumption_type_item", columnNames = {"room_type", "item_id"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RoomTypeConsumption {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "room_type_consumption_seq")
+    @SequenceGenerator(name = "room_type_consumption_seq", sequenceName = "room_type_consumption_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "room_type", nullable = false)
+    private String roomType;
+
+    // Templates go with their item
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "item_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private InventoryItem item;
+
+    @Column(name = "per_room_night", nullable = false)
+    private double perRoomNight;
+
+    @Column(name = "per_guest_night", nullable = false)
+    private double perGuestNight;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -5,14 +5,19 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "stock_transactions")
+@Table(name = "stock_transactions", indexes = {
+        @Index(name = "idx_stock_tx_item_date", columnList = "item_id, transaction_date"),
+        // Covers the forecast job's per-day consumption query
+        @Index(name = "idx_stock_tx_type_date", columnList = "type, transaction_date, item_id, quantity")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class StockTransaction {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "stock_transactions_seq")
+    @SequenceGenerator(name = "stock_transactions_seq", sequenceName = "stock_transactions_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
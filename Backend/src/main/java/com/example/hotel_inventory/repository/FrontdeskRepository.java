@@ -1,12 +1,16 @@
 package com.example.hotel_inventory.repository;
 
+import com.example.hotel_inventory.dto.StayGroup;
 import com.example.hotel_inventory.model.Frontdesk;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +19,8 @@ public interface FrontdeskRepository extends JpaRepository<Frontdesk, Long> {
     
     List<Frontdesk> findByStatus(Frontdesk.BookingStatus status);
     
+    Page<Frontdesk> findByStatus(Frontdesk.BookingStatus status, Pageable pageable);
+    
     List<Frontdesk> findByRoomNumber(String roomNumber);
     
     Optional<Frontdesk> findByRoomNumberAndStatus(String roomNumber, Frontdesk.BookingStatus status);
@@ -38,4 +44,17 @@ public interface FrontdeskRepository extends JpaRepository<Frontdesk, Long> {
     
     @Query("SELECT f FROM Frontdesk f WHERE f.roomNumber = :roomNumber AND f.status IN ('RESERVED', 'CHECKED_IN')")
     List<Frontdesk> findActiveBookingsByRoom(@Param("roomNumber") String roomNumber);
+
+    // Stays overlapping [from, to), one row per room type, arrival day and departure day.
+    // A checked-in stay starts at its actual check-in, a reservation at its expected one.
+    @Query("SELECT new com.example.hotel_inventory.dto.StayGroup(f.roomType, " +
+           "EXTRACT(DATE FROM COALESCE(f.checkInDate, f.expectedCheckIn)), EXTRACT(DATE FROM f.expectedCheckOut), " +
+           "COUNT(f), SUM(COALESCE(f.numberOfGuests, 1))) " +
+           "FROM Frontdesk f WHERE f.status IN :statuses AND f.roomType IS NOT NULL " +
+           "AND f.expectedCheckOut > :from AND COALESCE(f.checkInDate, f.expectedCheckIn) < :to " +
+           "GROUP BY f.roomType, EXTRACT(DATE FROM COALESCE(f.checkInDate, f.expectedCheckIn)), " +
+           "EXTRACT(DATE FROM f.expectedCheckOut)")
+    List<StayGroup> summarizeStays(@Param("statuses") Collection<Frontdesk.BookingStatus> statuses,
+                                   @Param("from") LocalDateTime from,
+                                   @Param("to") LocalDateTime to);
 }
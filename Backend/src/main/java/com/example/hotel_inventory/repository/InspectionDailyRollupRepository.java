@@ -0,0 +1,33 @@
+package com.example.hotel_inventory.repository;
+
+import com.example.hotel_inventory.dto.DiscrepancyCounts;
+import com.example.hotel_inventory.model.InspectionDailyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface InspectionDailyRollupRepository extends JpaRepository<InspectionDailyRollup, Long> {
+
+    // The last day rolled up; every day up to it has an ALL row
+    @Query("SELECT MAX(r.day) FROM InspectionDailyRollup r " +
+           "WHERE r.dimension = com.example.hotel_inventory.model.InspectionDailyRollup.Dimension.ALL")
+    LocalDate findLatestDay();
+
+    @Modifying
+    @Query("DELETE FROM InspectionDailyRollup r WHERE r.day BETWEEN :from AND :to")
+    int deleteByDayBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("SELECT new com.example.hotel_inventory.dto.DiscrepancyCounts(r.dimensionKey, SUM(r.lines), " +
+           "SUM(r.shortLines), SUM(r.shortUnits), SUM(r.damagedLines), SUM(r.missingLines)) " +
+           "FROM InspectionDailyRollup r WHERE r.dimension = :dimension AND r.day BETWEEN :from AND :to " +
+           "GROUP BY r.dimensionKey")
+    List<DiscrepancyCounts> sumByKey(@Param("dimension") InspectionDailyRollup.Dimension dimension,
+                                     @Param("from") LocalDate from,
+                                     @Param("to") LocalDate to);
+}
@@ -1,16 +1,44 @@
 package com.example.hotel_inventory.repository;
 
+import com.example.hotel_inventory.dto.InspectionLineGroup;
 import com.example.hotel_inventory.model.InspectionItem;
 import com.example.hotel_inventory.model.Inspection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface InspectionItemRepository extends JpaRepository<InspectionItem, Long> {
     
     List<InspectionItem> findByInspection(Inspection inspection);
+
+    // Lines of several inspections at once, with the inventory item each refers to
+    @Query("SELECT ii FROM InspectionItem ii JOIN FETCH ii.inventoryItem " +
+           "WHERE ii.inspection.id IN :inspectionIds ORDER BY ii.id")
+    List<InspectionItem> findWithInventoryItemByInspectionIdIn(@Param("inspectionIds") Collection<Long> inspectionIds);
     
     List<InspectionItem> findByConditionStatus(String conditionStatus);
+
+    // Recorded lines of inspections completed in [from, to), grouped by completion day, item, inspector and
+    // location; lines prefilled from par levels and left blank are not counted. A line is short when its
+    // actual quantity is below the expected one.
+    @Query("SELECT new com.example.hotel_inventory.dto.InspectionLineGroup(EXTRACT(DATE FROM i.completedAt), " +
+           "ii.inventoryItem.id, i.inspector.id, i.locationType, i.locationIdentifier, COUNT(ii), " +
+           "SUM(CASE WHEN ii.actualQuantity < ii.expectedQuantity THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN ii.actualQuantity < ii.expectedQuantity THEN ii.expectedQuantity - ii.actualQuantity ELSE 0 END), " +
+           "SUM(CASE WHEN ii.conditionStatus = 'DAMAGED' THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN ii.conditionStatus = 'MISSING' THEN 1 ELSE 0 END)) " +
+           "FROM InspectionItem ii JOIN ii.inspection i " +
+           "WHERE i.status = com.example.hotel_inventory.model.Inspection.InspectionStatus.COMPLETED " +
+           "AND i.completedAt >= :from AND i.completedAt < :to " +
+           "AND (ii.actualQuantity IS NOT NULL OR ii.conditionStatus IS NOT NULL) " +
+           "GROUP BY EXTRACT(DATE FROM i.completedAt), ii.inventoryItem.id, i.inspector.id, " +
+           "i.locationType, i.locationIdentifier")
+    List<InspectionLineGroup> summarizeCompletedLines(@Param("from") LocalDateTime from,
+                                                      @Param("to") LocalDateTime to);
 }
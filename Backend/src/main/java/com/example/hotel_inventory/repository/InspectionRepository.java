@@ -1,23 +1,51 @@
 package com.example.hotel_inventory.repository;
 
 import com.example.hotel_inventory.model.Inspection;
+import com.example.hotel_inventory.model.Location;
 import com.example.hotel_inventory.model.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface InspectionRepository extends JpaRepository<Inspection, Long> {
     
     List<Inspection> findByInspectorOrderByCreatedAtDesc(User inspector);
+
+    @EntityGraph(attributePaths = "inspector")
+    List<Inspection> findByInspectorIdOrderByCreatedAtDesc(Long inspectorId);
+
+    @EntityGraph(attributePaths = "inspector")
+    Page<Inspection> findByInspectorId(Long inspectorId, Pageable pageable);
+
+    @EntityGraph(attributePaths = "inspector")
+    @Query("SELECT i FROM Inspection i WHERE i.id = :id")
+    Optional<Inspection> findWithInspectorById(@Param("id") Long id);
     
+    // Inspections an inspector already uploaded under these client references
+    @EntityGraph(attributePaths = "inspector")
+    List<Inspection> findByInspectorIdAndClientRefIn(Long inspectorId, Collection<String> clientRefs);
+
     List<Inspection> findByStatusOrderByCreatedAtDesc(Inspection.InspectionStatus status);
     
-    List<Inspection> findByLocationTypeAndLocationIdentifier(String locationType, String locationIdentifier);
+    @EntityGraph(attributePaths = "inspector")
+    List<Inspection> findByLocationIdOrderByCreatedAtDesc(Long locationId);
+
+    // Links the inspections recorded under a location's type and identifier before it was known
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Inspection i SET i.location = :location WHERE i.location IS NULL " +
+           "AND i.locationType = :#{#location.locationType} AND i.locationIdentifier = :#{#location.identifier}")
+    int linkUnlinkedTo(@Param("location") Location location);
     
     @Query("SELECT i FROM Inspection i WHERE i.inspector = :inspector AND i.status = :status")
     List<Inspection> findByInspectorAndStatus(@Param("inspector") User inspector, 
@@ -26,4 +54,8 @@ public interface InspectionRepository extends JpaRepository<Inspection, Long> {
     @Query("SELECT i FROM Inspection i WHERE i.createdAt BETWEEN :startDate AND :endDate")
     List<Inspection> findByCreatedAtBetween(@Param("startDate") LocalDateTime startDate, 
                                             @Param("endDate") LocalDateTime endDate);
+
+    @Query("SELECT MIN(i.completedAt) FROM Inspection i " +
+           "WHERE i.status = com.example.hotel_inventory.model.Inspection.InspectionStatus.COMPLETED")
+    LocalDateTime findEarliestCompletedAt();
 }
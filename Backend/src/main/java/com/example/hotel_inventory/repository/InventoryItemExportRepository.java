@@ -0,0 +1,14 @@
+package com.example.hotel_inventory.repository;
+
+import com.example.hotel_inventory.model.InventoryItem;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.stream.Stream;
+
+/**
+ * Cursor-backed streaming reads for large exports. The stream must be consumed
+ * and closed inside a transaction.
+ */
+public interface InventoryItemExportRepository {
+    Stream<InventoryItem> streamAll(Specification<InventoryItem> specification);
+}
@@ -0,0 +1,40 @@
+package com.example.hotel_inventory.repository;
+
+import com.example.hotel_inventory.model.InventoryItem;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class InventoryItemExportRepositoryImpl implements InventoryItemExportRepository {
+
+    // Rows pulled per round trip; MySQL honours this only with useCursorFetch=true
+    private static final int FETCH_SIZE = 500;
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Stream<InventoryItem> streamAll(Specification<InventoryItem> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<InventoryItem> query = cb.createQuery(InventoryItem.class);
+        Root<InventoryItem> root = query.from(InventoryItem.class);
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(cb.asc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setHint(AvailableHints.HINT_FETCH_SIZE, FETCH_SIZE)
+                .setHint(AvailableHints.HINT_READ_ONLY, true)
+                .setHint(AvailableHints.HINT_SPEC_FETCH_GRAPH, entityManager.getEntityGraph("InventoryItem.references"))
+                .getResultStream();
+    }
+}
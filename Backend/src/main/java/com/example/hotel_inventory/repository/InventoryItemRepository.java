@@ -1,30 +1,72 @@
 package com.example.hotel_inventory.repository;
 
+import com.example.hotel_inventory.dto.InventoryGroupSummary;
+import com.example.hotel_inventory.dto.StockSummary;
+import com.example.hotel_inventory.dto.SyncItemDto;
 import com.example.hotel_inventory.model.InventoryItem;
+import com.example.hotel_inventory.model.User;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
-public interface InventoryItemRepository extends JpaRepository<InventoryItem, Long> {
+public interface InventoryItemRepository extends JpaRepository<InventoryItem, Long>,
+        JpaSpecificationExecutor<InventoryItem>, InventoryItemExportRepository {
+    
+    // The finders below that feed DTO listings load category, supplier, createdBy and
+    // updatedBy in the same query (InventoryItem.references graph) instead of one lazy
+    // load per row and reference.
+
+    // Find all items with their references
+    @EntityGraph("InventoryItem.references")
+    @Query("SELECT i FROM InventoryItem i")
+    List<InventoryItem> findAllWithReferences();
+
+    // Filtered, sorted page of items with their references
+    @Override
+    @EntityGraph("InventoryItem.references")
+    Page<InventoryItem> findAll(Specification<InventoryItem> specification, Pageable pageable);
+
+    // Find one item with its references
+    @EntityGraph("InventoryItem.references")
+    Optional<InventoryItem> findWithReferencesById(Long id);
     
     // Find by Category
+    @EntityGraph("InventoryItem.references")
     List<InventoryItem> findByCategoryId(Long categoryId);
     
     // Find by Supplier
+    @EntityGraph("InventoryItem.references")
     List<InventoryItem> findBySupplierId(Long supplierId);
     
     // Find by Status
+    @EntityGraph("InventoryItem.references")
     List<InventoryItem> findByStatus(InventoryItem.ItemStatus status);
     
-    // Search by name or description (case insensitive)
-    List<InventoryItem> findByNameContainingIgnoreCaseOrDescriptionContainingIgnoreCase(
-            String name, String description);
-    
-    // Find low stock items
-    @Query("SELECT i FROM InventoryItem i WHERE i.quantity <= i.minQuantity")
-    List<InventoryItem> findByQuantityLessThanOrEqualToMinQuantity();
+    // Find items by id with their references (search results)
+    @EntityGraph("InventoryItem.references")
+    List<InventoryItem> findWithReferencesByIdIn(Collection<Long> ids);
+
+    // Id and quantity of every item (used by the forecast job)
+    @Query("SELECT i.id AS id, i.quantity AS quantity FROM InventoryItem i")
+    List<ItemQuantity> findAllQuantities();
+
+    // Just the searchable text of every item (used to rebuild the in-memory search index)
+    @Query("SELECT i.id AS id, i.name AS name, i.description AS description FROM InventoryItem i")
+    List<SearchableText> findAllSearchableText();
     
     // Find out of stock items
     List<InventoryItem> findByQuantity(int quantity);
@@ -40,10 +82,107 @@ public interface InventoryItemRepository extends JpaRepository<InventoryItem, Lo
     // Find items created by specific user
     List<InventoryItem> findByCreatedById(Long userId);
     
-    // Find items with stock alerts (quantity <= minimum stock)
-    @Query("SELECT i FROM InventoryItem i WHERE i.status = 'LOW_STOCK' OR i.quantity <= i.minQuantity ORDER BY i.quantity ASC")
+    // Find items with stock alerts (at or below their minimum quantity), lowest stock first
+    @EntityGraph("InventoryItem.references")
+    @Query("SELECT i FROM InventoryItem i WHERE i.status IN (" +
+           "com.example.hotel_inventory.model.InventoryItem.ItemStatus.LOW_STOCK, " +
+           "com.example.hotel_inventory.model.InventoryItem.ItemStatus.OUT_OF_STOCK) " +
+           "ORDER BY i.quantity ASC")
     List<InventoryItem> findItemsWithStockAlerts();
     
     // Count items by status
     long countByStatus(InventoryItem.ItemStatus status);
+
+    // Atomically take stock from an item. The WHERE clause is the stock check, so concurrent
+    // callers cannot oversell; returns 0 when there is not enough left. Status is assigned
+    // first because MySQL evaluates SET assignments left to right; the CASE is
+    // InventoryItem.ItemStatus.forStock.
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE InventoryItem i SET " +
+           "i.status = CASE WHEN i.status = com.example.hotel_inventory.model.InventoryItem.ItemStatus.DISCONTINUED " +
+           "THEN i.status " +
+           "WHEN i.quantity - :amount = 0 " +
+           "THEN com.example.hotel_inventory.model.InventoryItem.ItemStatus.OUT_OF_STOCK " +
+           "WHEN i.quantity - :amount <= i.minQuantity " +
+           "THEN com.example.hotel_inventory.model.InventoryItem.ItemStatus.LOW_STOCK " +
+           "ELSE com.example.hotel_inventory.model.InventoryItem.ItemStatus.IN_STOCK END, " +
+           "i.quantity = i.quantity - :amount, " +
+           "i.updatedBy = :updatedBy, " +
+           "i.updatedAt = LOCAL DATETIME " +
+           "WHERE i.id = :id AND i.quantity >= :amount")
+    int decrementStock(@Param("id") Long id, @Param("amount") int amount, @Param("updatedBy") User updatedBy);
+
+    // Brings every item's status in line with InventoryItem.ItemStatus.forStock, writing only
+    // the rows that are out of line (rows from before status was maintained on every change)
+    @Transactional
+    @Modifying
+    @Query("UPDATE InventoryItem i SET i.status = CASE " +
+           "WHEN i.quantity = 0 THEN com.example.hotel_inventory.model.InventoryItem.ItemStatus.OUT_OF_STOCK " +
+           "WHEN i.quantity <= i.minQuantity THEN com.example.hotel_inventory.model.InventoryItem.ItemStatus.LOW_STOCK " +
+           "ELSE com.example.hotel_inventory.model.InventoryItem.ItemStatus.IN_STOCK END, " +
+           "i.updatedAt = LOCAL DATETIME " +
+           "WHERE (i.quantity = 0 AND i.status NOT IN (" +
+           "com.example.hotel_inventory.model.InventoryItem.ItemStatus.OUT_OF_STOCK, " +
+           "com.example.hotel_inventory.model.InventoryItem.ItemStatus.DISCONTINUED)) " +
+           "OR (i.quantity <> 0 AND i.quantity <= i.minQuantity AND i.status NOT IN (" +
+           "com.example.hotel_inventory.model.InventoryItem.ItemStatus.LOW_STOCK, " +
+           "com.example.hotel_inventory.model.InventoryItem.ItemStatus.DISCONTINUED)) " +
+           "OR (i.quantity <> 0 AND i.quantity > i.minQuantity AND i.status NOT IN (" +
+           "com.example.hotel_inventory.model.InventoryItem.ItemStatus.IN_STOCK, " +
+           "com.example.hotel_inventory.model.InventoryItem.ItemStatus.DISCONTINUED))")
+    int refreshStatuses();
+
+    // Items about to be changed in one transaction, row-locked in id order so concurrent
+    // batches cannot deadlock on each other
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM InventoryItem i WHERE i.id IN :ids ORDER BY i.id")
+    List<InventoryItem> findAllForUpdateByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Inspector sync: the fields the app keeps offline, for every item or for those changed since a watermark
+    @Query("SELECT new com.example.hotel_inventory.dto.SyncItemDto(i.id, i.name, c.id, i.quantity, i.minQuantity, " +
+           "i.maxQuantity, i.status, i.unitOfMeasurement, i.condition, i.updatedAt) " +
+           "FROM InventoryItem i LEFT JOIN i.category c ORDER BY i.id")
+    List<SyncItemDto> findSyncItems();
+
+    @Query("SELECT new com.example.hotel_inventory.dto.SyncItemDto(i.id, i.name, c.id, i.quantity, i.minQuantity, " +
+           "i.maxQuantity, i.status, i.unitOfMeasurement, i.condition, i.updatedAt) " +
+           "FROM InventoryItem i LEFT JOIN i.category c WHERE i.updatedAt > :since ORDER BY i.id")
+    List<SyncItemDto> findSyncItemsUpdatedAfter(@Param("since") LocalDateTime since);
+
+    // Current quantity without loading the entity
+    @Query("SELECT i.quantity FROM InventoryItem i WHERE i.id = :id")
+    int findQuantityById(@Param("id") Long id);
+
+    // Stock totals in one pass (used to rebuild the in-memory stats aggregate)
+    @Query("SELECT new com.example.hotel_inventory.dto.StockSummary(COUNT(i), " +
+           "SUM(CASE WHEN i.status = com.example.hotel_inventory.model.InventoryItem.ItemStatus.LOW_STOCK THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN i.status = com.example.hotel_inventory.model.InventoryItem.ItemStatus.OUT_OF_STOCK THEN 1 ELSE 0 END), " +
+           "SUM(i.price * i.quantity)) FROM InventoryItem i")
+    StockSummary summarizeStock();
+
+    // Report rows grouped by category, aggregated in the database
+    @Query("SELECT new com.example.hotel_inventory.dto.InventoryGroupSummary(c.id, c.name, " +
+           "COUNT(i), SUM(i.quantity), SUM(i.price * i.quantity)) " +
+           "FROM InventoryItem i LEFT JOIN i.category c GROUP BY c.id, c.name")
+    List<InventoryGroupSummary> summarizeByCategory();
+
+    // Report rows grouped by supplier, aggregated in the database
+    @Query("SELECT new com.example.hotel_inventory.dto.InventoryGroupSummary(s.id, s.name, " +
+           "COUNT(i), SUM(i.quantity), SUM(i.price * i.quantity)) " +
+           "FROM InventoryItem i LEFT JOIN i.supplier s GROUP BY s.id, s.name")
+    List<InventoryGroupSummary> summarizeBySupplier();
+
+    interface SearchableText {
+        Long getId();
+
+        String getName();
+
+        String getDescription();
+    }
+
+    interface ItemQuantity {
+        Long getId();
+
+        int getQuantity();
+    }
 }
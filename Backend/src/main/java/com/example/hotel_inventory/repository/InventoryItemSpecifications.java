@@ -0,0 +1,46 @@
+package com.example.hotel_inventory.repository;
+
+import com.example.hotel_inventory.dto.request.InventoryItemFilter;
+import com.example.hotel_inventory.model.InventoryItem;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds the WHERE clause for filtered inventory listings and exports.
+ */
+public final class InventoryItemSpecifications {
+
+    private InventoryItemSpecifications() {
+    }
+
+    public static Specification<InventoryItem> matching(InventoryItemFilter filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (filter.getCategoryId() != null) {
+                predicates.add(cb.equal(root.get("category").get("id"), filter.getCategoryId()));
+            }
+            if (filter.getSupplierId() != null) {
+                predicates.add(cb.equal(root.get("supplier").get("id"), filter.getSupplierId()));
+            }
+            if (filter.getStatus() != null) {
+                predicates.add(cb.equal(root.get("status"), filter.getStatus()));
+            }
+            if (filter.getMinQuantity() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("quantity"), filter.getMinQuantity()));
+            }
+            if (filter.getMaxQuantity() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("quantity"), filter.getMaxQuantity()));
+            }
+            if (filter.getMinPrice() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("price"), filter.getMinPrice()));
+            }
+            if (filter.getMaxPrice() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("price"), filter.getMaxPrice()));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.hotel_inventory.repository;
+
+import com.example.hotel_inventory.model.InventoryItemTombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface InventoryItemTombstoneRepository extends JpaRepository<InventoryItemTombstone, Long> {
+
+    @Query("SELECT t.itemId FROM InventoryItemTombstone t WHERE t.deletedAt > :since ORDER BY t.itemId")
+    List<Long> findItemIdsDeletedAfter(@Param("since") LocalDateTime since);
+}
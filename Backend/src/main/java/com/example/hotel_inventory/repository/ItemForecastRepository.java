@@ -0,0 +1,22 @@
+package com.example.hotel_inventory.repository;
+
+import com.example.hotel_inventory.model.ItemForecast;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+
+@Repository
+public interface ItemForecastRepository extends JpaRepository<ItemForecast, Long> {
+
+    // The last day the forecast job has folded in (its watermark into the ledger)
+    @Query("SELECT MAX(f.forecastDate) FROM ItemForecast f")
+    LocalDate findLatestForecastDate();
+
+    // Forecasts of items that have since been deleted
+    @Modifying
+    @Query("DELETE FROM ItemForecast f WHERE f.itemId NOT IN (SELECT i.id FROM InventoryItem i)")
+    int deleteOrphans();
+}
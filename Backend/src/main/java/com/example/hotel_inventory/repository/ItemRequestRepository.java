@@ -1,12 +1,17 @@
 package com.example.hotel_inventory.repository;
 
 import com.example.hotel_inventory.model.ItemRequest;
+import com.example.hotel_inventory.model.Location;
 import com.example.hotel_inventory.model.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -20,5 +25,33 @@ public interface ItemRequestRepository extends JpaRepository<ItemRequest, Long>
     List<ItemRequest> findByStatusAndInspector(@Param("status") ItemRequest.RequestStatus status, 
                                                @Param("inspector") User inspector);
     
-    List<ItemRequest> findByLocationTypeAndLocationIdentifier(String locationType, String locationIdentifier);
+    List<ItemRequest> findByLocationIdOrderByCreatedAtDesc(Long locationId);
+
+    // Links the requests recorded under a location's type and identifier before it was known
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ItemRequest ir SET ir.location = :location WHERE ir.location IS NULL " +
+           "AND ir.locationType = :#{#location.locationType} AND ir.locationIdentifier = :#{#location.identifier}")
+    int linkUnlinkedTo(@Param("location") Location location);
+
+    // Requests an inspector already uploaded under these client references
+    List<ItemRequest> findByInspectorIdAndClientRefIn(Long inspectorId, Collection<String> clientRefs);
+    
+    // Moves a request out of PENDING; returns 0 if another admin already processed it
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ItemRequest ir SET ir.status = :status, ir.approvedBy = :approvedBy, " +
+           "ir.approvalNotes = :approvalNotes, ir.updatedAt = LOCAL DATETIME " +
+           "WHERE ir.id = :id AND ir.status = com.example.hotel_inventory.model.ItemRequest.RequestStatus.PENDING")
+    int markProcessed(@Param("id") Long id,
+                      @Param("status") ItemRequest.RequestStatus status,
+                      @Param("approvedBy") User approvedBy,
+                      @Param("approvalNotes") String approvalNotes);
+
+    // Inventory items referenced by a set of requests, so they can be locked before the requests
+    @Query("SELECT DISTINCT ir.inventoryItem.id FROM ItemRequest ir WHERE ir.id IN :ids")
+    List<Long> findInventoryItemIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Requests for a bulk decision, row-locked in id order
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT ir FROM ItemRequest ir WHERE ir.id IN :ids ORDER BY ir.id")
+    List<ItemRequest> findAllForUpdateByIdIn(@Param("ids") Collection<Long> ids);
 }
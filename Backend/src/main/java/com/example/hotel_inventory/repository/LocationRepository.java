@@ -0,0 +1,19 @@
+package com.example.hotel_inventory.repository;
+
+import com.example.hotel_inventory.model.Location;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface LocationRepository extends JpaRepository<Location, Long> {
+
+    List<Location> findAllByOrderByLocationTypeAscIdentifierAsc();
+
+    List<Location> findByLocationTypeOrderByIdentifierAsc(String locationType);
+
+    // Resolves a type and identifier to the location once, through the unique index
+    Optional<Location> findByLocationTypeAndIdentifier(String locationType, String identifier);
+}
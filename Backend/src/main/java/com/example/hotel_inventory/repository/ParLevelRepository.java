@@ -0,0 +1,16 @@
+package com.example.hotel_inventory.repository;
+
+import com.example.hotel_inventory.model.ParLevel;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ParLevelRepository extends JpaRepository<ParLevel, Long> {
+
+    // Served by the (location_id, item_id) unique index
+    @EntityGraph(attributePaths = "item")
+    List<ParLevel> findByLocationIdOrderByItemNameAsc(Long locationId);
+}
@@ -0,0 +1,20 @@
+package com.example.hotel_inventory.repository;
+
+import com.example.hotel_inventory.model.RoomTypeConsumption;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RoomTypeConsumptionRepository extends JpaRepository<RoomTypeConsumption, Long> {
+
+    @EntityGraph(attributePaths = "item")
+    @Query("SELECT c FROM RoomTypeConsumption c ORDER BY c.roomType, c.item.name")
+    List<RoomTypeConsumption> findAllWithItem();
+
+    Optional<RoomTypeConsumption> findByRoomTypeAndItemId(String roomType, Long itemId);
+}
@@ -1,7 +1,56 @@
 package com.example.hotel_inventory.repository;
 
+import com.example.hotel_inventory.dto.DailyConsumption;
 import com.example.hotel_inventory.model.StockTransaction;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
 
 public interface StockTransactionRepository extends JpaRepository<StockTransaction, Long> {
-} 
\ No newline at end of file
+
+    // Full history of one item, newest first (served by idx_stock_tx_item_date)
+    List<StockTransaction> findByItemIdOrderByTransactionDateDescIdDesc(Long itemId);
+
+    // Keyset page of one item's history: rows strictly after the (cursorDate, cursorId) position
+    @Query("SELECT t FROM StockTransaction t LEFT JOIN FETCH t.performedBy " +
+           "WHERE t.item.id = :itemId " +
+           "AND (:type IS NULL OR t.type = :type) " +
+           "AND (:from IS NULL OR t.transactionDate >= :from) " +
+           "AND (:to IS NULL OR t.transactionDate < :to) " +
+           "AND (:cursorDate IS NULL OR t.transactionDate < :cursorDate " +
+           "     OR (t.transactionDate = :cursorDate AND t.id < :cursorId)) " +
+           "ORDER BY t.transactionDate DESC, t.id DESC")
+    List<StockTransaction> findHistoryPage(@Param("itemId") Long itemId,
+                                           @Param("type") StockTransaction.TransactionType type,
+                                           @Param("from") LocalDateTime from,
+                                           @Param("to") LocalDateTime to,
+                                           @Param("cursorDate") LocalDateTime cursorDate,
+                                           @Param("cursorId") Long cursorId,
+                                           Limit limit);
+
+    @Query("SELECT MIN(t.transactionDate) FROM StockTransaction t")
+    LocalDateTime findEarliestTransactionDate();
+
+    // Units removed per item and day in [from, to), ordered item by item and day by day for
+    // the forecast job. Answered from idx_stock_tx_type_date alone and streamed off the cursor.
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.example.hotel_inventory.dto.DailyConsumption(t.item.id, " +
+           "EXTRACT(DATE FROM t.transactionDate), SUM(t.quantity)) " +
+           "FROM StockTransaction t " +
+           "WHERE t.type = com.example.hotel_inventory.model.StockTransaction.TransactionType.REMOVE " +
+           "AND t.transactionDate >= :from AND t.transactionDate < :to " +
+           "GROUP BY t.item.id, EXTRACT(DATE FROM t.transactionDate) " +
+           "ORDER BY t.item.id, EXTRACT(DATE FROM t.transactionDate)")
+    Stream<DailyConsumption> streamDailyConsumption(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
@@ -1,11 +1,18 @@
 package com.example.hotel_inventory.service;
 
 import com.example.hotel_inventory.dto.ItemRequestDto;
+import com.example.hotel_inventory.dto.request.ItemRequestDecision;
+import com.example.hotel_inventory.dto.response.DiscrepancyStatsDto;
+import com.example.hotel_inventory.dto.response.ItemRequestDecisionResult;
+import com.example.hotel_inventory.model.InspectionDailyRollup;
 
+import java.time.LocalDate;
 import java.util.List;
 
 public interface AdminInspectorService {
     List<ItemRequestDto> getItemRequests();
     ItemRequestDto approveItemRequest(Long requestId, Long adminUserId);
     ItemRequestDto rejectItemRequest(Long requestId, Long adminUserId, String rejectionNotes);
+    List<ItemRequestDecisionResult> processItemRequests(List<ItemRequestDecision> decisions, Long adminUserId);
+    List<DiscrepancyStatsDto> getDiscrepancyStats(InspectionDailyRollup.Dimension groupBy, LocalDate from, LocalDate to);
 }
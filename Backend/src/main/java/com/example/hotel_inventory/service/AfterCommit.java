@@ -0,0 +1,29 @@
+package com.example.hotel_inventory.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Runs a change once the surrounding transaction has committed, or straight away when there
+ * is none. The in-memory views of the inventory (search index, change stream) apply
+ * their updates through this so they never reflect work that is rolled back; the stats
+ * aggregate does the same with its own synchronization.
+ */
+final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    static void run(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+}
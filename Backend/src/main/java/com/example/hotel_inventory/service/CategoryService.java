@@ -0,0 +1,76 @@
+package com.example.hotel_inventory.service;
+
+import com.example.hotel_inventory.config.CacheConfig;
+import com.example.hotel_inventory.dto.CategoryDto;
+import com.example.hotel_inventory.dto.request.CreateCategoryRequest;
+import com.example.hotel_inventory.model.Category;
+import com.example.hotel_inventory.repository.CategoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class CategoryService {
+
+    private final CategoryRepository categoryRepository;
+
+    @Cacheable(CacheConfig.CATEGORIES)
+    public List<CategoryDto> getAllCategories() {
+        return categoryRepository.findAll().stream()
+                .map(CategoryDto::fromEntity)
+                .collect(Collectors.toList());
+    }
+
+    @Cacheable(cacheNames = CacheConfig.CATEGORY, key = "#id", unless = "#result == null")
+    public Optional<CategoryDto> getCategory(Long id) {
+        return categoryRepository.findById(id)
+                .map(CategoryDto::fromEntity);
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.CATEGORIES, allEntries = true)
+    public CategoryDto createCategory(CreateCategoryRequest request) {
+        Category category = Category.builder()
+                .name(request.getName())
+                .description(request.getDescription())
+                .isActive(request.isActive())
+                .supplyItem(request.getSupplyItem())
+                .build();
+        return CategoryDto.fromEntity(categoryRepository.save(category));
+    }
+
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.CATEGORIES, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.CATEGORY, key = "#id")
+    })
+    public Optional<CategoryDto> updateCategory(Long id, CreateCategoryRequest request) {
+        return categoryRepository.findById(id)
+                .map(category -> {
+                    category.setName(request.getName());
+                    category.setDescription(request.getDescription());
+                    category.setActive(request.isActive());
+                    category.setSupplyItem(request.getSupplyItem());
+                    return CategoryDto.fromEntity(categoryRepository.save(category));
+                });
+    }
+
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.CATEGORIES, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.CATEGORY, key = "#id")
+    })
+    public boolean deleteCategory(Long id) {
+        if (!categoryRepository.existsById(id)) {
+            return false;
+        }
+        categoryRepository.deleteById(id);
+        return true;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.hotel_inventory.service;
+
+import com.example.hotel_inventory.dto.ItemDemandDto;
+import com.example.hotel_inventory.dto.RoomTypeConsumptionDto;
+import com.example.hotel_inventory.dto.request.RoomTypeConsumptionRequest;
+
+import java.util.List;
+
+public interface DemandForecastService {
+
+    /**
+     * Demand per item over the next {@code days} nights from today, from reserved and
+     * checked-in stays and the room type consumption templates.
+     */
+    List<ItemDemandDto> projectDemand(int days);
+
+    List<RoomTypeConsumptionDto> getConsumptionTemplates();
+
+    RoomTypeConsumptionDto saveConsumptionTemplate(RoomTypeConsumptionRequest request);
+
+    void deleteConsumptionTemplate(Long id);
+}
@@ -0,0 +1,51 @@
+package com.example.hotel_inventory.service;
+
+import com.example.hotel_inventory.model.OutboxEvent;
+import com.example.hotel_inventory.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+
+/**
+ * Publishes domain events (see the event package) through the transactional outbox.
+ *
+ * An event is written as an outbox row in the caller's transaction, so it exists exactly
+ * when the change it describes commits; {@link OutboxDispatcher} hands it to the consumers
+ * afterwards, off the request thread. Calling this without a transaction is an error.
+ */
+@Component
+@RequiredArgsConstructor
+public class DomainEvents {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(Object event) {
+        outboxEventRepository.save(toOutboxEvent(event));
+    }
+
+    // Inserted as one JDBC batch (hibernate.jdbc.batch_size)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishAll(Collection<?> events) {
+        if (!events.isEmpty()) {
+            outboxEventRepository.saveAll(events.stream().map(this::toOutboxEvent).toList());
+        }
+    }
+
+    private OutboxEvent toOutboxEvent(Object event) {
+        try {
+            return OutboxEvent.builder()
+                    .type(event.getClass().getSimpleName())
+                    .payload(objectMapper.writeValueAsString(event))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Cannot serialize " + event.getClass().getSimpleName(), e);
+        }
+    }
+}
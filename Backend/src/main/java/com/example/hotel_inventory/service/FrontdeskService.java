@@ -3,6 +3,9 @@ package com.example.hotel_inventory.service;
 import com.example.hotel_inventory.dto.FrontdeskDto;
 import com.example.hotel_inventory.dto.request.CreateFrontdeskRequest;
 import com.example.hotel_inventory.dto.request.UpdateFrontdeskRequest;
+import com.example.hotel_inventory.model.Frontdesk;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.Optional;
@@ -11,6 +14,8 @@ public interface FrontdeskService {
     
     List<FrontdeskDto> getAllBookings();
     
+    Page<FrontdeskDto> getBookings(Frontdesk.BookingStatus status, Pageable pageable);
+    
     Optional<FrontdeskDto> getBookingById(Long id);
     
     FrontdeskDto createBooking(CreateFrontdeskRequest request);
@@ -0,0 +1,213 @@
+package com.example.hotel_inventory.service;
+
+import com.example.hotel_inventory.dto.DiscrepancyCounts;
+import com.example.hotel_inventory.dto.InspectionLineGroup;
+import com.example.hotel_inventory.dto.response.RollupRunSummary;
+import com.example.hotel_inventory.model.InspectionDailyRollup;
+import com.example.hotel_inventory.repository.InspectionDailyRollupRepository;
+import com.example.hotel_inventory.repository.InspectionItemRepository;
+import com.example.hotel_inventory.repository.InspectionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps inspection_daily_rollups, the per-day discrepancy counts of completed inspections,
+ * and answers discrepancy reports from it.
+ *
+ * A nightly run rolls up the days after the latest rolled-up day, grouping their inspection
+ * lines once in the database. A report sums the rollup rows of the requested days and
+ * groups only the days not rolled up yet (normally today) from the inspection tables, so its
+ * cost follows the number of days and keys rather than of inspections. Edits to inspections
+ * completed on a rolled-up day re-roll that day once the edit has committed.
+ */
+@Component
+@Slf4j
+public class InspectionDiscrepancyRollup {
+
+    private final InspectionDailyRollupRepository rollupRepository;
+    private final InspectionItemRepository inspectionItemRepository;
+    private final InspectionRepository inspectionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate refreshTransaction;
+    // Runs and day refreshes each delete and rewrite whole days; one at a time
+    private final ReentrantLock rollupLock = new ReentrantLock();
+
+    public InspectionDiscrepancyRollup(InspectionDailyRollupRepository rollupRepository,
+                                       InspectionItemRepository inspectionItemRepository,
+                                       InspectionRepository inspectionRepository,
+                                       TransactionTemplate transactionTemplate) {
+        this.rollupRepository = rollupRepository;
+        this.inspectionItemRepository = inspectionItemRepository;
+        this.inspectionRepository = inspectionRepository;
+        this.transactionTemplate = transactionTemplate;
+        // Refreshes run from afterCommit, where the committed transaction is still bound
+        this.refreshTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.refreshTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Scheduled(cron = "${inspection-rollup.cron:0 15 2 * * *}")
+    public void runNightly() {
+        try {
+            run(LocalDate.now().minusDays(1));
+        } catch (RuntimeException e) {
+            log.warn("Inspection rollup failed", e);
+        }
+    }
+
+    /**
+     * Rolls up every day after the latest rolled-up one through the given day, which must be
+     * over: later runs start after the latest rolled-up day and report() stops reading live
+     * lines there, so inspections completed later on that day would never be counted.
+     */
+    public RollupRunSummary run(LocalDate through) {
+        if (!through.isBefore(LocalDate.now())) {
+            throw new RuntimeException("Inspections can only be rolled up through yesterday or earlier");
+        }
+        long start = System.nanoTime();
+        RollupRunSummary summary;
+        rollupLock.lock();
+        try {
+            summary = transactionTemplate.execute(status -> rollUpThrough(through));
+        } finally {
+            rollupLock.unlock();
+        }
+        summary.setElapsedMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        log.info("Inspection rollup through {}: {} line groups from {}, {} rows in {} ms", through,
+                summary.getLineGroups(), summary.getFromDate(), summary.getRowsWritten(), summary.getElapsedMillis());
+        return summary;
+    }
+
+    /**
+     * Recomputes a rolled-up day after inspections completed on it changed. Runs once the
+     * caller's transaction has committed, in a transaction of its own, so concurrent edits of
+     * one day cannot collide on its rows. A failure is logged rather than failing the edit;
+     * the day then keeps its previous counts until it is refreshed again.
+     */
+    public void refreshDay(LocalDate day) {
+        AfterCommit.run(() -> {
+            rollupLock.lock();
+            try {
+                refreshTransaction.executeWithoutResult(status -> {
+                    LocalDate latest = rollupRepository.findLatestDay();
+                    if (latest != null && !day.isAfter(latest)) {
+                        rollUp(day, day);
+                    }
+                });
+            } catch (RuntimeException e) {
+                log.warn("Inspection rollup of {} not refreshed", day, e);
+            } finally {
+                rollupLock.unlock();
+            }
+        });
+    }
+
+    /**
+     * Discrepancy counts per key of the dimension for the days from..to, inclusive.
+     */
+    @Transactional(readOnly = true)
+    public Collection<DiscrepancyCounts> report(InspectionDailyRollup.Dimension dimension, LocalDate from, LocalDate to) {
+        Map<String, DiscrepancyCounts> counts = new LinkedHashMap<>();
+        LocalDate latest = rollupRepository.findLatestDay();
+        if (latest != null && !from.isAfter(latest)) {
+            LocalDate rolledUpTo = to.isBefore(latest) ? to : latest;
+            for (DiscrepancyCounts rolledUp : rollupRepository.sumByKey(dimension, from, rolledUpTo)) {
+                counts.computeIfAbsent(rolledUp.getKey(), DiscrepancyCounts::new).add(rolledUp);
+            }
+        }
+        LocalDate liveFrom = latest != null && !from.isAfter(latest) ? latest.plusDays(1) : from;
+        if (!liveFrom.isAfter(to)) {
+            for (InspectionLineGroup group : inspectionItemRepository.summarizeCompletedLines(
+                    liveFrom.atStartOfDay(), to.plusDays(1).atStartOfDay())) {
+                counts.computeIfAbsent(key(dimension, group), DiscrepancyCounts::new).add(group);
+            }
+        }
+        return counts.values();
+    }
+
+    private RollupRunSummary rollUpThrough(LocalDate through) {
+        LocalDate latest = rollupRepository.findLatestDay();
+        LocalDate from;
+        if (latest != null) {
+            from = latest.plusDays(1);
+        } else {
+            LocalDateTime earliest = inspectionRepository.findEarliestCompletedAt();
+            from = earliest != null && earliest.toLocalDate().isBefore(through) ? earliest.toLocalDate() : through;
+        }
+        if (from.isAfter(through)) {
+            return RollupRunSummary.builder().throughDate(latest).build();
+        }
+        return rollUp(from, through);
+    }
+
+    // Replaces the rows of the days from..to, inclusive
+    private RollupRunSummary rollUp(LocalDate from, LocalDate to) {
+        rollupRepository.deleteByDayBetween(from, to);
+        List<InspectionLineGroup> groups = inspectionItemRepository.summarizeCompletedLines(
+                from.atStartOfDay(), to.plusDays(1).atStartOfDay());
+
+        // Day -> dimension -> key -> counts; every day gets its ALL row, even without lines
+        Map<LocalDate, Map<InspectionDailyRollup.Dimension, Map<String, DiscrepancyCounts>>> days = new TreeMap<>();
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            days.computeIfAbsent(day, d -> new LinkedHashMap<>())
+                    .computeIfAbsent(InspectionDailyRollup.Dimension.ALL, d -> new LinkedHashMap<>())
+                    .put("", new DiscrepancyCounts(""));
+        }
+        for (InspectionLineGroup group : groups) {
+            Map<InspectionDailyRollup.Dimension, Map<String, DiscrepancyCounts>> day = days.get(group.getDay());
+            for (InspectionDailyRollup.Dimension dimension : InspectionDailyRollup.Dimension.values()) {
+                day.computeIfAbsent(dimension, d -> new LinkedHashMap<>())
+                        .computeIfAbsent(key(dimension, group), DiscrepancyCounts::new)
+                        .add(group);
+            }
+        }
+
+        List<InspectionDailyRollup> rows = new ArrayList<>();
+        days.forEach((day, dimensions) -> dimensions.forEach((dimension, keys) -> keys.values().forEach(counts ->
+                rows.add(InspectionDailyRollup.builder()
+                        .day(day)
+                        .dimension(dimension)
+                        .dimensionKey(counts.getKey())
+                        .lines(counts.getLines())
+                        .shortLines(counts.getShortLines())
+                        .shortUnits(counts.getShortUnits())
+                        .damagedLines(counts.getDamagedLines())
+                        .missingLines(counts.getMissingLines())
+                        .build()))));
+        rollupRepository.saveAll(rows);
+
+        return RollupRunSummary.builder()
+                .fromDate(from)
+                .throughDate(to)
+                .lineGroups(groups.size())
+                .rowsWritten(rows.size())
+                .build();
+    }
+
+    static String key(InspectionDailyRollup.Dimension dimension, InspectionLineGroup group) {
+        return switch (dimension) {
+            case ALL -> "";
+            case ITEM -> String.valueOf(group.getItemId());
+            case LOCATION_TYPE -> group.getLocationType();
+            // Not the Location id: inspections of unregistered locations have none, and an
+            // inspection's link changes when locations are created, renamed or deleted while
+            // the type and identifier it was recorded under do not
+            case LOCATION -> group.getLocationType() + "/" + group.getLocationIdentifier();
+            case INSPECTOR -> String.valueOf(group.getInspectorId());
+        };
+    }
+}
@@ -2,9 +2,13 @@ package com.example.hotel_inventory.service;
 
 import com.example.hotel_inventory.dto.*;
 import com.example.hotel_inventory.dto.request.CreateInspectionRequest;
+import com.example.hotel_inventory.dto.request.SubmitInspectionRequest;
 import com.example.hotel_inventory.dto.request.CreateItemRequestRequest;
+import com.example.hotel_inventory.dto.request.InventoryItemFilter;
 import com.example.hotel_inventory.model.ItemRequest;
 import com.example.hotel_inventory.model.Inspection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 
@@ -18,9 +22,12 @@ public interface InspectorService {
     
     // Inspection Management
     InspectionDto createInspection(CreateInspectionRequest request, Long inspectorId);
+    InspectionDto submitInspection(SubmitInspectionRequest request, Long inspectorId);
     InspectionDto updateInspection(Long inspectionId, InspectionDto inspectionDto);
     InspectionDto completeInspection(Long inspectionId);
     List<InspectionDto> getMyInspections(Long inspectorId);
+    Page<InspectionDto> getMyInspections(Long inspectorId, Pageable pageable);
+    List<InspectionDto> getInspectionsAtLocation(Long locationId);
     InspectionDto getInspectionById(Long inspectionId);
     
     // Inspection Item Management
@@ -30,10 +37,11 @@ public interface InspectorService {
     
     // Inventory View (Read-only)
     List<InventoryItemDto> getAllInventoryItems();
+    Page<InventoryItemDto> findInventoryItems(InventoryItemFilter filter, Pageable pageable);
     InventoryItemDto getInventoryItemById(Long itemId);
     List<InventoryItemDto> getInventoryItemsByCategory(Long categoryId);
     List<InventoryItemDto> getInventoryItemsBySupplier(Long supplierId);
-    List<InventoryItemDto> searchInventoryItems(String searchTerm);
+    List<InventoryItemDto> searchInventoryItems(String searchTerm, int limit);
     List<InventoryItemDto> getLowStockInventoryItems();
     List<InventoryItemDto> getInventoryItemsByStatus(String status);
 }
@@ -0,0 +1,23 @@
+package com.example.hotel_inventory.service;
+
+import com.example.hotel_inventory.dto.request.SyncUploadRequest;
+import com.example.hotel_inventory.dto.response.InspectorSyncResponse;
+import com.example.hotel_inventory.dto.response.SyncUploadResponse;
+
+import java.time.LocalDateTime;
+
+public interface InspectorSyncService {
+
+    /**
+     * Every item when {@code since} is null, otherwise the items changed and deleted since
+     * that version.
+     */
+    InspectorSyncResponse pullChanges(LocalDateTime since);
+
+    /**
+     * Stores the queued entries one by one, each in its own transaction, so a conflict or
+     * failure in one does not hold back the rest. Entries already stored under their
+     * clientRef are reported as duplicates and not stored again.
+     */
+    SyncUploadResponse pushChanges(SyncUploadRequest request, Long inspectorId);
+}
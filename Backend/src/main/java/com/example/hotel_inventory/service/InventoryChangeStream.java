@@ -0,0 +1,224 @@
+package com.example.hotel_inventory.service;
+
+import com.example.hotel_inventory.dto.response.InventoryChangeEvent;
+import com.example.hotel_inventory.model.InventoryItem;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes stock level changes to dashboards as server-sent events, so they no longer poll
+ * item lists and stats to notice them.
+ *
+ * Services report changed items here, applied after commit like {@link InventoryStatsAggregate}.
+ * Every {@value #FLUSH_INTERVAL_MS} ms the changes collected since the last tick, coalesced per
+ * item (latest quantity and status win), are offered to every subscriber together with how the
+ * stats totals moved since that subscriber's previous event.
+ *
+ * Each subscriber has at most one send in flight. While a slow client is still receiving, later
+ * ticks merge into its backlog instead of queueing more events; if the backlog grows past
+ * {@value #MAX_BACKLOG_ITEMS} items it is dropped and the client is sent "resync" to re-fetch.
+ */
+@Component
+@Slf4j
+public class InventoryChangeStream {
+
+    static final long FLUSH_INTERVAL_MS = 250;
+    static final int MAX_BACKLOG_ITEMS = 1_000;
+    private static final long HEARTBEAT_INTERVAL_MS = 15_000;
+    private static final long SUBSCRIPTION_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(30);
+
+    private final InventoryStatsAggregate statsAggregate;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(threads("inventory-stream-tick"));
+    private final ExecutorService senders = Executors.newCachedThreadPool(threads("inventory-stream-send"));
+
+    // Changes since the last tick, guarded by this
+    private Map<Long, InventoryChangeEvent.ItemChange> pending = new LinkedHashMap<>();
+
+    public InventoryChangeStream(InventoryStatsAggregate statsAggregate) {
+        this.statsAggregate = statsAggregate;
+        ticker.scheduleWithFixedDelay(this::flush, FLUSH_INTERVAL_MS, FLUSH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ticker.shutdownNow();
+        senders.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    /**
+     * Opens a stream. The first event, "snapshot", holds the current stats totals.
+     */
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(SUBSCRIPTION_TIMEOUT_MS);
+        InventoryStatsAggregate.Totals totals = statsAggregate.current();
+        Subscriber subscriber = new Subscriber(emitter, totals);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+        try {
+            emitter.send(SseEmitter.event().name("snapshot").data(new InventoryChangeEvent(null, stats(totals))));
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+            return emitter;
+        }
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Reports an item's quantity and status as they are once the transaction commits.
+     */
+    public void itemChanged(InventoryItem item) {
+        AfterCommit.run(() -> record(InventoryChangeEvent.ItemChange.updated(
+                item.getId(), item.getQuantity(), item.getStatus())));
+    }
+
+    public void itemChanged(Long id, int quantity, InventoryItem.ItemStatus status) {
+        AfterCommit.run(() -> record(InventoryChangeEvent.ItemChange.updated(id, quantity, status)));
+    }
+
+    public void itemRemoved(Long id) {
+        AfterCommit.run(() -> record(InventoryChangeEvent.ItemChange.removed(id)));
+    }
+
+    private synchronized void record(InventoryChangeEvent.ItemChange change) {
+        pending.put(change.getId(), change);
+    }
+
+    void flush() {
+        try {
+            Map<Long, InventoryChangeEvent.ItemChange> batch;
+            synchronized (this) {
+                batch = pending;
+                if (!batch.isEmpty()) {
+                    pending = new LinkedHashMap<>();
+                }
+            }
+            if (subscribers.isEmpty()) {
+                return;
+            }
+            InventoryStatsAggregate.Totals totals = statsAggregate.current();
+            long now = System.currentTimeMillis();
+            subscribers.forEach(subscriber -> subscriber.offer(batch, totals, now));
+        } catch (RuntimeException e) {
+            // An exception would cancel the scheduled task and silently end every stream
+            log.warn("Inventory change stream flush failed", e);
+        }
+    }
+
+    private static InventoryChangeEvent.Stats stats(InventoryStatsAggregate.Totals totals) {
+        return new InventoryChangeEvent.Stats(totals.getTotalItems(), totals.getLowStockItems(),
+                totals.getOutOfStockItems(), totals.getTotalValue(), totals.getTotalTransactions());
+    }
+
+    private static boolean isZero(InventoryStatsAggregate.Totals delta) {
+        return delta.getTotalItems() == 0 && delta.getLowStockItems() == 0 && delta.getOutOfStockItems() == 0
+                && delta.getTotalValue().signum() == 0 && delta.getTotalTransactions() == 0;
+    }
+
+    private static ThreadFactory threads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final Map<Long, InventoryChangeEvent.ItemChange> backlog = new LinkedHashMap<>();
+        private InventoryStatsAggregate.Totals latestTotals;
+        private InventoryStatsAggregate.Totals sentTotals;
+        private boolean resync;
+        private boolean sending;
+        private long lastSentAt;
+
+        Subscriber(SseEmitter emitter, InventoryStatsAggregate.Totals totals) {
+            this.emitter = emitter;
+            this.latestTotals = totals;
+            this.sentTotals = totals;
+            this.lastSentAt = System.currentTimeMillis();
+        }
+
+        synchronized void offer(Map<Long, InventoryChangeEvent.ItemChange> batch,
+                                InventoryStatsAggregate.Totals totals, long now) {
+            if (resync || backlog.size() + batch.size() > MAX_BACKLOG_ITEMS) {
+                backlog.clear();
+                resync = true;
+            } else {
+                backlog.putAll(batch);
+            }
+            latestTotals = totals;
+            if (!sending && (hasChanges() || now - lastSentAt >= HEARTBEAT_INTERVAL_MS)) {
+                sending = true;
+                senders.execute(this::drain);
+            }
+        }
+
+        private boolean hasChanges() {
+            return resync || !backlog.isEmpty() || !isZero(latestTotals.minus(sentTotals));
+        }
+
+        // Sends until nothing is left; offers arriving meanwhile only grow the backlog
+        private void drain() {
+            boolean heartbeat = true;
+            while (true) {
+                SseEmitter.SseEventBuilder event;
+                synchronized (this) {
+                    event = nextEvent(heartbeat);
+                    if (event == null) {
+                        sending = false;
+                        return;
+                    }
+                    lastSentAt = System.currentTimeMillis();
+                }
+                heartbeat = false;
+                try {
+                    emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    subscribers.remove(this);
+                    emitter.completeWithError(e);
+                    return;
+                }
+            }
+        }
+
+        private SseEmitter.SseEventBuilder nextEvent(boolean heartbeat) {
+            if (resync) {
+                resync = false;
+                sentTotals = latestTotals;
+                return SseEmitter.event().name("resync").data(new InventoryChangeEvent(null, stats(latestTotals)));
+            }
+            InventoryStatsAggregate.Totals delta = latestTotals.minus(sentTotals);
+            if (!backlog.isEmpty() || !isZero(delta)) {
+                InventoryChangeEvent changes = new InventoryChangeEvent(new ArrayList<>(backlog.values()), stats(delta));
+                backlog.clear();
+                sentTotals = latestTotals;
+                return SseEmitter.event().name("changes").data(changes);
+            }
+            return heartbeat ? SseEmitter.event().comment("keepalive") : null;
+        }
+    }
+}
@@ -0,0 +1,366 @@
+package com.example.hotel_inventory.service;
+
+import com.example.hotel_inventory.model.InventoryItem;
+import com.example.hotel_inventory.repository.InventoryItemRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory full-text index over inventory item names and descriptions.
+ *
+ * Text is split into lower-case words; each word maps to the items containing it, and each
+ * word's trigrams map back to the word. A query word therefore matches exactly, as the
+ * prefix of a longer word, or within one typo (two for words of eight letters or more).
+ * Items matching more query words rank first, then by a TF-IDF style score where name hits
+ * weigh more than description hits.
+ *
+ * Like {@link InventoryStatsAggregate}, services report item writes here and they are applied
+ * after the surrounding transaction commits. {@link #rebuild()} reloads everything from the
+ * database. Writes that arrive while it is loading are queued and replayed onto the new
+ * index, since the snapshot may have been read before they committed. Every write replaces
+ * an item's text or removes it, so replaying one the snapshot already has does no harm.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class InventorySearchIndex {
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final float NAME_WEIGHT = 3f;
+    private static final float DESCRIPTION_WEIGHT = 1f;
+    private static final float PREFIX_FACTOR = 0.7f;
+    private static final float TYPO_FACTOR = 0.5f;
+    private static final int MIN_TYPO_LENGTH = 4;
+    private static final int TWO_TYPO_LENGTH = 8;
+    // Bounds the work for very short prefixes such as a single letter
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+
+    private static final Comparator<Hit> RANKING = Comparator.comparingInt(Hit::matchedTerms)
+            .thenComparingDouble(Hit::score)
+            .thenComparing(Hit::itemId, Comparator.reverseOrder());
+
+    private final InventoryItemRepository itemRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // Held for a whole rebuild, so searches keep using the old index while the snapshot loads
+    private final Lock rebuildLock = new ReentrantLock();
+    private final Map<Long, Set<String>> termsByItem = new HashMap<>();
+    private final NavigableMap<String, Map<Long, Float>> postings = new TreeMap<>();
+    private final Map<String, Set<String>> termsByTrigram = new HashMap<>();
+    // Writes since the running rebuild started loading, or null when none is; guarded by lock
+    private List<Runnable> pendingWrites;
+    private volatile boolean initialized;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            writeLocked(() -> pendingWrites = new ArrayList<>());
+            try {
+                List<InventoryItemRepository.SearchableText> items = itemRepository.findAllSearchableText();
+                writeLocked(() -> {
+                    termsByItem.clear();
+                    postings.clear();
+                    termsByTrigram.clear();
+                    items.forEach(item -> index(item.getId(), item.getName(), item.getDescription()));
+                    pendingWrites.forEach(Runnable::run);
+                    initialized = true;
+                    log.info("Inventory search index rebuilt: {} items, {} terms", termsByItem.size(), postings.size());
+                });
+            } finally {
+                writeLocked(() -> pendingWrites = null);
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    public void itemAdded(InventoryItem item) {
+        itemChanged(item);
+    }
+
+    public void itemChanged(InventoryItem item) {
+        Long id = item.getId();
+        String name = item.getName();
+        String description = item.getDescription();
+        AfterCommit.run(() -> write(() -> index(id, name, description)));
+    }
+
+    public void itemRemoved(Long id) {
+        AfterCommit.run(() -> write(() -> remove(id)));
+    }
+
+    /**
+     * Ids of the best matching items, best first.
+     */
+    public List<Long> search(String query, int limit) {
+        Set<String> queryTerms = tokenize(query);
+        if (queryTerms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        if (!initialized) {
+            rebuildOnce();
+        }
+
+        lock.readLock().lock();
+        try {
+            int itemCount = termsByItem.size();
+            Map<Long, Hit> hits = new HashMap<>();
+            for (String queryTerm : queryTerms) {
+                // An item scores once per query term, through its best matching word
+                Map<Long, Float> best = new HashMap<>();
+                expand(queryTerm).forEach((term, factor) -> {
+                    Map<Long, Float> items = postings.get(term);
+                    float idf = (float) Math.log(1 + (double) itemCount / items.size());
+                    items.forEach((id, weight) -> best.merge(id, factor * weight * idf, Math::max));
+                });
+                best.forEach((id, score) -> hits.computeIfAbsent(id, Hit::new).add(score));
+            }
+            return top(hits, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return termsByItem.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Searches arriving together before the first rebuild wait for it rather than each loading
+    private void rebuildOnce() {
+        rebuildLock.lock();
+        try {
+            if (!initialized) {
+                rebuild();
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private Map<String, Float> expand(String queryTerm) {
+        Map<String, Float> terms = new HashMap<>();
+        int prefixes = 0;
+        for (String term : postings.tailMap(queryTerm, true).keySet()) {
+            if (!term.startsWith(queryTerm) || prefixes++ == MAX_PREFIX_EXPANSIONS) {
+                break;
+            }
+            terms.put(term, term.length() == queryTerm.length() ? 1f : PREFIX_FACTOR);
+        }
+
+        if (queryTerm.length() >= MIN_TYPO_LENGTH) {
+            int maxEdits = queryTerm.length() >= TWO_TYPO_LENGTH ? 2 : 1;
+            List<String> grams = trigrams(queryTerm);
+            Map<String, Integer> shared = new HashMap<>();
+            for (String gram : grams) {
+                for (String term : termsByTrigram.getOrDefault(gram, Set.of())) {
+                    shared.merge(term, 1, Integer::sum);
+                }
+            }
+            // One edit or swap changes at most four trigrams, which rules out most words cheaply
+            int minShared = Math.max(1, grams.size() - 4 * maxEdits);
+            shared.forEach((term, count) -> {
+                if (count >= minShared && !terms.containsKey(term)) {
+                    int edits = editDistance(queryTerm, term, maxEdits);
+                    if (edits <= maxEdits) {
+                        terms.put(term, TYPO_FACTOR / edits);
+                    }
+                }
+            });
+        }
+        return terms;
+    }
+
+    private List<Long> top(Map<Long, Hit> hits, int limit) {
+        PriorityQueue<Hit> best = new PriorityQueue<>(RANKING);
+        for (Hit hit : hits.values()) {
+            if (best.size() < limit) {
+                best.add(hit);
+            } else if (RANKING.compare(hit, best.peek()) > 0) {
+                best.poll();
+                best.add(hit);
+            }
+        }
+        List<Hit> ranked = new ArrayList<>(best);
+        ranked.sort(RANKING.reversed());
+        return ranked.stream().map(Hit::itemId).toList();
+    }
+
+    private void index(Long id, String name, String description) {
+        remove(id);
+        Set<String> nameTerms = tokenize(name);
+        Map<String, Float> weights = new HashMap<>();
+        nameTerms.forEach(term -> weights.put(term, NAME_WEIGHT));
+        tokenize(description).forEach(term -> weights.merge(term, DESCRIPTION_WEIGHT, Float::sum));
+        weights.forEach((term, weight) -> postings.computeIfAbsent(term, this::addTerm).put(id, weight));
+        termsByItem.put(id, weights.keySet());
+    }
+
+    private void remove(Long id) {
+        Set<String> terms = termsByItem.remove(id);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Map<Long, Float> items = postings.get(term);
+            items.remove(id);
+            if (items.isEmpty()) {
+                postings.remove(term);
+                removeTerm(term);
+            }
+        }
+    }
+
+    private Map<Long, Float> addTerm(String term) {
+        trigrams(term).forEach(gram -> termsByTrigram.computeIfAbsent(gram, g -> new HashSet<>()).add(term));
+        return new HashMap<>();
+    }
+
+    private void removeTerm(String term) {
+        for (String gram : trigrams(term)) {
+            Set<String> terms = termsByTrigram.get(gram);
+            terms.remove(term);
+            if (terms.isEmpty()) {
+                termsByTrigram.remove(gram);
+            }
+        }
+    }
+
+    private void write(Runnable change) {
+        writeLocked(() -> {
+            if (pendingWrites != null) {
+                pendingWrites.add(change);
+            }
+            // Otherwise, before the first rebuild, the rebuild reads this change from the database
+            if (initialized) {
+                change.run();
+            }
+        });
+    }
+
+    private void writeLocked(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    static Set<String> tokenize(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (text == null) {
+            return terms;
+        }
+        for (String term : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    // Padded so that word starts and ends count, and one or two letter words still get a gram
+    static List<String> trigrams(String term) {
+        String padded = " " + term + " ";
+        List<String> grams = new ArrayList<>(padded.length() - 2);
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 3));
+        }
+        return grams;
+    }
+
+    /**
+     * Edit distance counting an adjacent swap as one edit, or {@code max + 1} once it is known
+     * to exceed {@code max}.
+     */
+    static int editDistance(String a, String b, int max) {
+        if (Math.abs(a.length() - b.length()) > max) {
+            return max + 1;
+        }
+        int[] previous2 = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    value = Math.min(value, previous2[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] recycled = previous2;
+            previous2 = previous;
+            previous = current;
+            current = recycled;
+        }
+        return Math.min(previous[b.length()], max + 1);
+    }
+
+    private static final class Hit {
+        private final Long itemId;
+        private int matchedTerms;
+        private float score;
+
+        Hit(Long itemId) {
+            this.itemId = itemId;
+        }
+
+        void add(float termScore) {
+            matchedTerms++;
+            score += termScore;
+        }
+
+        Long itemId() {
+            return itemId;
+        }
+
+        int matchedTerms() {
+            return matchedTerms;
+        }
+
+        float score() {
+            return score;
+        }
+    }
+}
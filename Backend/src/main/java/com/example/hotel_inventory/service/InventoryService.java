@@ -1,21 +1,44 @@
 package com.example.hotel_inventory.service;
 
+import com.example.hotel_inventory.dto.InventoryGroupSummary;
+import com.example.hotel_inventory.dto.InventoryItemDto;
 import com.example.hotel_inventory.dto.InventoryStats;
+import com.example.hotel_inventory.dto.StockSummary;
+import com.example.hotel_inventory.dto.StockTransactionDto;
+import com.example.hotel_inventory.dto.response.BulkUpdateSummary;
+import com.example.hotel_inventory.dto.response.CursorPage;
 import com.example.hotel_inventory.dto.request.CreateInventoryItemRequest;
+import com.example.hotel_inventory.dto.request.InventoryItemFilter;
+import com.example.hotel_inventory.dto.request.InventoryItemUpdate;
 import com.example.hotel_inventory.model.InventoryItem;
 import com.example.hotel_inventory.model.StockTransaction;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface InventoryService {
     InventoryItem addItem(CreateInventoryItemRequest request);
     InventoryItem updateItem(Long id, CreateInventoryItemRequest request);
     void deleteItem(Long id);
+    BulkUpdateSummary bulkUpdateItems(List<InventoryItemUpdate> updates, Long userId);
     InventoryItem getItem(Long id);
     List<InventoryItem> getAllItems();
+    Page<InventoryItem> findItems(InventoryItemFilter filter, Pageable pageable);
+    void exportItems(InventoryItemFilter filter, Consumer<InventoryItemDto> sink);
     List<InventoryItem> getLowStockItems();
     List<InventoryItem> getOutOfStockItems();
     InventoryStats getInventoryStats();
+    InventoryStats rebuildInventoryStats();
+    StockSummary getStockSummary();
+    List<InventoryGroupSummary> getCategorySummaries();
+    List<InventoryGroupSummary> getSupplierSummaries();
 
     StockTransaction addStockTransaction(StockTransaction transaction);
     List<StockTransaction> getTransactionsForItem(Long itemId);
+    CursorPage<StockTransactionDto> getTransactionHistory(Long itemId, StockTransaction.TransactionType type,
+                                                          LocalDateTime from, LocalDateTime to,
+                                                          String cursor, int limit);
 } 
\ No newline at end of file
@@ -0,0 +1,242 @@
+package com.example.hotel_inventory.service;
+
+import com.example.hotel_inventory.dto.StockSummary;
+import com.example.hotel_inventory.model.InventoryItem;
+import com.example.hotel_inventory.repository.InventoryItemRepository;
+import com.example.hotel_inventory.repository.StockTransactionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * In-memory running totals for the inventory dashboard.
+ *
+ * Services report every item create/update/delete and stock movement here, so
+ * reading the stats never has to scan inventory_items. Deltas are applied after
+ * the surrounding transaction commits (or immediately when there is none).
+ * {@link #rebuild()} recomputes everything from the database to correct drift.
+ *
+ * A rebuild must not count a change twice: once in its query and again when the delta
+ * arrives. So each delta's transaction is tracked from beforeCommit until the delta is
+ * applied. A rebuild only queries when no transaction is in that window, and queries
+ * again if one entered it meanwhile.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class InventoryStatsAggregate {
+
+    private static final int REBUILD_ATTEMPTS = 5;
+    private static final long COMMIT_WAIT_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final InventoryItemRepository itemRepository;
+    private final StockTransactionRepository transactionRepository;
+
+    private long totalItems;
+    private long lowStockItems;
+    private long outOfStockItems;
+    private BigDecimal totalValue = BigDecimal.ZERO;
+    private long totalTransactions;
+    // Bumped when a delta's transaction starts committing and when the delta is applied, so a
+    // rebuild can tell whether either happened while it was querying
+    private long epoch;
+    // Deltas whose transaction has started committing but which are not applied yet
+    private int committing;
+    private volatile boolean initialized;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    public Totals current() {
+        if (!initialized) {
+            return rebuild();
+        }
+        synchronized (this) {
+            return new Totals(totalItems, lowStockItems, outOfStockItems, totalValue, totalTransactions);
+        }
+    }
+
+    public Totals rebuild() {
+        for (int attempt = 1; ; attempt++) {
+            long epochBefore = awaitCommittedDeltas();
+            // Queried outside the monitor: a virtual thread blocking on JDBC while holding it
+            // would pin its carrier thread
+            StockSummary summary = itemRepository.summarizeStock();
+            long transactions = transactionRepository.count();
+            synchronized (this) {
+                if (epoch != epochBefore) {
+                    // A change committed mid-query may or may not be in the summary, and its delta
+                    // may already have been applied; query again unless changes keep arriving
+                    if (attempt < REBUILD_ATTEMPTS) {
+                        continue;
+                    }
+                    log.warn("Inventory stats changed during each of {} rebuild attempts; using the last one",
+                            REBUILD_ATTEMPTS);
+                }
+                totalItems = summary.getTotalItems();
+                lowStockItems = summary.getLowStockItems();
+                outOfStockItems = summary.getOutOfStockItems();
+                totalValue = summary.getTotalValue();
+                totalTransactions = transactions;
+                initialized = true;
+                log.info("Inventory stats rebuilt: {} items, {} low stock, {} out of stock, value {}",
+                        totalItems, lowStockItems, outOfStockItems, totalValue);
+                return new Totals(totalItems, lowStockItems, outOfStockItems, totalValue, totalTransactions);
+            }
+        }
+    }
+
+    public void itemAdded(InventoryItem item) {
+        StockLevel after = StockLevel.of(item);
+        afterCommit(() -> apply(null, after));
+    }
+
+    public void itemChanged(StockLevel before, InventoryItem item) {
+        itemChanged(before, StockLevel.of(item));
+    }
+
+    public void itemChanged(StockLevel before, StockLevel after) {
+        afterCommit(() -> apply(before, after));
+    }
+
+    public void itemRemoved(StockLevel before) {
+        afterCommit(() -> apply(before, null));
+    }
+
+    public void transactionsRecorded(long count) {
+        afterCommit(() -> {
+            synchronized (this) {
+                epoch++;
+                totalTransactions += count;
+            }
+        });
+    }
+
+    // Like AfterCommit.run, but also marks the window between the start of the commit and the
+    // delta being applied, in which the database may already hold a change the totals do not
+    private void afterCommit(Runnable delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            delta.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean counted;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                synchronized (InventoryStatsAggregate.this) {
+                    epoch++;
+                    committing++;
+                    counted = true;
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                synchronized (InventoryStatsAggregate.this) {
+                    if (status == STATUS_COMMITTED) {
+                        delta.run();
+                    }
+                    if (counted) {
+                        committing--;
+                        epoch++;
+                    }
+                }
+            }
+        });
+    }
+
+    // The epoch once no delta is between its commit and being applied. Commits take
+    // milliseconds; past COMMIT_WAIT_NANOS the epoch check in rebuild() is what is left.
+    private long awaitCommittedDeltas() {
+        long deadline = System.nanoTime() + COMMIT_WAIT_NANOS;
+        while (true) {
+            synchronized (this) {
+                if (committing == 0 || System.nanoTime() - deadline > 0) {
+                    return epoch;
+                }
+            }
+            // Outside the monitor, so the committing threads can get in
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+    }
+
+    private synchronized void apply(StockLevel before, StockLevel after) {
+        epoch++;
+        if (!initialized) {
+            // The next read rebuilds from the database, which already includes this change
+            return;
+        }
+        if (before != null) {
+            totalItems--;
+            lowStockItems -= before.isLowStock() ? 1 : 0;
+            outOfStockItems -= before.isOutOfStock() ? 1 : 0;
+            totalValue = totalValue.subtract(before.value());
+        }
+        if (after != null) {
+            totalItems++;
+            lowStockItems += after.isLowStock() ? 1 : 0;
+            outOfStockItems += after.isOutOfStock() ? 1 : 0;
+            totalValue = totalValue.add(after.value());
+        }
+    }
+
+    /**
+     * The parts of an item that contribute to the totals, captured before a mutation.
+     */
+    @Value
+    public static class StockLevel {
+        int quantity;
+        int minQuantity;
+        BigDecimal price;
+        InventoryItem.ItemStatus status;
+
+        public static StockLevel of(InventoryItem item) {
+            return of(item, item.getQuantity());
+        }
+
+        // The item's level at another quantity, e.g. one written by an UPDATE statement
+        public static StockLevel of(InventoryItem item, int quantity) {
+            return new StockLevel(quantity, item.getMinQuantity(), item.getPrice(),
+                    InventoryItem.ItemStatus.forStock(quantity, item.getMinQuantity(), item.getStatus()));
+        }
+
+        boolean isLowStock() {
+            return status == InventoryItem.ItemStatus.LOW_STOCK;
+        }
+
+        boolean isOutOfStock() {
+            return status == InventoryItem.ItemStatus.OUT_OF_STOCK;
+        }
+
+        BigDecimal value() {
+            return price != null ? price.multiply(BigDecimal.valueOf(quantity)) : BigDecimal.ZERO;
+        }
+    }
+
+    @Value
+    public static class Totals {
+        long totalItems;
+        long lowStockItems;
+        long outOfStockItems;
+        BigDecimal totalValue;
+        long totalTransactions;
+
+        public Totals minus(Totals other) {
+            return new Totals(totalItems - other.totalItems, lowStockItems - other.lowStockItems,
+                    outOfStockItems - other.outOfStockItems, totalValue.subtract(other.totalValue),
+                    totalTransactions - other.totalTransactions);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.hotel_inventory.service;
+
+import com.example.hotel_inventory.dto.LocationDto;
+import com.example.hotel_inventory.dto.ParLevelDto;
+import com.example.hotel_inventory.dto.request.CreateLocationRequest;
+import com.example.hotel_inventory.dto.request.ParLevelRequest;
+
+import java.util.List;
+
+public interface LocationService {
+
+    // All locations, or those of one type when locationType is given
+    List<LocationDto> getLocations(String locationType);
+
+    LocationDto getLocation(Long id);
+
+    LocationDto createLocation(CreateLocationRequest request);
+
+    LocationDto updateLocation(Long id, CreateLocationRequest request);
+
+    void deleteLocation(Long id);
+
+    List<ParLevelDto> getParLevels(Long locationId);
+
+    /**
+     * Replaces the location's par levels with the ones given: existing entries are updated,
+     * new ones inserted and the rest deleted.
+     */
+    List<ParLevelDto> replaceParLevels(Long locationId, List<ParLevelRequest> parLevels);
+}
@@ -0,0 +1,117 @@
+package com.example.hotel_inventory.service;
+
+import com.example.hotel_inventory.event.DomainEventHandler;
+import com.example.hotel_inventory.model.OutboxEvent;
+import com.example.hotel_inventory.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Delivers outbox events to their {@link DomainEventHandler}s in the background.
+ *
+ * Every poll takes up to {@value #BATCH_SIZE} of the oldest events with SELECT ... FOR UPDATE
+ * SKIP LOCKED, so several application instances can dispatch side by side without taking the
+ * same rows. Each handler gets all events of its type from the batch in one call, in the order
+ * they were published. The batch is deleted in the same transaction once every handler has
+ * returned; events nobody handles are deleted unread.
+ *
+ * If a handler throws, the batch rolls back and the failing type's events are charged an
+ * attempt; after {@value #MAX_ATTEMPTS} attempts they are left in the table for inspection.
+ */
+@Component
+@Slf4j
+public class OutboxDispatcher {
+
+    static final int BATCH_SIZE = 200;
+    static final int MAX_ATTEMPTS = 5;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<String, DomainEventHandler<?>> handlers;
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper,
+                            TransactionTemplate transactionTemplate, List<DomainEventHandler<?>> handlers) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.handlers = handlers.stream()
+                .collect(Collectors.toMap(handler -> handler.eventType().getSimpleName(), Function.identity()));
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.poll-interval-ms:500}", initialDelayString = "${outbox.poll-interval-ms:500}")
+    public void poll() {
+        try {
+            // Keep going while batches come back full
+            while (dispatchBatch() == BATCH_SIZE) {
+                log.debug("Outbox backlog, dispatching another batch");
+            }
+        } catch (RuntimeException e) {
+            log.warn("Outbox dispatch failed", e);
+        }
+    }
+
+    /**
+     * Dispatches one batch and returns how many events it took, or 0 if a handler failed.
+     */
+    public int dispatchBatch() {
+        List<Long> failedIds = new ArrayList<>();
+        try {
+            return transactionTemplate.execute(status -> {
+                List<OutboxEvent> events = outboxEventRepository.findPendingForUpdate(MAX_ATTEMPTS, Limit.of(BATCH_SIZE));
+                if (events.isEmpty()) {
+                    return 0;
+                }
+                Map<String, List<OutboxEvent>> byType = events.stream()
+                        .collect(Collectors.groupingBy(OutboxEvent::getType, LinkedHashMap::new, Collectors.toList()));
+                byType.forEach((type, batch) -> {
+                    DomainEventHandler<?> handler = handlers.get(type);
+                    if (handler == null) {
+                        return;
+                    }
+                    try {
+                        deliver(handler, batch);
+                    } catch (RuntimeException e) {
+                        batch.forEach(event -> failedIds.add(event.getId()));
+                        throw e;
+                    }
+                });
+                outboxEventRepository.deleteByIdIn(events.stream().map(OutboxEvent::getId).toList());
+                return events.size();
+            });
+        } catch (RuntimeException e) {
+            if (failedIds.isEmpty()) {
+                throw e;
+            }
+            String error = e.getClass().getSimpleName() + ": " + e.getMessage();
+            transactionTemplate.executeWithoutResult(status -> outboxEventRepository.recordFailure(
+                    failedIds, error.length() > 1000 ? error.substring(0, 1000) : error));
+            log.warn("Outbox handler failed for {} events; they will be retried", failedIds.size(), e);
+            return 0;
+        }
+    }
+
+    private <E> void deliver(DomainEventHandler<E> handler, List<OutboxEvent> batch) {
+        List<E> events = new ArrayList<>(batch.size());
+        for (OutboxEvent event : batch) {
+            try {
+                events.add(objectMapper.readValue(event.getPayload(), handler.eventType()));
+            } catch (JsonProcessingException e) {
+                throw new RuntimeException("Unreadable outbox event " + event.getId(), e);
+            }
+        }
+        handler.handle(events);
+    }
+}
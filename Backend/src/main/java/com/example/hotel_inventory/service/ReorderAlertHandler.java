@@ -0,0 +1,61 @@
+package com.example.hotel_inventory.service;
+
+import com.example.hotel_inventory.event.DomainEventHandler;
+import com.example.hotel_inventory.event.StockChanged;
+import com.example.hotel_inventory.model.InventoryItem;
+import com.example.hotel_inventory.repository.InventoryItemRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Raises a reorder alert when an item's stock drops to its minimum quantity or below.
+ * Only the move that crosses the minimum alerts, so an item that stays low is reported once.
+ * Alerts are logged and counted as hotel.inventory.reorder.alerts.
+ */
+@Component
+@Slf4j
+public class ReorderAlertHandler implements DomainEventHandler<StockChanged> {
+
+    private final InventoryItemRepository inventoryItemRepository;
+    private final Counter alerts;
+
+    public ReorderAlertHandler(InventoryItemRepository inventoryItemRepository, MeterRegistry meterRegistry) {
+        this.inventoryItemRepository = inventoryItemRepository;
+        this.alerts = Counter.builder("hotel.inventory.reorder.alerts")
+                .description("Items whose stock dropped to or below their minimum quantity")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Class<StockChanged> eventType() {
+        return StockChanged.class;
+    }
+
+    @Override
+    public void handle(List<StockChanged> events) {
+        Map<Long, StockChanged> crossed = new LinkedHashMap<>();
+        for (StockChanged event : events) {
+            if (event.getPreviousQuantity() > event.getMinQuantity() && event.getNewQuantity() <= event.getMinQuantity()) {
+                crossed.put(event.getItemId(), event);
+            }
+        }
+        if (crossed.isEmpty()) {
+            return;
+        }
+
+        // One query for the whole batch; items deleted since are skipped
+        for (InventoryItem item : inventoryItemRepository.findWithReferencesByIdIn(crossed.keySet())) {
+            StockChanged event = crossed.get(item.getId());
+            log.warn("Reorder {} (id {}): {} left, minimum {}, supplier {}", item.getName(), item.getId(),
+                    event.getNewQuantity(), event.getMinQuantity(),
+                    item.getSupplier() != null ? item.getSupplier().getName() : "none");
+            alerts.increment();
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.example.hotel_inventory.service;
+
+import com.example.hotel_inventory.dto.DailyConsumption;
+import com.example.hotel_inventory.dto.ItemForecastDto;
+import com.example.hotel_inventory.dto.response.ForecastRunSummary;
+import com.example.hotel_inventory.model.ItemForecast;
+import com.example.hotel_inventory.repository.InventoryItemRepository;
+import com.example.hotel_inventory.repository.ItemForecastRepository;
+import com.example.hotel_inventory.repository.StockTransactionRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Forecasts each item's consumption from the stock ledger and derives a reorder point and
+ * days of cover from it, kept in item_forecasts and served to the inventory DTOs from memory.
+ *
+ * Daily usage (units removed by REMOVE transactions per day) is smoothed exponentially, with
+ * its variance alongside, so a forecast only needs its previous value and the days since.
+ * Each run reads the ledger from the day after the latest forecastDate up to the given day,
+ * one aggregated row per item and active day, so a nightly run reads one day's worth of rows
+ * however long the history is. Transactions later back-dated into days already folded in are
+ * not picked up.
+ *
+ * Reorder point = usage over the lead time plus safety stock for a 95% service level:
+ * dailyUsage * L + 1.65 * sqrt(variance * L), with L = forecast.lead-time-days.
+ */
+@Component
+@Slf4j
+public class ReorderForecaster {
+
+    static final double SMOOTHING = 0.1;
+    static final double SERVICE_LEVEL_Z = 1.65;
+    // Smoothing leaves nothing of a forecast after this many idle days
+    private static final int MAX_IDLE_DAYS = 1_000;
+
+    private final ItemForecastRepository forecastRepository;
+    private final StockTransactionRepository transactionRepository;
+    private final InventoryItemRepository itemRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final int leadTimeDays;
+
+    // Runs read the watermark and fold in the days after it; two at once would fold them in twice
+    private final ReentrantLock runLock = new ReentrantLock();
+
+    private volatile Map<Long, ItemForecast> forecasts = Map.of();
+
+    public ReorderForecaster(ItemForecastRepository forecastRepository,
+                             StockTransactionRepository transactionRepository,
+                             InventoryItemRepository itemRepository,
+                             TransactionTemplate transactionTemplate,
+                             EntityManager entityManager,
+                             @Value("${forecast.lead-time-days:7}") int leadTimeDays) {
+        this.forecastRepository = forecastRepository;
+        this.transactionRepository = transactionRepository;
+        this.itemRepository = itemRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.entityManager = entityManager;
+        this.leadTimeDays = leadTimeDays;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reload();
+    }
+
+    /**
+     * The item's latest forecast, or null before the job has covered it.
+     */
+    public ItemForecast forecastFor(Long itemId) {
+        return forecasts.get(itemId);
+    }
+
+    @Scheduled(cron = "${forecast.cron:0 30 2 * * *}")
+    public void runNightly() {
+        try {
+            run(LocalDate.now().minusDays(1));
+        } catch (RuntimeException e) {
+            log.warn("Forecast run failed", e);
+        }
+    }
+
+    /**
+     * Brings every item's forecast up to the end of the given day, which must be over: the
+     * next run starts after the latest forecast date, so a day still taking stock movements
+     * would never be read again. A run that overlaps another one (the nightly job and a
+     * manual run) waits for it and then only covers the days it left.
+     */
+    public ForecastRunSummary run(LocalDate through) {
+        if (!through.isBefore(LocalDate.now())) {
+            throw new RuntimeException("Forecasts can only run through yesterday or earlier");
+        }
+        long start = System.nanoTime();
+        ForecastRunSummary summary;
+        runLock.lock();
+        try {
+            summary = transactionTemplate.execute(status -> forecastThrough(through));
+            reload();
+        } finally {
+            runLock.unlock();
+        }
+        summary.setElapsedMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        log.info("Forecast through {}: {} ledger rows from {}, {} items ({} new, {} pruned) in {} ms",
+                through, summary.getLedgerRows(), summary.getFromDate(), summary.getItemsForecast(),
+                summary.getItemsCreated(), summary.getItemsPruned(), summary.getElapsedMillis());
+        return summary;
+    }
+
+    private ForecastRunSummary forecastThrough(LocalDate through) {
+        LocalDate latest = forecastRepository.findLatestForecastDate();
+        LocalDate from;
+        if (latest != null) {
+            from = latest.plusDays(1);
+        } else {
+            LocalDateTime earliest = transactionRepository.findEarliestTransactionDate();
+            from = earliest != null && earliest.toLocalDate().isBefore(through) ? earliest.toLocalDate() : through;
+        }
+        if (from.isAfter(through)) {
+            return ForecastRunSummary.builder().forecastDate(latest).build();
+        }
+
+        Map<Long, ItemForecast> existing = forecastRepository.findAll().stream()
+                .collect(Collectors.toMap(ItemForecast::getItemId, Function.identity()));
+        Map<Long, Usage> usage = new HashMap<>();
+        Function<Long, Usage> start = itemId -> Usage.startingFrom(existing.get(itemId), from.minusDays(1));
+
+        long ledgerRows = 0;
+        try (Stream<DailyConsumption> days = transactionRepository.streamDailyConsumption(
+                from.atStartOfDay(), through.plusDays(1).atStartOfDay())) {
+            for (DailyConsumption day : (Iterable<DailyConsumption>) days::iterator) {
+                usage.computeIfAbsent(day.getItemId(), start).record(day.getDay(), day.getQuantity());
+                ledgerRows++;
+            }
+        }
+
+        int created = 0;
+        int forecast = 0;
+        for (InventoryItemRepository.ItemQuantity item : itemRepository.findAllQuantities()) {
+            Usage itemUsage = usage.computeIfAbsent(item.getId(), start);
+            itemUsage.idleUntil(through);
+
+            ItemForecast itemForecast = existing.get(item.getId());
+            boolean isNew = itemForecast == null;
+            if (isNew) {
+                itemForecast = ItemForecast.builder().itemId(item.getId()).build();
+            }
+            itemForecast.setDailyUsage(itemUsage.mean);
+            itemForecast.setDailyUsageVariance(itemUsage.variance);
+            itemForecast.setReorderPoint(reorderPoint(itemUsage));
+            // The quantity now rather than at through; ItemForecastDto recomputes it on every read
+            itemForecast.setDaysOfCover(ItemForecastDto.daysOfCover(item.getQuantity(), itemUsage.mean));
+            itemForecast.setForecastDate(through);
+            // Existing rows are managed and flush as batched UPDATEs at commit
+            if (isNew) {
+                entityManager.persist(itemForecast);
+                created++;
+            }
+            forecast++;
+        }
+        int pruned = forecastRepository.deleteOrphans();
+
+        return ForecastRunSummary.builder()
+                .fromDate(from)
+                .forecastDate(through)
+                .ledgerRows(ledgerRows)
+                .itemsForecast(forecast)
+                .itemsCreated(created)
+                .itemsPruned(pruned)
+                .build();
+    }
+
+    private int reorderPoint(Usage usage) {
+        double leadTimeDemand = usage.mean * leadTimeDays;
+        double safetyStock = SERVICE_LEVEL_Z * Math.sqrt(usage.variance * leadTimeDays);
+        return (int) Math.ceil(leadTimeDemand + safetyStock);
+    }
+
+    private void reload() {
+        forecasts = forecastRepository.findAll().stream()
+                .collect(Collectors.toUnmodifiableMap(ItemForecast::getItemId, Function.identity()));
+    }
+
+    /**
+     * Exponentially weighted mean and variance of one item's daily usage, as of {@code day}.
+     */
+    private static final class Usage {
+        private double mean;
+        private double variance;
+        private LocalDate day;
+
+        static Usage startingFrom(ItemForecast forecast, LocalDate defaultDay) {
+            Usage usage = new Usage();
+            if (forecast != null) {
+                usage.mean = forecast.getDailyUsage();
+                usage.variance = forecast.getDailyUsageVariance();
+                usage.day = forecast.getForecastDate();
+            } else {
+                usage.day = defaultDay;
+            }
+            return usage;
+        }
+
+        // Days arrive in order, each once
+        void record(LocalDate usageDay, long quantity) {
+            idleUntil(usageDay.minusDays(1));
+            observe(quantity);
+            day = usageDay;
+        }
+
+        // Every day after the current one up to the given day had no usage
+        void idleUntil(LocalDate lastIdleDay) {
+            long idleDays = Math.min(ChronoUnit.DAYS.between(day, lastIdleDay), MAX_IDLE_DAYS);
+            for (long i = 0; i < idleDays && (mean != 0 || variance != 0); i++) {
+                observe(0);
+            }
+            if (lastIdleDay.isAfter(day)) {
+                day = lastIdleDay;
+            }
+        }
+
+        private void observe(double quantity) {
+            double difference = quantity - mean;
+            double increment = SMOOTHING * difference;
+            mean += increment;
+            variance = (1 - SMOOTHING) * (variance + difference * increment);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.hotel_inventory.service;
+
+import com.example.hotel_inventory.config.CacheConfig;
+import com.example.hotel_inventory.dto.SupplierDto;
+import com.example.hotel_inventory.dto.request.CreateSupplierRequest;
+import com.example.hotel_inventory.model.Supplier;
+import com.example.hotel_inventory.repository.SupplierRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class SupplierService {
+
+    private final SupplierRepository supplierRepository;
+
+    @Cacheable(CacheConfig.SUPPLIERS)
+    public List<SupplierDto> getAllSuppliers() {
+        return supplierRepository.findAll().stream()
+                .map(SupplierDto::fromEntity)
+                .collect(Collectors.toList());
+    }
+
+    public Page<SupplierDto> getSupplierPage(Pageable pageable) {
+        return supplierRepository.findAll(pageable).map(SupplierDto::fromEntity);
+    }
+
+    @Cacheable(cacheNames = CacheConfig.SUPPLIER, key = "#id", unless = "#result == null")
+    public Optional<SupplierDto> getSupplier(Long id) {
+        return supplierRepository.findById(id)
+                .map(SupplierDto::fromEntity);
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.SUPPLIERS, allEntries = true)
+    public SupplierDto createSupplier(CreateSupplierRequest request) {
+        Supplier supplier = Supplier.builder()
+                .name(request.getName())
+                .description(request.getDescription())
+                .contactPerson(request.getContactPerson())
+                .phoneNumber(request.getPhoneNumber())
+                .email(request.getEmail())
+                .address(request.getAddress())
+                .supplyItem(request.getSupplyItem())
+                .isActive(request.isActive())
+                .build();
+        return SupplierDto.fromEntity(supplierRepository.save(supplier));
+    }
+
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.SUPPLIERS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.SUPPLIER, key = "#id")
+    })
+    public Optional<SupplierDto> updateSupplier(Long id, CreateSupplierRequest request) {
+        return supplierRepository.findById(id)
+                .map(supplier -> {
+                    supplier.setName(request.getName());
+                    supplier.setDescription(request.getDescription());
+                    supplier.setContactPerson(request.getContactPerson());
+                    supplier.setPhoneNumber(request.getPhoneNumber());
+                    supplier.setEmail(request.getEmail());
+                    supplier.setAddress(request.getAddress());
+                    supplier.setSupplyItem(request.getSupplyItem());
+                    supplier.setActive(request.isActive());
+                    return SupplierDto.fromEntity(supplierRepository.save(supplier));
+                });
+    }
+
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.SUPPLIERS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.SUPPLIER, key = "#id")
+    })
+    public boolean deleteSupplier(Long id) {
+        if (!supplierRepository.existsById(id)) {
+            return false;
+        }
+        supplierRepository.deleteById(id);
+        return true;
+    }
+}
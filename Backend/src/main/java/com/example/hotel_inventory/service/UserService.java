@@ -1,11 +1,15 @@
 package com.example.hotel_inventory.service;
 
+import com.example.hotel_inventory.config.CacheConfig;
 import com.example.hotel_inventory.dto.UserDto;
 import com.example.hotel_inventory.dto.request.CreateUserRequest;
 import com.example.hotel_inventory.dto.request.UpdateUserRequest;
 import com.example.hotel_inventory.model.User;
 import com.example.hotel_inventory.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,22 +24,29 @@ public class UserService {
 
     private final UserRepository userRepository;
 
+    @Cacheable(CacheConfig.USERS)
     public List<UserDto> getAllUsers() {
         return userRepository.findAll().stream()
                 .map(UserDto::fromEntity)
                 .collect(Collectors.toList());
     }
 
+    @Cacheable(cacheNames = CacheConfig.USER, key = "#id", unless = "#result == null")
     public Optional<UserDto> getUserById(Long id) {
         return userRepository.findById(id)
                 .map(UserDto::fromEntity);
     }
 
+    @Cacheable(cacheNames = CacheConfig.USER_BY_USERNAME, key = "#username", unless = "#result == null")
     public Optional<UserDto> getUserByUsername(String username) {
         return userRepository.findByUsername(username)
                 .map(UserDto::fromEntity);
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.USERS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.USER_BY_USERNAME, key = "#request.username")
+    })
     public UserDto createUser(CreateUserRequest request) {
         // Check if username already exists
         if (userRepository.existsByUsername(request.getUsername())) {
@@ -61,6 +72,11 @@ public class UserService {
         return UserDto.fromEntity(savedUser);
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.USERS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.USER, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.USER_BY_USERNAME, allEntries = true)
+    })
     public UserDto updateUser(Long id, UpdateUserRequest request) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + id));
@@ -102,6 +118,11 @@ public class UserService {
         return UserDto.fromEntity(updatedUser);
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.USERS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.USER, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.USER_BY_USERNAME, allEntries = true)
+    })
     public void deleteUser(Long id) {
         if (!userRepository.existsById(id)) {
             throw new RuntimeException("User not found with id: " + id);
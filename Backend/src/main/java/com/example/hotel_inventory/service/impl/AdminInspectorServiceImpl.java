@@ -1,6 +1,13 @@
 package com.example.hotel_inventory.service.impl;
 
 import com.example.hotel_inventory.dto.ItemRequestDto;
+import com.example.hotel_inventory.dto.DiscrepancyCounts;
+import com.example.hotel_inventory.dto.request.ItemRequestDecision;
+import com.example.hotel_inventory.dto.response.DiscrepancyStatsDto;
+import com.example.hotel_inventory.dto.response.ItemRequestDecisionResult;
+import com.example.hotel_inventory.event.ItemRequestApproved;
+import com.example.hotel_inventory.event.StockChanged;
+import com.example.hotel_inventory.model.InspectionDailyRollup;
 import com.example.hotel_inventory.model.ItemRequest;
 import com.example.hotel_inventory.model.InventoryItem;
 import com.example.hotel_inventory.model.StockTransaction;
@@ -10,22 +17,44 @@ import com.example.hotel_inventory.repository.InventoryItemRepository;
 import com.example.hotel_inventory.repository.StockTransactionRepository;
 import com.example.hotel_inventory.repository.UserRepository;
 import com.example.hotel_inventory.service.AdminInspectorService;
+import com.example.hotel_inventory.service.DomainEvents;
+import com.example.hotel_inventory.service.InspectionDiscrepancyRollup;
+import com.example.hotel_inventory.service.InventoryChangeStream;
+import com.example.hotel_inventory.service.InventoryStatsAggregate;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class AdminInspectorServiceImpl implements AdminInspectorService {
 
+    private static final String APPROVAL_NOTES = "Request approved and inventory updated";
+
     private final ItemRequestRepository itemRequestRepository;
     private final InventoryItemRepository inventoryItemRepository;
     private final StockTransactionRepository stockTransactionRepository;
     private final UserRepository userRepository;
+    private final InventoryStatsAggregate statsAggregate;
+    private final InventoryChangeStream changeStream;
+    private final DomainEvents domainEvents;
+    private final EntityManager entityManager;
+    private final InspectionDiscrepancyRollup discrepancyRollup;
 
     @Override
     public List<ItemRequestDto> getItemRequests() {
@@ -48,56 +77,60 @@ public class AdminInspectorServiceImpl implements AdminInspectorService {
 
         InventoryItem inventoryItem = itemRequest.getInventoryItem();
         int requestedQuantity = itemRequest.getRequestedQuantity();
-        int currentQuantity = inventoryItem.getQuantity();
-        
-        // Check if we have enough stock
-        if (currentQuantity < requestedQuantity) {
+
+        // Check and take stock in one conditional UPDATE; no row is read-then-written in Java.
+        // The item row is locked before the request row, the same order as the bulk path.
+        if (inventoryItemRepository.decrementStock(inventoryItem.getId(), requestedQuantity, adminUser) == 0) {
             throw new RuntimeException(
                 String.format("Insufficient stock. Available: %d, Requested: %d", 
-                    currentQuantity, requestedQuantity));
+                    inventoryItemRepository.findQuantityById(inventoryItem.getId()), requestedQuantity));
         }
-        
-        // Update inventory quantity
-        int newQuantity = currentQuantity - requestedQuantity;
-        inventoryItem.setQuantity(newQuantity);
-        inventoryItem.setUpdatedBy(adminUser);
-        
-        // Update status based on new quantity
-        if (newQuantity == 0) {
-            inventoryItem.setStatus(InventoryItem.ItemStatus.OUT_OF_STOCK);
-        } else if (newQuantity <= inventoryItem.getMinQuantity()) {
-            inventoryItem.setStatus(InventoryItem.ItemStatus.LOW_STOCK);
+
+        // Claim the request so two admins cannot both approve it; throwing rolls back the decrement
+        if (itemRequestRepository.markProcessed(requestId, ItemRequest.RequestStatus.APPROVED,
+                adminUser, APPROVAL_NOTES) == 0) {
+            throw new RuntimeException("Item request is already processed");
         }
-        
-        inventoryItemRepository.save(inventoryItem);
+
+        // Our row lock is held until commit, so this is exactly the quantity we produced
+        int newQuantity = inventoryItemRepository.findQuantityById(inventoryItem.getId());
+        int previousQuantity = newQuantity + requestedQuantity;
         
         // Create stock transaction record
         StockTransaction stockTransaction = StockTransaction.builder()
                 .item(inventoryItem)
                 .type(StockTransaction.TransactionType.REMOVE)
                 .quantity(requestedQuantity)
-                .previousQuantity(currentQuantity)
+                .previousQuantity(previousQuantity)
                 .newQuantity(newQuantity)
-                .reason(String.format("Approved request by %s for %s (%s)", 
-                    itemRequest.getInspector().getFirstName() + " " + itemRequest.getInspector().getLastName(),
-                    itemRequest.getLocationType(), 
-                    itemRequest.getLocationIdentifier()))
+                .reason(approvalReason(itemRequest))
                 .performedBy(adminUser)
                 .transactionDate(LocalDateTime.now())
                 .build();
         
         stockTransactionRepository.save(stockTransaction);
+        // Follow-up work (reorder alerts, ...) runs off the request thread, see OutboxDispatcher
+        domainEvents.publishAll(List.of(
+                stockChanged(inventoryItem.getId(), previousQuantity, newQuantity, inventoryItem.getMinQuantity(), adminUser),
+                approved(itemRequest, adminUser)));
+        InventoryStatsAggregate.StockLevel after = InventoryStatsAggregate.StockLevel.of(inventoryItem, newQuantity);
+        statsAggregate.itemChanged(InventoryStatsAggregate.StockLevel.of(inventoryItem, previousQuantity), after);
+        statsAggregate.transactionsRecorded(1);
+        // Same status decrementStock wrote
+        changeStream.itemChanged(inventoryItem.getId(), newQuantity, after.getStatus());
         
-        // Update item request status
+        // The claim was written with an UPDATE statement; mirror it on a detached copy for the response
+        entityManager.detach(itemRequest);
         itemRequest.setStatus(ItemRequest.RequestStatus.APPROVED);
         itemRequest.setApprovedBy(adminUser);
-        itemRequest.setApprovalNotes("Request approved and inventory updated");
-        itemRequestRepository.save(itemRequest);
+        itemRequest.setApprovalNotes(APPROVAL_NOTES);
+        itemRequest.setUpdatedAt(LocalDateTime.now());
 
         return convertToDto(itemRequest);
     }
 
     @Override
+    @Transactional
     public ItemRequestDto rejectItemRequest(Long requestId, Long adminUserId, String rejectionNotes) {
         ItemRequest itemRequest = itemRequestRepository.findById(requestId)
                 .orElseThrow(() -> new RuntimeException("Item request not found"));
@@ -109,14 +142,206 @@ public class AdminInspectorServiceImpl implements AdminInspectorService {
         User adminUser = userRepository.findById(adminUserId)
                 .orElseThrow(() -> new RuntimeException("Admin user not found"));
 
+        // Same conditional claim as approval, so a reject cannot overwrite an approval that
+        // committed after the read above (or the other way round)
+        if (itemRequestRepository.markProcessed(requestId, ItemRequest.RequestStatus.REJECTED,
+                adminUser, rejectionNotes) == 0) {
+            throw new RuntimeException("Item request is already processed");
+        }
+
+        entityManager.detach(itemRequest);
         itemRequest.setStatus(ItemRequest.RequestStatus.REJECTED);
         itemRequest.setApprovedBy(adminUser);
         itemRequest.setApprovalNotes(rejectionNotes);
-        itemRequestRepository.save(itemRequest);
+        itemRequest.setUpdatedAt(LocalDateTime.now());
 
         return convertToDto(itemRequest);
     }
 
+    @Override
+    @Transactional
+    public List<ItemRequestDecisionResult> processItemRequests(List<ItemRequestDecision> decisions, Long adminUserId) {
+        User adminUser = userRepository.findById(adminUserId)
+                .orElseThrow(() -> new RuntimeException("Admin user not found"));
+
+        Set<Long> requestIds = decisions.stream()
+                .map(ItemRequestDecision::getRequestId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (requestIds.isEmpty()) {
+            return List.of();
+        }
+
+        // Lock items, then requests, each in id order: one SELECT ... FOR UPDATE per table
+        Map<Long, InventoryItem> items = inventoryItemRepository
+                .findAllForUpdateByIdIn(itemRequestRepository.findInventoryItemIdsByIdIn(requestIds)).stream()
+                .collect(Collectors.toMap(InventoryItem::getId, Function.identity()));
+        Map<Long, ItemRequest> requests = itemRequestRepository.findAllForUpdateByIdIn(requestIds).stream()
+                .collect(Collectors.toMap(ItemRequest::getId, Function.identity()));
+
+        // Decisions are applied in the order given, so earlier approvals win when stock runs short
+        Map<Long, InventoryStatsAggregate.StockLevel> levelsBefore = new LinkedHashMap<>();
+        List<StockTransaction> stockTransactions = new ArrayList<>();
+        List<Object> events = new ArrayList<>();
+        List<ItemRequestDecisionResult> results = new ArrayList<>(decisions.size());
+        LocalDateTime now = LocalDateTime.now();
+
+        for (ItemRequestDecision decision : decisions) {
+            if (decision.getAction() == null) {
+                results.add(ItemRequestDecisionResult.failed(decision.getRequestId(), "Action is required"));
+                continue;
+            }
+            ItemRequest itemRequest = requests.get(decision.getRequestId());
+            if (itemRequest == null) {
+                results.add(ItemRequestDecisionResult.failed(decision.getRequestId(), "Item request not found"));
+                continue;
+            }
+            if (itemRequest.getStatus() != ItemRequest.RequestStatus.PENDING) {
+                results.add(ItemRequestDecisionResult.failed(decision.getRequestId(), "Item request is already processed"));
+                continue;
+            }
+
+            if (decision.getAction() == ItemRequestDecision.Action.REJECT) {
+                itemRequest.setStatus(ItemRequest.RequestStatus.REJECTED);
+                itemRequest.setApprovedBy(adminUser);
+                itemRequest.setApprovalNotes(decision.getNotes());
+                results.add(succeeded(itemRequest));
+                continue;
+            }
+
+            InventoryItem inventoryItem = items.get(itemRequest.getInventoryItem().getId());
+            int requestedQuantity = itemRequest.getRequestedQuantity();
+            int previousQuantity = inventoryItem.getQuantity();
+            if (previousQuantity < requestedQuantity) {
+                results.add(ItemRequestDecisionResult.failed(decision.getRequestId(),
+                        String.format("Insufficient stock. Available: %d, Requested: %d",
+                                previousQuantity, requestedQuantity)));
+                continue;
+            }
+
+            levelsBefore.putIfAbsent(inventoryItem.getId(), InventoryStatsAggregate.StockLevel.of(inventoryItem));
+            int newQuantity = previousQuantity - requestedQuantity;
+            inventoryItem.setQuantity(newQuantity);
+            inventoryItem.setUpdatedBy(adminUser);
+
+            stockTransactions.add(StockTransaction.builder()
+                    .item(inventoryItem)
+                    .type(StockTransaction.TransactionType.REMOVE)
+                    .quantity(requestedQuantity)
+                    .previousQuantity(previousQuantity)
+                    .newQuantity(newQuantity)
+                    .reason(approvalReason(itemRequest))
+                    .performedBy(adminUser)
+                    .transactionDate(now)
+                    .build());
+
+            itemRequest.setStatus(ItemRequest.RequestStatus.APPROVED);
+            itemRequest.setApprovedBy(adminUser);
+            itemRequest.setApprovalNotes(decision.getNotes() != null ? decision.getNotes() : APPROVAL_NOTES);
+            events.add(approved(itemRequest, adminUser));
+            results.add(succeeded(itemRequest));
+        }
+
+        // Items and requests are managed, so their UPDATEs go out as JDBC batches at flush,
+        // one per item however many requests drew from it
+        stockTransactionRepository.saveAll(stockTransactions);
+        levelsBefore.forEach((itemId, before) -> events.add(stockChanged(
+                itemId, before.getQuantity(), items.get(itemId).getQuantity(), before.getMinQuantity(), adminUser)));
+        domainEvents.publishAll(events);
+
+        levelsBefore.forEach((itemId, before) -> {
+            statsAggregate.itemChanged(before, items.get(itemId));
+            changeStream.itemChanged(items.get(itemId));
+        });
+        statsAggregate.transactionsRecorded(stockTransactions.size());
+
+        return results;
+    }
+
+    private ItemRequestDecisionResult succeeded(ItemRequest itemRequest) {
+        return ItemRequestDecisionResult.builder()
+                .requestId(itemRequest.getId())
+                .success(true)
+                .message(itemRequest.getStatus() == ItemRequest.RequestStatus.APPROVED
+                        ? "Approved" : "Rejected")
+                .request(convertToDto(itemRequest))
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DiscrepancyStatsDto> getDiscrepancyStats(InspectionDailyRollup.Dimension groupBy,
+                                                         LocalDate from, LocalDate to) {
+        Collection<DiscrepancyCounts> counts = discrepancyRollup.report(groupBy, from, to);
+        Map<String, String> labels = discrepancyLabels(groupBy, counts);
+        return counts.stream()
+                .map(count -> DiscrepancyStatsDto.builder()
+                        .key(count.getKey())
+                        .label(labels.getOrDefault(count.getKey(), count.getKey()))
+                        .lines(count.getLines())
+                        .shortLines(count.getShortLines())
+                        .shortUnits(count.getShortUnits())
+                        .damagedLines(count.getDamagedLines())
+                        .missingLines(count.getMissingLines())
+                        .shortageRate(rate(count.getShortLines(), count.getLines()))
+                        .damageRate(rate(count.getDamagedLines(), count.getLines()))
+                        .missingRate(rate(count.getMissingLines(), count.getLines()))
+                        .build())
+                .sorted(Comparator.comparingLong((DiscrepancyStatsDto stats) ->
+                        stats.getShortLines() + stats.getDamagedLines() + stats.getMissingLines()).reversed())
+                .collect(Collectors.toList());
+    }
+
+    // Item and inspector keys are ids; show their names
+    private Map<String, String> discrepancyLabels(InspectionDailyRollup.Dimension groupBy,
+                                                  Collection<DiscrepancyCounts> counts) {
+        if (groupBy != InspectionDailyRollup.Dimension.ITEM && groupBy != InspectionDailyRollup.Dimension.INSPECTOR) {
+            return Map.of();
+        }
+        List<Long> ids = counts.stream().map(count -> Long.valueOf(count.getKey())).collect(Collectors.toList());
+        if (groupBy == InspectionDailyRollup.Dimension.ITEM) {
+            return inventoryItemRepository.findAllById(ids).stream()
+                    .collect(Collectors.toMap(item -> String.valueOf(item.getId()), InventoryItem::getName));
+        }
+        return userRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(user -> String.valueOf(user.getId()),
+                        user -> user.getFirstName() + " " + user.getLastName()));
+    }
+
+    private static double rate(long count, long lines) {
+        return lines == 0 ? 0 : Math.round(count * 10_000.0 / lines) / 10_000.0;
+    }
+
+    private StockChanged stockChanged(Long itemId, int previousQuantity, int newQuantity, int minQuantity, User adminUser) {
+        return StockChanged.builder()
+                .itemId(itemId)
+                .previousQuantity(previousQuantity)
+                .newQuantity(newQuantity)
+                .minQuantity(minQuantity)
+                .type(StockTransaction.TransactionType.REMOVE)
+                .performedById(adminUser.getId())
+                .build();
+    }
+
+    private ItemRequestApproved approved(ItemRequest itemRequest, User adminUser) {
+        return ItemRequestApproved.builder()
+                .requestId(itemRequest.getId())
+                .itemId(itemRequest.getInventoryItem().getId())
+                .quantity(itemRequest.getRequestedQuantity())
+                .locationType(itemRequest.getLocationType())
+                .locationIdentifier(itemRequest.getLocationIdentifier())
+                .inspectorId(itemRequest.getInspector().getId())
+                .approvedById(adminUser.getId())
+                .build();
+    }
+
+    private String approvalReason(ItemRequest itemRequest) {
+        return String.format("Approved request by %s for %s (%s)", 
+                itemRequest.getInspector().getFirstName() + " " + itemRequest.getInspector().getLastName(),
+                itemRequest.getLocationType(), 
+                itemRequest.getLocationIdentifier());
+    }
+
     private ItemRequestDto convertToDto(ItemRequest itemRequest) {
         return ItemRequestDto.builder()
                 .id(itemRequest.getId())
@@ -125,6 +350,7 @@ public class AdminInspectorServiceImpl implements AdminInspectorService {
                 .inventoryItemId(itemRequest.getInventoryItem().getId())
                 .itemName(itemRequest.getInventoryItem().getName())
                 .requestedQuantity(itemRequest.getRequestedQuantity())
+                .locationId(itemRequest.getLocation() != null ? itemRequest.getLocation().getId() : null)
                 .locationType(itemRequest.getLocationType())
                 .locationIdentifier(itemRequest.getLocationIdentifier())
                 .reason(itemRequest.getReason())
@@ -0,0 +1,137 @@
+package com.example.hotel_inventory.service.impl;
+
+import com.example.hotel_inventory.dto.ItemDemandDto;
+import com.example.hotel_inventory.dto.RoomTypeConsumptionDto;
+import com.example.hotel_inventory.dto.StayGroup;
+import com.example.hotel_inventory.dto.request.RoomTypeConsumptionRequest;
+import com.example.hotel_inventory.model.Frontdesk;
+import com.example.hotel_inventory.model.InventoryItem;
+import com.example.hotel_inventory.model.RoomTypeConsumption;
+import com.example.hotel_inventory.repository.FrontdeskRepository;
+import com.example.hotel_inventory.repository.InventoryItemRepository;
+import com.example.hotel_inventory.repository.RoomTypeConsumptionRepository;
+import com.example.hotel_inventory.service.DemandForecastService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Projects inventory demand from occupancy. The database groups upcoming stays by room type,
+ * arrival and departure day, so the work here grows with the number of distinct stays rather
+ * than bookings: each group is spread over the nights it occupies within the window, and
+ * every room type's nightly room and guest counts are multiplied by its templates.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class DemandForecastServiceImpl implements DemandForecastService {
+
+    static final int MAX_DAYS = 90;
+    private static final Set<Frontdesk.BookingStatus> OCCUPYING =
+            EnumSet.of(Frontdesk.BookingStatus.RESERVED, Frontdesk.BookingStatus.CHECKED_IN);
+
+    private final FrontdeskRepository frontdeskRepository;
+    private final RoomTypeConsumptionRepository consumptionRepository;
+    private final InventoryItemRepository itemRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ItemDemandDto> projectDemand(int days) {
+        int nights = Math.max(1, Math.min(days, MAX_DAYS));
+        LocalDate start = LocalDate.now();
+        LocalDate end = start.plusDays(nights);
+
+        // Occupied rooms and guests per room type and night of the window
+        Map<String, long[]> roomNights = new HashMap<>();
+        Map<String, long[]> guestNights = new HashMap<>();
+        for (StayGroup stay : frontdeskRepository.summarizeStays(OCCUPYING, start.atStartOfDay(), end.atStartOfDay())) {
+            int first = (int) Math.max(0, ChronoUnit.DAYS.between(start, stay.getArrival()));
+            int last = (int) Math.min(nights, ChronoUnit.DAYS.between(start, stay.getDeparture()));
+            long[] rooms = roomNights.computeIfAbsent(stay.getRoomType(), type -> new long[nights]);
+            long[] guests = guestNights.computeIfAbsent(stay.getRoomType(), type -> new long[nights]);
+            for (int night = first; night < last; night++) {
+                rooms[night] += stay.getRooms();
+                guests[night] += stay.getGuests();
+            }
+        }
+
+        Map<Long, InventoryItem> items = new LinkedHashMap<>();
+        Map<Long, double[]> demand = new HashMap<>();
+        for (RoomTypeConsumption template : consumptionRepository.findAllWithItem()) {
+            InventoryItem item = template.getItem();
+            items.putIfAbsent(item.getId(), item);
+            double[] itemDemand = demand.computeIfAbsent(item.getId(), id -> new double[nights]);
+            long[] rooms = roomNights.get(template.getRoomType());
+            if (rooms == null) {
+                continue;
+            }
+            long[] guests = guestNights.get(template.getRoomType());
+            for (int night = 0; night < nights; night++) {
+                itemDemand[night] += rooms[night] * template.getPerRoomNight()
+                        + guests[night] * template.getPerGuestNight();
+            }
+        }
+
+        List<ItemDemandDto> projection = new ArrayList<>(items.size());
+        items.forEach((id, item) -> projection.add(toDemand(item, demand.get(id), start)));
+        projection.sort(Comparator.comparingInt(ItemDemandDto::getShortfall)
+                .thenComparingInt(ItemDemandDto::getTotalDemand).reversed());
+        return projection;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RoomTypeConsumptionDto> getConsumptionTemplates() {
+        return consumptionRepository.findAllWithItem().stream()
+                .map(RoomTypeConsumptionDto::fromEntity)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public RoomTypeConsumptionDto saveConsumptionTemplate(RoomTypeConsumptionRequest request) {
+        InventoryItem item = itemRepository.findById(request.getItemId())
+                .orElseThrow(() -> new RuntimeException("Item not found"));
+        String roomType = request.getRoomType().trim();
+        RoomTypeConsumption template = consumptionRepository.findByRoomTypeAndItemId(roomType, item.getId())
+                .orElseGet(() -> RoomTypeConsumption.builder().roomType(roomType).item(item).build());
+        template.setPerRoomNight(request.getPerRoomNight());
+        template.setPerGuestNight(request.getPerGuestNight());
+        return RoomTypeConsumptionDto.fromEntity(consumptionRepository.save(template));
+    }
+
+    @Override
+    public void deleteConsumptionTemplate(Long id) {
+        consumptionRepository.deleteById(id);
+    }
+
+    private static ItemDemandDto toDemand(InventoryItem item, double[] nightly, LocalDate start) {
+        List<ItemDemandDto.DailyDemand> daily = new ArrayList<>(nightly.length);
+        double total = 0;
+        for (int night = 0; night < nightly.length; night++) {
+            total += nightly[night];
+            daily.add(new ItemDemandDto.DailyDemand(start.plusDays(night), Math.round(nightly[night] * 100) / 100.0));
+        }
+        // Guard against 2.0000000001 rounding up to 3
+        int totalDemand = (int) Math.ceil(total - 1e-9);
+        return ItemDemandDto.builder()
+                .itemId(item.getId())
+                .itemName(item.getName())
+                .currentQuantity(item.getQuantity())
+                .totalDemand(totalDemand)
+                .shortfall(Math.max(0, totalDemand - item.getQuantity()))
+                .daily(daily)
+                .build();
+    }
+}
@@ -3,11 +3,15 @@ package com.example.hotel_inventory.service.impl;
 import com.example.hotel_inventory.dto.FrontdeskDto;
 import com.example.hotel_inventory.dto.request.CreateFrontdeskRequest;
 import com.example.hotel_inventory.dto.request.UpdateFrontdeskRequest;
+import com.example.hotel_inventory.event.BookingCheckedIn;
 import com.example.hotel_inventory.model.Frontdesk;
 import com.example.hotel_inventory.repository.FrontdeskRepository;
+import com.example.hotel_inventory.service.DomainEvents;
 import com.example.hotel_inventory.service.FrontdeskService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
@@ -20,12 +24,22 @@ import java.util.stream.Collectors;
 public class FrontdeskServiceImpl implements FrontdeskService {
 
     private final FrontdeskRepository frontdeskRepository;
+    private final DomainEvents domainEvents;
     
     @Override
     public List<FrontdeskDto> getAllBookings() {
         return frontdeskRepository.findAll().stream().map(FrontdeskDto::fromEntity).collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Page<FrontdeskDto> getBookings(Frontdesk.BookingStatus status, Pageable pageable) {
+        Page<Frontdesk> bookings = status != null
+                ? frontdeskRepository.findByStatus(status, pageable)
+                : frontdeskRepository.findAll(pageable);
+        return bookings.map(FrontdeskDto::fromEntity);
+    }
+
     @Override
     public Optional<FrontdeskDto> getBookingById(Long id) {
         return frontdeskRepository.findById(id).map(FrontdeskDto::fromEntity);
@@ -50,13 +64,18 @@ public class FrontdeskServiceImpl implements FrontdeskService {
                 .paymentStatus(request.getPaymentStatus())
                 .createdBy(request.getCreatedBy())
                 .build();
-        return FrontdeskDto.fromEntity(frontdeskRepository.save(booking));
+        Frontdesk saved = frontdeskRepository.save(booking);
+        if (saved.getStatus() == Frontdesk.BookingStatus.CHECKED_IN) {
+            domainEvents.publish(checkedIn(saved));
+        }
+        return FrontdeskDto.fromEntity(saved);
     }
 
     @Override
     public FrontdeskDto updateBooking(Long id, UpdateFrontdeskRequest request) {
         Frontdesk booking = frontdeskRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Booking not found with id: " + id));
+        Frontdesk.BookingStatus previousStatus = booking.getStatus();
         if (request.getGuestName() != null) booking.setGuestName(request.getGuestName());
         if (request.getGuestEmail() != null) booking.setGuestEmail(request.getGuestEmail());
         if (request.getGuestPhone() != null) booking.setGuestPhone(request.getGuestPhone());
@@ -71,7 +90,11 @@ public class FrontdeskServiceImpl implements FrontdeskService {
         if (request.getSpecialRequests() != null) booking.setSpecialRequests(request.getSpecialRequests());
         if (request.getTotalAmount() != null) booking.setTotalAmount(request.getTotalAmount());
         if (request.getPaymentStatus() != null) booking.setPaymentStatus(request.getPaymentStatus());
-        return FrontdeskDto.fromEntity(frontdeskRepository.save(booking));
+        Frontdesk saved = frontdeskRepository.save(booking);
+        if (previousStatus != Frontdesk.BookingStatus.CHECKED_IN && saved.getStatus() == Frontdesk.BookingStatus.CHECKED_IN) {
+            domainEvents.publish(checkedIn(saved));
+        }
+        return FrontdeskDto.fromEntity(saved);
     }
 
     @Override
@@ -81,4 +104,15 @@ public class FrontdeskServiceImpl implements FrontdeskService {
         }
         frontdeskRepository.deleteById(id);
     }
+
+    private BookingCheckedIn checkedIn(Frontdesk booking) {
+        return BookingCheckedIn.builder()
+                .bookingId(booking.getId())
+                .roomNumber(booking.getRoomNumber())
+                .roomType(booking.getRoomType())
+                .numberOfGuests(booking.getNumberOfGuests())
+                .checkInDate(booking.getCheckInDate())
+                .expectedCheckOut(booking.getExpectedCheckOut())
+                .build();
+    }
 }
@@ -3,15 +3,30 @@ package com.example.hotel_inventory.service.impl;
 import com.example.hotel_inventory.dto.*;
 import com.example.hotel_inventory.dto.request.CreateInspectionRequest;
 import com.example.hotel_inventory.dto.request.CreateItemRequestRequest;
+import com.example.hotel_inventory.dto.request.InventoryItemFilter;
+import com.example.hotel_inventory.dto.request.SubmitInspectionRequest;
 import com.example.hotel_inventory.model.*;
 import com.example.hotel_inventory.repository.*;
+import com.example.hotel_inventory.service.InspectionDiscrepancyRollup;
 import com.example.hotel_inventory.service.InspectorService;
+import com.example.hotel_inventory.service.InventorySearchIndex;
+import com.example.hotel_inventory.service.ReorderForecaster;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -19,27 +34,45 @@ import java.util.stream.Collectors;
 @Transactional
 public class InspectorServiceImpl implements InspectorService {
 
+    // Inspection ids per IN list when loading inspection lines
+    private static final int INSPECTION_ID_BATCH = 1_000;
+
     private final ItemRequestRepository itemRequestRepository;
     private final InspectionRepository inspectionRepository;
     private final InspectionItemRepository inspectionItemRepository;
     private final UserRepository userRepository;
     private final InventoryItemRepository inventoryItemRepository;
+    private final LocationRepository locationRepository;
+    private final ParLevelRepository parLevelRepository;
+    private final InventorySearchIndex inventorySearchIndex;
+    private final ReorderForecaster forecaster;
+    private final InspectionDiscrepancyRollup discrepancyRollup;
 
     @Override
     public ItemRequestDto createItemRequest(CreateItemRequestRequest request, Long inspectorId) {
         User inspector = userRepository.findById(inspectorId)
                 .orElseThrow(() -> new RuntimeException("Inspector not found"));
+        if (request.getClientRef() != null) {
+            List<ItemRequest> uploaded = itemRequestRepository.findByInspectorIdAndClientRefIn(
+                    inspectorId, List.of(request.getClientRef()));
+            if (!uploaded.isEmpty()) {
+                return convertToItemRequestDto(uploaded.get(0));
+            }
+        }
         
         InventoryItem inventoryItem = inventoryItemRepository.findById(request.getInventoryItemId())
                 .orElseThrow(() -> new RuntimeException("Inventory item not found"));
+        Location location = resolveLocation(request.getLocationId(), request.getLocationType(), request.getLocationIdentifier());
 
         ItemRequest itemRequest = ItemRequest.builder()
                 .inspector(inspector)
                 .inventoryItem(inventoryItem)
                 .requestedQuantity(request.getRequestedQuantity())
-                .locationType(request.getLocationType())
-                .locationIdentifier(request.getLocationIdentifier())
+                .location(location)
+                .locationType(location != null ? location.getLocationType() : request.getLocationType())
+                .locationIdentifier(location != null ? location.getIdentifier() : request.getLocationIdentifier())
                 .reason(request.getReason())
+                .clientRef(request.getClientRef())
                 .status(ItemRequest.RequestStatus.PENDING)
                 .build();
 
@@ -80,23 +113,107 @@ public class InspectorServiceImpl implements InspectorService {
     public InspectionDto createInspection(CreateInspectionRequest request, Long inspectorId) {
         User inspector = userRepository.findById(inspectorId)
                 .orElseThrow(() -> new RuntimeException("Inspector not found"));
+        Location location = resolveLocation(request.getLocationId(), request.getLocationType(), request.getLocationIdentifier());
 
         Inspection inspection = Inspection.builder()
                 .inspector(inspector)
-                .locationType(request.getLocationType())
-                .locationIdentifier(request.getLocationIdentifier())
+                .location(location)
+                .locationType(location != null ? location.getLocationType() : request.getLocationType())
+                .locationIdentifier(location != null ? location.getIdentifier() : request.getLocationIdentifier())
                 .notes(request.getNotes())
                 .status(Inspection.InspectionStatus.IN_PROGRESS)
                 .startedAt(LocalDateTime.now())
                 .build();
 
         Inspection savedInspection = inspectionRepository.save(inspection);
-        return convertToInspectionDto(savedInspection);
+        if (location == null) {
+            return convertToInspectionDto(savedInspection, List.of());
+        }
+
+        // One line per par level, expecting the par quantity; the inspector fills in the actuals
+        List<InspectionItem> lines = parLevelRepository.findByLocationIdOrderByItemNameAsc(location.getId()).stream()
+                .map(parLevel -> InspectionItem.builder()
+                        .inspection(savedInspection)
+                        .inventoryItem(parLevel.getItem())
+                        .expectedQuantity(parLevel.getParQuantity())
+                        .build())
+                .collect(Collectors.toList());
+        // Pooled sequence ids, so the lines go out as JDBC batches at commit
+        inspectionItemRepository.saveAll(lines);
+        return convertToInspectionDto(savedInspection, lines.stream()
+                .map(this::convertToInspectionItemDto)
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public InspectionDto submitInspection(SubmitInspectionRequest request, Long inspectorId) {
+        User inspector = userRepository.findById(inspectorId)
+                .orElseThrow(() -> new RuntimeException("Inspector not found"));
+        if (request.getClientRef() != null) {
+            List<Inspection> uploaded = inspectionRepository.findByInspectorIdAndClientRefIn(
+                    inspectorId, List.of(request.getClientRef()));
+            if (!uploaded.isEmpty()) {
+                return toInspectionDtos(uploaded).get(0);
+            }
+        }
+
+        Set<Long> itemIds = new HashSet<>();
+        for (InspectionItemDto line : request.getItems()) {
+            if (line.getInventoryItemId() == null) {
+                throw new RuntimeException("Inventory item is required for every inspection line");
+            }
+            itemIds.add(line.getInventoryItemId());
+        }
+        Map<Long, InventoryItem> inventoryItems = inventoryItemRepository.findAllById(itemIds).stream()
+                .collect(Collectors.toMap(InventoryItem::getId, Function.identity()));
+        if (inventoryItems.size() < itemIds.size()) {
+            itemIds.removeAll(inventoryItems.keySet());
+            throw new RuntimeException("Inventory items not found: " + itemIds);
+        }
+
+        Location location = resolveLocation(request.getLocationId(), request.getLocationType(), request.getLocationIdentifier());
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime completedAt = null;
+        if (request.isComplete()) {
+            completedAt = request.getCompletedAt() != null && request.getCompletedAt().isBefore(now)
+                    ? request.getCompletedAt() : now;
+        }
+        Inspection inspection = inspectionRepository.save(Inspection.builder()
+                .inspector(inspector)
+                .location(location)
+                .locationType(location != null ? location.getLocationType() : request.getLocationType())
+                .locationIdentifier(location != null ? location.getIdentifier() : request.getLocationIdentifier())
+                .notes(request.getNotes())
+                .clientRef(request.getClientRef())
+                .status(request.isComplete() ? Inspection.InspectionStatus.COMPLETED : Inspection.InspectionStatus.IN_PROGRESS)
+                .startedAt(completedAt != null ? completedAt : now)
+                .completedAt(completedAt)
+                .build());
+
+        List<InspectionItem> lines = request.getItems().stream()
+                .map(line -> InspectionItem.builder()
+                        .inspection(inspection)
+                        .inventoryItem(inventoryItems.get(line.getInventoryItemId()))
+                        .expectedQuantity(line.getExpectedQuantity())
+                        .actualQuantity(line.getActualQuantity())
+                        .conditionStatus(line.getConditionStatus())
+                        .notes(line.getNotes())
+                        .build())
+                .collect(Collectors.toList());
+        // Pooled sequence ids, so the lines go out as JDBC batches at commit
+        inspectionItemRepository.saveAll(lines);
+        // An inspection uploaded after the night it was finished lands on a rolled-up day
+        refreshRollup(completedAt);
+
+        return convertToInspectionDto(inspection, lines.stream()
+                .map(this::convertToInspectionItemDto)
+                .collect(Collectors.toList()));
     }
 
     @Override
     public InspectionDto updateInspection(Long inspectionId, InspectionDto inspectionDto) {
-        Inspection inspection = inspectionRepository.findById(inspectionId)
+        Inspection inspection = inspectionRepository.findWithInspectorById(inspectionId)
                 .orElseThrow(() -> new RuntimeException("Inspection not found"));
 
         inspection.setNotes(inspectionDto.getNotes());
@@ -107,39 +224,58 @@ public class InspectorServiceImpl implements InspectorService {
         }
 
         Inspection savedInspection = inspectionRepository.save(inspection);
-        return convertToInspectionDto(savedInspection);
+        refreshRollup(savedInspection.getCompletedAt());
+        return toInspectionDtos(List.of(savedInspection)).get(0);
     }
 
     @Override
     public InspectionDto completeInspection(Long inspectionId) {
-        Inspection inspection = inspectionRepository.findById(inspectionId)
+        Inspection inspection = inspectionRepository.findWithInspectorById(inspectionId)
                 .orElseThrow(() -> new RuntimeException("Inspection not found"));
 
+        LocalDateTime previouslyCompletedAt = inspection.getCompletedAt();
         inspection.setStatus(Inspection.InspectionStatus.COMPLETED);
         inspection.setCompletedAt(LocalDateTime.now());
 
         Inspection savedInspection = inspectionRepository.save(inspection);
-        return convertToInspectionDto(savedInspection);
+        // Its lines now count on the new day, and no longer on the day it was completed before
+        refreshRollup(savedInspection.getCompletedAt());
+        if (previouslyCompletedAt != null
+                && !previouslyCompletedAt.toLocalDate().equals(savedInspection.getCompletedAt().toLocalDate())) {
+            refreshRollup(previouslyCompletedAt);
+        }
+        return toInspectionDtos(List.of(savedInspection)).get(0);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<InspectionDto> getMyInspections(Long inspectorId) {
-        User inspector = userRepository.findById(inspectorId)
-                .orElseThrow(() -> new RuntimeException("Inspector not found"));
+        if (!userRepository.existsById(inspectorId)) {
+            throw new RuntimeException("Inspector not found");
+        }
+        return toInspectionDtos(inspectionRepository.findByInspectorIdOrderByCreatedAtDesc(inspectorId));
+    }
 
-        List<Inspection> inspections = inspectionRepository.findByInspectorOrderByCreatedAtDesc(inspector);
-        return inspections.stream()
-                .map(this::convertToInspectionDto)
-                .collect(Collectors.toList());
+    @Override
+    @Transactional(readOnly = true)
+    public Page<InspectionDto> getMyInspections(Long inspectorId, Pageable pageable) {
+        Page<Inspection> inspections = inspectionRepository.findByInspectorId(inspectorId, pageable);
+        return new PageImpl<>(toInspectionDtos(inspections.getContent()), inspections.getPageable(),
+                inspections.getTotalElements());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<InspectionDto> getInspectionsAtLocation(Long locationId) {
+        return toInspectionDtos(inspectionRepository.findByLocationIdOrderByCreatedAtDesc(locationId));
     }
 
     @Override
     @Transactional(readOnly = true)
     public InspectionDto getInspectionById(Long inspectionId) {
-        Inspection inspection = inspectionRepository.findById(inspectionId)
+        Inspection inspection = inspectionRepository.findWithInspectorById(inspectionId)
                 .orElseThrow(() -> new RuntimeException("Inspection not found"));
-        return convertToInspectionDto(inspection);
+        return toInspectionDtos(List.of(inspection)).get(0);
     }
 
     @Override
@@ -160,6 +296,7 @@ public class InspectorServiceImpl implements InspectorService {
                 .build();
 
         InspectionItem savedItem = inspectionItemRepository.save(inspectionItem);
+        refreshRollup(inspection.getCompletedAt());
         return convertToInspectionItemDto(savedItem);
     }
 
@@ -174,30 +311,38 @@ public class InspectorServiceImpl implements InspectorService {
         inspectionItem.setNotes(inspectionItemDto.getNotes());
 
         InspectionItem savedItem = inspectionItemRepository.save(inspectionItem);
+        refreshRollup(inspectionItem.getInspection().getCompletedAt());
         return convertToInspectionItemDto(savedItem);
     }
 
     @Override
     public void removeInspectionItem(Long inspectionItemId) {
-        if (!inspectionItemRepository.existsById(inspectionItemId)) {
-            throw new RuntimeException("Inspection item not found");
-        }
-        inspectionItemRepository.deleteById(inspectionItemId);
+        InspectionItem inspectionItem = inspectionItemRepository.findById(inspectionItemId)
+                .orElseThrow(() -> new RuntimeException("Inspection item not found"));
+        inspectionItemRepository.delete(inspectionItem);
+        refreshRollup(inspectionItem.getInspection().getCompletedAt());
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<InventoryItemDto> getAllInventoryItems() {
-        List<InventoryItem> items = inventoryItemRepository.findAll();
+        List<InventoryItem> items = inventoryItemRepository.findAllWithReferences();
         return items.stream()
                 .map(this::convertToInventoryItemDto)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Page<InventoryItemDto> findInventoryItems(InventoryItemFilter filter, Pageable pageable) {
+        return inventoryItemRepository.findAll(InventoryItemSpecifications.matching(filter), pageable)
+                .map(this::convertToInventoryItemDto);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public InventoryItemDto getInventoryItemById(Long itemId) {
-        InventoryItem item = inventoryItemRepository.findById(itemId)
+        InventoryItem item = inventoryItemRepository.findWithReferencesById(itemId)
                 .orElseThrow(() -> new RuntimeException("Inventory item not found"));
         return convertToInventoryItemDto(item);
     }
@@ -222,9 +367,16 @@ public class InspectorServiceImpl implements InspectorService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<InventoryItemDto> searchInventoryItems(String searchTerm) {
-        List<InventoryItem> items = inventoryItemRepository.findByNameContainingIgnoreCaseOrDescriptionContainingIgnoreCase(searchTerm, searchTerm);
-        return items.stream()
+    public List<InventoryItemDto> searchInventoryItems(String searchTerm, int limit) {
+        List<Long> rankedIds = inventorySearchIndex.search(searchTerm, limit);
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, InventoryItem> items = inventoryItemRepository.findWithReferencesByIdIn(rankedIds).stream()
+                .collect(Collectors.toMap(InventoryItem::getId, Function.identity()));
+        return rankedIds.stream()
+                .map(items::get)
+                .filter(Objects::nonNull)
                 .map(this::convertToInventoryItemDto)
                 .collect(Collectors.toList());
     }
@@ -232,7 +384,7 @@ public class InspectorServiceImpl implements InspectorService {
     @Override
     @Transactional(readOnly = true)
     public List<InventoryItemDto> getLowStockInventoryItems() {
-        List<InventoryItem> items = inventoryItemRepository.findByQuantityLessThanOrEqualToMinQuantity();
+        List<InventoryItem> items = inventoryItemRepository.findItemsWithStockAlerts();
         return items.stream()
                 .map(this::convertToInventoryItemDto)
                 .collect(Collectors.toList());
@@ -257,6 +409,7 @@ public class InspectorServiceImpl implements InspectorService {
                 .inventoryItemId(itemRequest.getInventoryItem().getId())
                 .itemName(itemRequest.getInventoryItem().getName())
                 .requestedQuantity(itemRequest.getRequestedQuantity())
+                .locationId(itemRequest.getLocation() != null ? itemRequest.getLocation().getId() : null)
                 .locationType(itemRequest.getLocationType())
                 .locationIdentifier(itemRequest.getLocationIdentifier())
                 .reason(itemRequest.getReason())
@@ -270,16 +423,49 @@ public class InspectorServiceImpl implements InspectorService {
                 .build();
     }
 
-    private InspectionDto convertToInspectionDto(Inspection inspection) {
-        List<InspectionItemDto> inspectionItems = inspectionItemRepository.findByInspection(inspection)
-                .stream()
-                .map(this::convertToInspectionItemDto)
+    // A known location by id, or by type and identifier through its unique index; null when
+    // the type and identifier are free text that matches no location
+    private Location resolveLocation(Long locationId, String locationType, String locationIdentifier) {
+        if (locationId != null) {
+            return locationRepository.findById(locationId)
+                    .orElseThrow(() -> new RuntimeException("Location not found"));
+        }
+        if (locationType == null || locationIdentifier == null) {
+            return null;
+        }
+        return locationRepository.findByLocationTypeAndIdentifier(locationType, locationIdentifier).orElse(null);
+    }
+
+    // Changing an inspection completed on an already rolled-up day re-rolls that day
+    private void refreshRollup(LocalDateTime completedAt) {
+        if (completedAt != null) {
+            discrepancyRollup.refreshDay(completedAt.toLocalDate());
+        }
+    }
+
+    // Loads the lines of all the inspections in one query per INSPECTION_ID_BATCH inspections
+    private List<InspectionDto> toInspectionDtos(List<Inspection> inspections) {
+        Map<Long, List<InspectionItemDto>> itemsByInspection = new HashMap<>();
+        List<Long> ids = inspections.stream().map(Inspection::getId).collect(Collectors.toList());
+        for (int from = 0; from < ids.size(); from += INSPECTION_ID_BATCH) {
+            List<Long> batch = ids.subList(from, Math.min(from + INSPECTION_ID_BATCH, ids.size()));
+            for (InspectionItem item : inspectionItemRepository.findWithInventoryItemByInspectionIdIn(batch)) {
+                itemsByInspection.computeIfAbsent(item.getInspection().getId(), id -> new ArrayList<>())
+                        .add(convertToInspectionItemDto(item));
+            }
+        }
+        return inspections.stream()
+                .map(inspection -> convertToInspectionDto(inspection,
+                        itemsByInspection.getOrDefault(inspection.getId(), List.of())))
                 .collect(Collectors.toList());
+    }
 
+    private InspectionDto convertToInspectionDto(Inspection inspection, List<InspectionItemDto> inspectionItems) {
         return InspectionDto.builder()
                 .id(inspection.getId())
                 .inspectorId(inspection.getInspector().getId())
                 .inspectorName(inspection.getInspector().getFirstName() + " " + inspection.getInspector().getLastName())
+                .locationId(inspection.getLocation() != null ? inspection.getLocation().getId() : null)
                 .locationType(inspection.getLocationType())
                 .locationIdentifier(inspection.getLocationIdentifier())
                 .status(inspection.getStatus())
@@ -308,6 +494,7 @@ public class InspectorServiceImpl implements InspectorService {
     }
 
     private InventoryItemDto convertToInventoryItemDto(InventoryItem item) {
+        ItemForecast forecast = forecaster.forecastFor(item.getId());
         return InventoryItemDto.builder()
                 .id(item.getId())
                 .name(item.getName())
@@ -323,6 +510,7 @@ public class InspectorServiceImpl implements InspectorService {
                 .updatedAt(item.getUpdatedAt())
                 .createdBy(item.getCreatedBy() != null ? UserDto.fromEntity(item.getCreatedBy()) : null)
                 .updatedBy(item.getUpdatedBy() != null ? UserDto.fromEntity(item.getUpdatedBy()) : null)
+                .forecast(forecast != null ? ItemForecastDto.of(forecast, item.getQuantity()) : null)
                 .build();
     }
 }
@@ -0,0 +1,215 @@
+package com.example.hotel_inventory.service.impl;
+
+import com.example.hotel_inventory.dto.InspectionItemDto;
+import com.example.hotel_inventory.dto.request.CreateItemRequestRequest;
+import com.example.hotel_inventory.dto.request.SubmitInspectionRequest;
+import com.example.hotel_inventory.dto.request.SyncUploadRequest;
+import com.example.hotel_inventory.dto.response.InspectorSyncResponse;
+import com.example.hotel_inventory.dto.response.SyncUploadResponse;
+import com.example.hotel_inventory.dto.response.SyncUploadResult;
+import com.example.hotel_inventory.model.Inspection;
+import com.example.hotel_inventory.model.InventoryItem;
+import com.example.hotel_inventory.model.ItemRequest;
+import com.example.hotel_inventory.repository.InspectionRepository;
+import com.example.hotel_inventory.repository.InventoryItemRepository;
+import com.example.hotel_inventory.repository.InventoryItemTombstoneRepository;
+import com.example.hotel_inventory.repository.ItemRequestRepository;
+import com.example.hotel_inventory.service.CategoryService;
+import com.example.hotel_inventory.service.InspectorService;
+import com.example.hotel_inventory.service.InspectorSyncService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Offline sync for the inspector app. Downloads go by updatedAt: the first sync sends every
+ * item, later ones only the items changed and deleted (see InventoryItemTombstone) since the
+ * version the app got last time. Uploads are the app's queue of inspections and item
+ * requests, made idempotent by the clientRef the app gives each entry.
+ */
+@Service
+@RequiredArgsConstructor
+public class InspectorSyncServiceImpl implements InspectorSyncService {
+
+    // updatedAt is stamped before a change commits, so the version handed out trails the
+    // clock: a change that commits late is sent twice rather than never
+    static final Duration COMMIT_LAG = Duration.ofSeconds(10);
+
+    private final InventoryItemRepository inventoryItemRepository;
+    private final InventoryItemTombstoneRepository tombstoneRepository;
+    private final InspectionRepository inspectionRepository;
+    private final ItemRequestRepository itemRequestRepository;
+    private final CategoryService categoryService;
+    private final InspectorService inspectorService;
+
+    @Override
+    @Transactional(readOnly = true)
+    public InspectorSyncResponse pullChanges(LocalDateTime since) {
+        LocalDateTime version = LocalDateTime.now().minus(COMMIT_LAG);
+        boolean full = since == null;
+        return InspectorSyncResponse.builder()
+                .version(version)
+                .full(full)
+                .categories(categoryService.getAllCategories())
+                .items(full ? inventoryItemRepository.findSyncItems()
+                        : inventoryItemRepository.findSyncItemsUpdatedAfter(since))
+                .deletedItemIds(full ? List.of() : tombstoneRepository.findItemIdsDeletedAfter(since))
+                .build();
+    }
+
+    @Override
+    public SyncUploadResponse pushChanges(SyncUploadRequest request, Long inspectorId) {
+        // What the batch refers to, in one query each: entries already stored and the items
+        Map<String, Long> storedInspections = new HashMap<>();
+        Set<String> inspectionRefs = clientRefs(request.getInspections(), SubmitInspectionRequest::getClientRef);
+        if (!inspectionRefs.isEmpty()) {
+            for (Inspection inspection : inspectionRepository.findByInspectorIdAndClientRefIn(inspectorId, inspectionRefs)) {
+                storedInspections.put(inspection.getClientRef(), inspection.getId());
+            }
+        }
+        Map<String, Long> storedRequests = new HashMap<>();
+        Set<String> requestRefs = clientRefs(request.getItemRequests(), CreateItemRequestRequest::getClientRef);
+        if (!requestRefs.isEmpty()) {
+            for (ItemRequest itemRequest : itemRequestRepository.findByInspectorIdAndClientRefIn(inspectorId, requestRefs)) {
+                storedRequests.put(itemRequest.getClientRef(), itemRequest.getId());
+            }
+        }
+        Set<Long> itemIds = new HashSet<>();
+        request.getInspections().forEach(inspection -> inspection.getItems().stream()
+                .map(InspectionItemDto::getInventoryItemId)
+                .filter(Objects::nonNull)
+                .forEach(itemIds::add));
+        request.getItemRequests().stream()
+                .map(CreateItemRequestRequest::getInventoryItemId)
+                .filter(Objects::nonNull)
+                .forEach(itemIds::add);
+        Map<Long, InventoryItem> items = inventoryItemRepository.findAllById(itemIds).stream()
+                .collect(Collectors.toMap(InventoryItem::getId, Function.identity()));
+
+        List<SyncUploadResult> inspectionResults = new ArrayList<>(request.getInspections().size());
+        for (SubmitInspectionRequest inspection : request.getInspections()) {
+            inspectionResults.add(pushInspection(inspection, inspectorId, storedInspections, items));
+        }
+        List<SyncUploadResult> requestResults = new ArrayList<>(request.getItemRequests().size());
+        for (CreateItemRequestRequest itemRequest : request.getItemRequests()) {
+            requestResults.add(pushItemRequest(itemRequest, inspectorId, request.getBaseVersion(), storedRequests, items));
+        }
+        return SyncUploadResponse.builder()
+                .inspections(inspectionResults)
+                .itemRequests(requestResults)
+                .build();
+    }
+
+    private SyncUploadResult pushInspection(SubmitInspectionRequest inspection, Long inspectorId,
+                                            Map<String, Long> stored, Map<Long, InventoryItem> items) {
+        String clientRef = inspection.getClientRef();
+        if (clientRef == null || clientRef.isBlank()) {
+            return SyncUploadResult.rejected(clientRef, SyncUploadResult.Outcome.FAILED, "Client reference is required");
+        }
+        if (stored.containsKey(clientRef)) {
+            return SyncUploadResult.of(clientRef, SyncUploadResult.Outcome.DUPLICATE, stored.get(clientRef));
+        }
+        Set<Long> deleted = inspection.getItems().stream()
+                .map(InspectionItemDto::getInventoryItemId)
+                .filter(itemId -> itemId != null && !items.containsKey(itemId))
+                .collect(Collectors.toCollection(TreeSet::new));
+        if (!deleted.isEmpty()) {
+            return SyncUploadResult.rejected(clientRef, SyncUploadResult.Outcome.CONFLICT,
+                    "Inventory items no longer exist: " + deleted);
+        }
+        Set<String> discontinued = inspection.getItems().stream()
+                .map(line -> items.get(line.getInventoryItemId()))
+                .filter(item -> item != null && item.getStatus() == InventoryItem.ItemStatus.DISCONTINUED)
+                .map(InventoryItem::getName)
+                .collect(Collectors.toCollection(TreeSet::new));
+        if (!discontinued.isEmpty()) {
+            return SyncUploadResult.rejected(clientRef, SyncUploadResult.Outcome.CONFLICT,
+                    "Inventory items are discontinued: " + discontinued);
+        }
+        try {
+            Long id = inspectorService.submitInspection(inspection, inspectorId).getId();
+            stored.put(clientRef, id);
+            return SyncUploadResult.of(clientRef, SyncUploadResult.Outcome.CREATED, id);
+        } catch (DataIntegrityViolationException e) {
+            return storedByAnotherUpload(clientRef, e, () -> inspectionRepository
+                    .findByInspectorIdAndClientRefIn(inspectorId, Set.of(clientRef)).stream()
+                    .map(Inspection::getId).findFirst(), stored);
+        } catch (RuntimeException e) {
+            return SyncUploadResult.rejected(clientRef, SyncUploadResult.Outcome.FAILED, e.getMessage());
+        }
+    }
+
+    private SyncUploadResult pushItemRequest(CreateItemRequestRequest itemRequest, Long inspectorId,
+                                             LocalDateTime baseVersion, Map<String, Long> stored,
+                                             Map<Long, InventoryItem> items) {
+        String clientRef = itemRequest.getClientRef();
+        if (clientRef == null || clientRef.isBlank()) {
+            return SyncUploadResult.rejected(clientRef, SyncUploadResult.Outcome.FAILED, "Client reference is required");
+        }
+        if (stored.containsKey(clientRef)) {
+            return SyncUploadResult.of(clientRef, SyncUploadResult.Outcome.DUPLICATE, stored.get(clientRef));
+        }
+        InventoryItem item = items.get(itemRequest.getInventoryItemId());
+        if (item == null) {
+            return SyncUploadResult.rejected(clientRef, SyncUploadResult.Outcome.CONFLICT,
+                    "Inventory item no longer exists: " + itemRequest.getInventoryItemId());
+        }
+        if (item.getStatus() == InventoryItem.ItemStatus.DISCONTINUED) {
+            return SyncUploadResult.rejected(clientRef, SyncUploadResult.Outcome.CONFLICT,
+                    "Inventory item is discontinued: " + item.getName());
+        }
+        // The request was made against stock the inspector no longer sees
+        boolean changedSince = baseVersion != null && item.getUpdatedAt() != null && item.getUpdatedAt().isAfter(baseVersion);
+        if (changedSince && item.getQuantity() < itemRequest.getRequestedQuantity()) {
+            return SyncUploadResult.rejected(clientRef, SyncUploadResult.Outcome.CONFLICT,
+                    String.format("Stock changed since the last sync. Available: %d, Requested: %d",
+                            item.getQuantity(), itemRequest.getRequestedQuantity()));
+        }
+        try {
+            Long id = inspectorService.createItemRequest(itemRequest, inspectorId).getId();
+            stored.put(clientRef, id);
+            return SyncUploadResult.of(clientRef, SyncUploadResult.Outcome.CREATED, id);
+        } catch (DataIntegrityViolationException e) {
+            return storedByAnotherUpload(clientRef, e, () -> itemRequestRepository
+                    .findByInspectorIdAndClientRefIn(inspectorId, Set.of(clientRef)).stream()
+                    .map(ItemRequest::getId).findFirst(), stored);
+        } catch (RuntimeException e) {
+            return SyncUploadResult.rejected(clientRef, SyncUploadResult.Outcome.FAILED, e.getMessage());
+        }
+    }
+
+    // A retried upload racing the original one loses on the (inspector, client_ref) unique key
+    // once the other commits; it is then a duplicate of what the other stored
+    private static SyncUploadResult storedByAnotherUpload(String clientRef, DataIntegrityViolationException e,
+                                                          Supplier<Optional<Long>> storedId, Map<String, Long> stored) {
+        Optional<Long> id = storedId.get();
+        if (id.isEmpty()) {
+            return SyncUploadResult.rejected(clientRef, SyncUploadResult.Outcome.FAILED, e.getMessage());
+        }
+        stored.put(clientRef, id.get());
+        return SyncUploadResult.of(clientRef, SyncUploadResult.Outcome.DUPLICATE, id.get());
+    }
+
+    private static <T> Set<String> clientRefs(List<T> entries, Function<T, String> clientRef) {
+        return entries.stream()
+                .map(clientRef)
+                .filter(ref -> ref != null && !ref.isBlank())
+                .collect(Collectors.toSet());
+    }
+}
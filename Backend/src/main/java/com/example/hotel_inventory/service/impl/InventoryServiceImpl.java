@@ -1,29 +1,80 @@
 package com.example.hotel_inventory.service.impl;
 
+import com.example.hotel_inventory.dto.InventoryGroupSummary;
+import com.example.hotel_inventory.dto.InventoryItemDto;
 import com.example.hotel_inventory.dto.InventoryStats;
+import com.example.hotel_inventory.dto.StockSummary;
+import com.example.hotel_inventory.dto.StockTransactionDto;
 import com.example.hotel_inventory.dto.request.CreateInventoryItemRequest;
+import com.example.hotel_inventory.dto.request.InventoryItemFilter;
+import com.example.hotel_inventory.dto.request.InventoryItemUpdate;
+import com.example.hotel_inventory.dto.response.BulkUpdateSummary;
+import com.example.hotel_inventory.dto.response.CursorPage;
+import com.example.hotel_inventory.event.StockChanged;
 import com.example.hotel_inventory.model.Category;
 import com.example.hotel_inventory.model.InventoryItem;
+import com.example.hotel_inventory.model.InventoryItemTombstone;
 import com.example.hotel_inventory.model.StockTransaction;
 import com.example.hotel_inventory.model.Supplier;
+import com.example.hotel_inventory.model.User;
 import com.example.hotel_inventory.repository.CategoryRepository;
 import com.example.hotel_inventory.repository.InventoryItemRepository;
+import com.example.hotel_inventory.repository.InventoryItemTombstoneRepository;
+import com.example.hotel_inventory.repository.InventoryItemSpecifications;
 import com.example.hotel_inventory.repository.StockTransactionRepository;
 import com.example.hotel_inventory.repository.SupplierRepository;
+import com.example.hotel_inventory.repository.UserRepository;
+import com.example.hotel_inventory.service.CategoryService;
+import com.example.hotel_inventory.service.DomainEvents;
+import com.example.hotel_inventory.service.InventoryChangeStream;
 import com.example.hotel_inventory.service.InventoryService;
+import com.example.hotel_inventory.service.InventorySearchIndex;
+import com.example.hotel_inventory.service.InventoryStatsAggregate;
+import com.example.hotel_inventory.service.ReorderForecaster;
+import com.example.hotel_inventory.service.SupplierService;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class InventoryServiceImpl implements InventoryService {
+    private static final int BULK_UPDATE_CHUNK_SIZE = 500;
+
     private final InventoryItemRepository itemRepository;
+    private final InventoryItemTombstoneRepository tombstoneRepository;
     private final StockTransactionRepository transactionRepository;
     private final CategoryRepository categoryRepository;
     private final SupplierRepository supplierRepository;
+    private final InventoryStatsAggregate statsAggregate;
+    private final InventorySearchIndex searchIndex;
+    private final InventoryChangeStream changeStream;
+    private final DomainEvents domainEvents;
+    private final ReorderForecaster forecaster;
+    private final UserRepository userRepository;
+    private final CategoryService categoryService;
+    private final SupplierService supplierService;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
 
     @Override
     public InventoryItem addItem(CreateInventoryItemRequest request) {
@@ -48,10 +99,15 @@ public class InventoryServiceImpl implements InventoryService {
                 .supplier(supplier)
                 .build();
 
-        return itemRepository.save(item);
+        InventoryItem savedItem = itemRepository.save(item);
+        statsAggregate.itemAdded(savedItem);
+        searchIndex.itemAdded(savedItem);
+        changeStream.itemChanged(savedItem);
+        return savedItem;
     }
 
     @Override
+    @Transactional
     public InventoryItem updateItem(Long id, CreateInventoryItemRequest request) {
         InventoryItem existingItem = itemRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Item not found"));
@@ -62,6 +118,8 @@ public class InventoryServiceImpl implements InventoryService {
         Supplier supplier = supplierRepository.findById(request.getSupplierId())
                 .orElseThrow(() -> new RuntimeException("Supplier not found"));
 
+        InventoryStatsAggregate.StockLevel before = InventoryStatsAggregate.StockLevel.of(existingItem);
+
         existingItem.setName(request.getName());
         existingItem.setDescription(request.getDescription());
         existingItem.setCategory(category);
@@ -75,74 +133,296 @@ public class InventoryServiceImpl implements InventoryService {
         existingItem.setWarrantyExpiry(request.getWarrantyExpiry());
         existingItem.setSupplier(supplier);
 
-        return itemRepository.save(existingItem);
+        InventoryItem savedItem = itemRepository.save(existingItem);
+        if (before.getQuantity() != savedItem.getQuantity()) {
+            domainEvents.publish(stockChanged(savedItem, before.getQuantity(), null));
+        }
+        statsAggregate.itemChanged(before, savedItem);
+        searchIndex.itemChanged(savedItem);
+        changeStream.itemChanged(savedItem);
+        return savedItem;
     }
 
     @Override
+    @Transactional
     public void deleteItem(Long id) {
-        itemRepository.deleteById(id);
+        itemRepository.findById(id).ifPresent(item -> {
+            itemRepository.delete(item);
+            tombstoneRepository.save(new InventoryItemTombstone(item.getId(), LocalDateTime.now()));
+            statsAggregate.itemRemoved(InventoryStatsAggregate.StockLevel.of(item));
+            searchIndex.itemRemoved(item.getId());
+            changeStream.itemRemoved(item.getId());
+        });
     }
 
     @Override
     public InventoryItem getItem(Long id) {
-        return itemRepository.findById(id)
+        return itemRepository.findWithReferencesById(id)
                 .orElseThrow(() -> new RuntimeException("Item not found"));
     }
 
     @Override
     public List<InventoryItem> getAllItems() {
-        return itemRepository.findAll();
+        return itemRepository.findAllWithReferences();
+    }
+
+    @Override
+    public Page<InventoryItem> findItems(InventoryItemFilter filter, Pageable pageable) {
+        return itemRepository.findAll(InventoryItemSpecifications.matching(filter), pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportItems(InventoryItemFilter filter, Consumer<InventoryItemDto> sink) {
+        try (Stream<InventoryItem> items = itemRepository.streamAll(InventoryItemSpecifications.matching(filter))) {
+            items.forEach(item -> {
+                sink.accept(InventoryItemDto.fromEntity(item, forecaster.forecastFor(item.getId())));
+                // Keep the persistence context from growing with the export
+                entityManager.detach(item);
+            });
+        }
     }
 
     @Override
     public List<InventoryItem> getLowStockItems() {
-        return itemRepository.findAll().stream()
-                .filter(item -> item.getQuantity() <= item.getMinQuantity() && item.getQuantity() > 0)
-                .toList();
+        return itemRepository.findByStatus(InventoryItem.ItemStatus.LOW_STOCK);
     }
 
     @Override
     public List<InventoryItem> getOutOfStockItems() {
-        return itemRepository.findAll().stream()
-                .filter(item -> item.getQuantity() == 0)
-                .toList();
+        return itemRepository.findByStatus(InventoryItem.ItemStatus.OUT_OF_STOCK);
     }
 
     @Override
     public InventoryStats getInventoryStats() {
-        List<InventoryItem> allItems = itemRepository.findAll();
-        
-        long totalItems = allItems.size();
-        long totalCategories = categoryRepository.count();
-        long totalSuppliers = supplierRepository.count();
-        long lowStockItems = getLowStockItems().size();
-        long outOfStockItems = getOutOfStockItems().size();
-        long totalTransactions = transactionRepository.count();
-        
-        BigDecimal totalValue = allItems.stream()
-                .map(item -> item.getPrice().multiply(BigDecimal.valueOf(item.getQuantity())))
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return toInventoryStats(statsAggregate.current());
+    }
 
-        return InventoryStats.builder()
-                .totalItems(totalItems)
-                .totalCategories(totalCategories)
-                .totalSuppliers(totalSuppliers)
-                .lowStockItems(lowStockItems)
-                .outOfStockItems(outOfStockItems)
-                .totalValue(totalValue)
-                .totalTransactions(totalTransactions)
-                .build();
+    @Override
+    public InventoryStats rebuildInventoryStats() {
+        return toInventoryStats(statsAggregate.rebuild());
+    }
+
+    @Override
+    public StockSummary getStockSummary() {
+        InventoryStatsAggregate.Totals totals = statsAggregate.current();
+        return new StockSummary(totals.getTotalItems(), totals.getLowStockItems(),
+                totals.getOutOfStockItems(), totals.getTotalValue());
+    }
+
+    @Override
+    public List<InventoryGroupSummary> getCategorySummaries() {
+        return itemRepository.summarizeByCategory();
+    }
+
+    @Override
+    public List<InventoryGroupSummary> getSupplierSummaries() {
+        return itemRepository.summarizeBySupplier();
     }
 
     @Override
     public StockTransaction addStockTransaction(StockTransaction transaction) {
-        return transactionRepository.save(transaction);
+        StockTransaction savedTransaction = transactionRepository.save(transaction);
+        statsAggregate.transactionsRecorded(1);
+        return savedTransaction;
     }
 
     @Override
     public List<StockTransaction> getTransactionsForItem(Long itemId) {
-        return transactionRepository.findAll().stream()
-                .filter(t -> t.getItem().getId().equals(itemId))
-                .toList();
+        return transactionRepository.findByItemIdOrderByTransactionDateDescIdDesc(itemId);
+    }
+
+    @Override
+    public CursorPage<StockTransactionDto> getTransactionHistory(Long itemId, StockTransaction.TransactionType type,
+                                                                 LocalDateTime from, LocalDateTime to,
+                                                                 String cursor, int limit) {
+        LocalDateTime cursorDate = null;
+        Long cursorId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] position = decodeCursor(cursor);
+            cursorDate = LocalDateTime.parse(position[0]);
+            cursorId = Long.valueOf(position[1]);
+        }
+
+        // Fetch one extra row to learn whether another page exists
+        List<StockTransaction> rows = transactionRepository.findHistoryPage(
+                itemId, type, from, to, cursorDate, cursorId, Limit.of(limit + 1));
+        boolean hasMore = rows.size() > limit;
+        List<StockTransaction> page = hasMore ? rows.subList(0, limit) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            StockTransaction last = page.get(page.size() - 1);
+            nextCursor = encodeCursor(last.getTransactionDate(), last.getId());
+        }
+
+        return CursorPage.<StockTransactionDto>builder()
+                .items(page.stream().map(StockTransactionDto::fromEntity).toList())
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    @Override
+    public BulkUpdateSummary bulkUpdateItems(List<InventoryItemUpdate> updates, Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        // Rows are validated by the controller; what is left to fail is per item
+        List<BulkUpdateSummary.RowFailure> failures = new ArrayList<>();
+        List<IndexedUpdate> rows = new ArrayList<>(updates.size());
+        for (int i = 0; i < updates.size(); i++) {
+            rows.add(new IndexedUpdate(i, updates.get(i)));
+        }
+        // Sorting by id keeps each chunk's rows close together in the primary key and
+        // makes concurrent bulk updates lock rows in the same order
+        rows.sort(Comparator.comparing(row -> row.update().getId()));
+
+        int[] counts = new int[3]; // updated, unchanged, stock transactions
+        for (int start = 0; start < rows.size(); start += BULK_UPDATE_CHUNK_SIZE) {
+            List<IndexedUpdate> chunk = rows.subList(start, Math.min(start + BULK_UPDATE_CHUNK_SIZE, rows.size()));
+            List<BulkUpdateSummary.RowFailure> chunkFailures = new ArrayList<>();
+            try {
+                int[] chunkCounts = transactionTemplate.execute(status -> applyChunk(chunk, user, chunkFailures));
+                for (int c = 0; c < counts.length; c++) {
+                    counts[c] += chunkCounts[c];
+                }
+                failures.addAll(chunkFailures);
+            } catch (RuntimeException e) {
+                // The whole chunk rolled back; earlier chunks stay committed
+                chunk.forEach(row -> failures.add(new BulkUpdateSummary.RowFailure(
+                        row.index(), row.update().getId(), "Not applied: " + e.getMessage())));
+            } finally {
+                // With open-in-view the persistence context outlives each chunk's transaction
+                entityManager.clear();
+            }
+        }
+
+        failures.sort(Comparator.comparingInt(BulkUpdateSummary.RowFailure::getIndex));
+        return BulkUpdateSummary.builder()
+                .requested(updates.size())
+                .updated(counts[0])
+                .unchanged(counts[1])
+                .failed(failures.size())
+                .stockTransactions(counts[2])
+                .failures(failures)
+                .build();
+    }
+
+    private int[] applyChunk(List<IndexedUpdate> chunk, User user, List<BulkUpdateSummary.RowFailure> failures) {
+        // Locked until the chunk commits, so a concurrent stock movement either lands before the
+        // read (and previousQuantity sees it) or waits for our UPDATE instead of being overwritten
+        Map<Long, InventoryItem> items = itemRepository.findAllForUpdateByIdIn(
+                        chunk.stream().map(row -> row.update().getId()).distinct().toList()).stream()
+                .collect(Collectors.toMap(InventoryItem::getId, Function.identity()));
+
+        Map<Long, InventoryStatsAggregate.StockLevel> levelsBefore = new LinkedHashMap<>();
+        List<StockTransaction> transactions = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        int updated = 0;
+        int unchanged = 0;
+
+        for (IndexedUpdate row : chunk) {
+            InventoryItemUpdate update = row.update();
+            InventoryItem item = items.get(update.getId());
+            if (item == null) {
+                failures.add(new BulkUpdateSummary.RowFailure(row.index(), update.getId(), "Item not found"));
+                continue;
+            }
+
+            InventoryStatsAggregate.StockLevel before = InventoryStatsAggregate.StockLevel.of(item);
+            InventoryItem.ItemStatus statusBefore = item.getStatus();
+            int previousQuantity = item.getQuantity();
+
+            if (update.getPrice() != null && update.getPrice().compareTo(item.getPrice()) != 0) {
+                item.setPrice(update.getPrice());
+            }
+            if (update.getQuantity() != null && update.getQuantity() != previousQuantity) {
+                item.setQuantity(update.getQuantity());
+                transactions.add(StockTransaction.builder()
+                        .item(item)
+                        .type(StockTransaction.TransactionType.ADJUSTMENT)
+                        .quantity(Math.abs(update.getQuantity() - previousQuantity))
+                        .previousQuantity(previousQuantity)
+                        .newQuantity(update.getQuantity())
+                        .reason(update.getReason() != null ? update.getReason() : "Bulk inventory update")
+                        .performedBy(user)
+                        .transactionDate(now)
+                        .build());
+            }
+            // Only DISCONTINUED (or clearing it) sticks; the quantity decides the rest
+            if (update.getStatus() != null) {
+                item.setStatus(update.getStatus());
+            }
+
+            if (before.equals(InventoryStatsAggregate.StockLevel.of(item)) && statusBefore == item.getStatus()) {
+                unchanged++;
+                continue;
+            }
+            item.setUpdatedBy(user);
+            levelsBefore.putIfAbsent(item.getId(), before);
+            updated++;
+        }
+
+        // Dirty items flush as batched UPDATEs (hibernate.jdbc.batch_size, order_updates)
+        transactionRepository.saveAll(transactions);
+        domainEvents.publishAll(levelsBefore.entrySet().stream()
+                .filter(entry -> entry.getValue().getQuantity() != items.get(entry.getKey()).getQuantity())
+                .map(entry -> stockChanged(items.get(entry.getKey()), entry.getValue().getQuantity(), user))
+                .toList());
+        entityManager.flush();
+
+        levelsBefore.forEach((id, before) -> {
+            statsAggregate.itemChanged(before, items.get(id));
+            changeStream.itemChanged(items.get(id));
+        });
+        statsAggregate.transactionsRecorded(transactions.size());
+        return new int[] {updated, unchanged, transactions.size()};
+    }
+
+    private StockChanged stockChanged(InventoryItem item, int previousQuantity, User user) {
+        return StockChanged.builder()
+                .itemId(item.getId())
+                .previousQuantity(previousQuantity)
+                .newQuantity(item.getQuantity())
+                .minQuantity(item.getMinQuantity())
+                .type(StockTransaction.TransactionType.ADJUSTMENT)
+                .performedById(user != null ? user.getId() : null)
+                .build();
+    }
+
+    private record IndexedUpdate(int index, InventoryItemUpdate update) {
+    }
+
+    private InventoryStats toInventoryStats(InventoryStatsAggregate.Totals totals) {
+        return InventoryStats.builder()
+                .totalItems(totals.getTotalItems())
+                // Served from the reference data cache instead of two COUNT queries per call
+                .totalCategories(categoryService.getAllCategories().size())
+                .totalSuppliers(supplierService.getAllSuppliers().size())
+                .lowStockItems(totals.getLowStockItems())
+                .outOfStockItems(totals.getOutOfStockItems())
+                .totalValue(totals.getTotalValue())
+                .totalTransactions(totals.getTotalTransactions())
+                .build();
+    }
+
+    private String encodeCursor(LocalDateTime transactionDate, Long id) {
+        String position = transactionDate + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String[] decodeCursor(String cursor) {
+        try {
+            String[] position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            if (position.length != 2) {
+                throw new IllegalArgumentException();
+            }
+            LocalDateTime.parse(position[0]);
+            Long.valueOf(position[1]);
+            return position;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new RuntimeException("Invalid cursor: " + cursor);
+        }
     }
 } 
\ No newline at end of file
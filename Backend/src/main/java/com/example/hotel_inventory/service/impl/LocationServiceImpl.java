@@ -0,0 +1,169 @@
+package com.example.hotel_inventory.service.impl;
+
+import com.example.hotel_inventory.dto.LocationDto;
+import com.example.hotel_inventory.dto.ParLevelDto;
+import com.example.hotel_inventory.dto.request.CreateLocationRequest;
+import com.example.hotel_inventory.dto.request.ParLevelRequest;
+import com.example.hotel_inventory.model.InventoryItem;
+import com.example.hotel_inventory.model.Location;
+import com.example.hotel_inventory.model.ParLevel;
+import com.example.hotel_inventory.repository.InspectionRepository;
+import com.example.hotel_inventory.repository.InventoryItemRepository;
+import com.example.hotel_inventory.repository.ItemRequestRepository;
+import com.example.hotel_inventory.repository.LocationRepository;
+import com.example.hotel_inventory.repository.ParLevelRepository;
+import com.example.hotel_inventory.service.LocationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class LocationServiceImpl implements LocationService {
+
+    private final LocationRepository locationRepository;
+    private final ParLevelRepository parLevelRepository;
+    private final InventoryItemRepository itemRepository;
+    private final InspectionRepository inspectionRepository;
+    private final ItemRequestRepository itemRequestRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<LocationDto> getLocations(String locationType) {
+        List<Location> locations = locationType == null || locationType.isBlank()
+                ? locationRepository.findAllByOrderByLocationTypeAscIdentifierAsc()
+                : locationRepository.findByLocationTypeOrderByIdentifierAsc(locationType.trim());
+        return locations.stream()
+                .map(LocationDto::fromEntity)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public LocationDto getLocation(Long id) {
+        LocationDto location = LocationDto.fromEntity(findLocation(id));
+        location.setParLevels(getParLevels(id));
+        return location;
+    }
+
+    @Override
+    public LocationDto createLocation(CreateLocationRequest request) {
+        String locationType = request.getLocationType().trim();
+        String identifier = request.getIdentifier().trim();
+        if (locationRepository.findByLocationTypeAndIdentifier(locationType, identifier).isPresent()) {
+            throw new RuntimeException("Location already exists: " + locationType + " " + identifier);
+        }
+        Location location = locationRepository.save(Location.builder()
+                .locationType(locationType)
+                .identifier(identifier)
+                .description(request.getDescription())
+                .build());
+        linkRecordedUnder(location);
+        return LocationDto.fromEntity(location);
+    }
+
+    @Override
+    public LocationDto updateLocation(Long id, CreateLocationRequest request) {
+        Location location = findLocation(id);
+        String locationType = request.getLocationType().trim();
+        String identifier = request.getIdentifier().trim();
+        locationRepository.findByLocationTypeAndIdentifier(locationType, identifier)
+                .filter(other -> !other.getId().equals(id))
+                .ifPresent(other -> {
+                    throw new RuntimeException("Location already exists: " + locationType + " " + identifier);
+                });
+        // Inspections and requests keep the type and identifier they were made with; unlinked
+        // ones made under the new type and identifier join the location
+        location.setLocationType(locationType);
+        location.setIdentifier(identifier);
+        location.setDescription(request.getDescription());
+        Location saved = locationRepository.save(location);
+        linkRecordedUnder(saved);
+        return LocationDto.fromEntity(saved);
+    }
+
+    @Override
+    public void deleteLocation(Long id) {
+        // The database deletes its par levels and unlinks its inspections and requests
+        locationRepository.delete(findLocation(id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ParLevelDto> getParLevels(Long locationId) {
+        return parLevelRepository.findByLocationIdOrderByItemNameAsc(locationId).stream()
+                .map(ParLevelDto::fromEntity)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<ParLevelDto> replaceParLevels(Long locationId, List<ParLevelRequest> parLevels) {
+        Location location = findLocation(locationId);
+        Set<Long> itemIds = new HashSet<>();
+        for (ParLevelRequest parLevel : parLevels) {
+            if (parLevel.getItemId() == null) {
+                throw new RuntimeException("Item is required for every par level");
+            }
+            if (parLevel.getParQuantity() < 0) {
+                throw new RuntimeException("Par quantity cannot be negative");
+            }
+            if (!itemIds.add(parLevel.getItemId())) {
+                throw new RuntimeException("Item appears more than once: " + parLevel.getItemId());
+            }
+        }
+        Map<Long, InventoryItem> items = itemRepository.findAllById(itemIds).stream()
+                .collect(Collectors.toMap(InventoryItem::getId, Function.identity()));
+        if (items.size() < itemIds.size()) {
+            itemIds.removeAll(items.keySet());
+            throw new RuntimeException("Inventory items not found: " + itemIds);
+        }
+
+        Map<Long, ParLevel> existing = new HashMap<>();
+        for (ParLevel parLevel : parLevelRepository.findByLocationIdOrderByItemNameAsc(locationId)) {
+            existing.put(parLevel.getItem().getId(), parLevel);
+        }
+        List<ParLevel> kept = new ArrayList<>(parLevels.size());
+        for (ParLevelRequest request : parLevels) {
+            ParLevel parLevel = existing.remove(request.getItemId());
+            if (parLevel == null) {
+                parLevel = ParLevel.builder()
+                        .location(location)
+                        .item(items.get(request.getItemId()))
+                        .build();
+            }
+            parLevel.setParQuantity(request.getParQuantity());
+            kept.add(parLevel);
+        }
+        // Removed ones in one DELETE; pooled sequence ids, so inserts and updates go out as JDBC batches
+        parLevelRepository.deleteAllInBatch(existing.values());
+        parLevelRepository.saveAll(kept);
+
+        return kept.stream()
+                .map(ParLevelDto::fromEntity)
+                .sorted(Comparator.comparing(ParLevelDto::getItemName))
+                .collect(Collectors.toList());
+    }
+
+    // Inspections and requests only link to a location that existed when they were made, so
+    // those recorded under its type and identifier earlier are linked once it exists
+    private void linkRecordedUnder(Location location) {
+        inspectionRepository.linkUnlinkedTo(location);
+        itemRequestRepository.linkUnlinkedTo(location);
+    }
+
+    private Location findLocation(Long id) {
+        return locationRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Location not found"));
+    }
+}
@@ -1,9 +1,15 @@
 package com.example.hotel_inventory;
 
 import com.example.hotel_inventory.controller.AdminController;
+import com.example.hotel_inventory.dto.InventoryGroupSummary;
+import com.example.hotel_inventory.dto.StockSummary;
+import com.example.hotel_inventory.dto.request.InventoryItemUpdate;
+import com.example.hotel_inventory.dto.request.ItemRequestDecision;
+import com.example.hotel_inventory.exception.GlobalExceptionHandler;
 import com.example.hotel_inventory.model.Category;
 import com.example.hotel_inventory.model.InventoryItem;
 import com.example.hotel_inventory.model.Supplier;
+import com.example.hotel_inventory.service.AdminInspectorService;
 import com.example.hotel_inventory.service.InventoryService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,12 +23,14 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.math.BigDecimal;
-import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +39,9 @@ public class AdminControllerTest {
     @Mock
     private InventoryService inventoryService;
 
+    @Mock
+    private AdminInspectorService adminInspectorService;
+
     @InjectMocks
     private AdminController adminController;
 
@@ -39,54 +50,17 @@ public class AdminControllerTest {
 
     @BeforeEach
     public void setUp() {
-        mockMvc = MockMvcBuilders.standaloneSetup(adminController).build();
+        mockMvc = MockMvcBuilders.standaloneSetup(adminController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
         objectMapper = new ObjectMapper();
     }
 
     @Test
     public void testGetAdminStats() throws Exception {
         // Arrange
-        Category category = Category.builder()
-                .id(1L)
-                .name("Test Category")
-                .build();
-
-        Supplier supplier = Supplier.builder()
-                .id(1L)
-                .name("Test Supplier")
-                .build();
-
-        List<InventoryItem> mockItems = Arrays.asList(
-                InventoryItem.builder()
-                        .id(1L)
-                        .name("Test Item 1")
-                        .quantity(15)
-                        .price(new BigDecimal("10.50"))
-                        .category(category)
-                        .supplier(supplier)
-                        .createdAt(LocalDateTime.now())
-                        .build(),
-                InventoryItem.builder()
-                        .id(2L)
-                        .name("Test Item 2")
-                        .quantity(5)
-                        .price(new BigDecimal("20.00"))
-                        .category(category)
-                        .supplier(supplier)
-                        .createdAt(LocalDateTime.now())
-                        .build(),
-                InventoryItem.builder()
-                        .id(3L)
-                        .name("Test Item 3")
-                        .quantity(0)
-                        .price(new BigDecimal("15.75"))
-                        .category(category)
-                        .supplier(supplier)
-                        .createdAt(LocalDateTime.now())
-                        .build()
-        );
-
-        when(inventoryService.getAllItems()).thenReturn(mockItems);
+        when(inventoryService.getStockSummary())
+                .thenReturn(new StockSummary(3L, 1L, 1L, new BigDecimal("257.50")));
 
         // Act & Assert
         mockMvc.perform(get("/api/admin/stats"))
@@ -94,7 +68,114 @@ public class AdminControllerTest {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.totalItems").value(3))
                 .andExpect(jsonPath("$.lowStockItems").value(1))
-                .andExpect(jsonPath("$.outOfStockItems").value(1));
+                .andExpect(jsonPath("$.outOfStockItems").value(1))
+                .andExpect(jsonPath("$.totalValue").value(257.50));
+    }
+
+    @Test
+    public void testGetCategoryReport() throws Exception {
+        // Arrange
+        when(inventoryService.getCategorySummaries()).thenReturn(Arrays.asList(
+                new InventoryGroupSummary(1L, "Bedding", 2L, 30L, new BigDecimal("300.00")),
+                new InventoryGroupSummary(null, null, 1L, 5L, new BigDecimal("25.00"))
+        ));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/admin/reports/categories"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.categoryStats.Bedding.totalQuantity").value(30))
+                .andExpect(jsonPath("$.categoryStats.Bedding.itemCount").value(2))
+                .andExpect(jsonPath("$.categoryStats.Uncategorized.itemCount").value(1));
+    }
+
+    @Test
+    public void testGetSupplierReportAddsUpSuppliersWithTheSameName() throws Exception {
+        // Arrange
+        when(inventoryService.getSupplierSummaries()).thenReturn(Arrays.asList(
+                new InventoryGroupSummary(1L, "Linen Co", 2L, 30L, new BigDecimal("300.00")),
+                new InventoryGroupSummary(2L, "Linen Co", 1L, 10L, new BigDecimal("50.00")),
+                new InventoryGroupSummary(3L, "No Supplier", 1L, 4L, null),
+                new InventoryGroupSummary(null, null, 1L, 5L, new BigDecimal("25.00"))
+        ));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/admin/reports/suppliers"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.supplierStats['Linen Co'].itemCount").value(3))
+                .andExpect(jsonPath("$.supplierStats['Linen Co'].totalQuantity").value(40))
+                .andExpect(jsonPath("$.supplierStats['Linen Co'].totalValue").value(350.00))
+                .andExpect(jsonPath("$.supplierStats['No Supplier'].itemCount").value(2))
+                .andExpect(jsonPath("$.supplierStats['No Supplier'].totalValue").value(25.00));
+    }
+
+    @Test
+    public void testProcessItemRequestsRejectsAnInvalidDecisionBeforeApplyingAny() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/admin/item-requests/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Arrays.asList(
+                                ItemRequestDecision.builder().requestId(1L).action(ItemRequestDecision.Action.APPROVE).build(),
+                                ItemRequestDecision.builder().requestId(2L).action(ItemRequestDecision.Action.REJECT)
+                                        .notes("x".repeat(256)).build()))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors['decisions[1].notes']").value("Notes cannot exceed 255 characters"));
+
+        verifyNoInteractions(adminInspectorService);
+    }
+
+    @Test
+    public void testProcessItemRequestsRejectsOversizedBatches() throws Exception {
+        // Arrange
+        List<ItemRequestDecision> decisions = new ArrayList<>();
+        for (long id = 1; id <= 501; id++) {
+            decisions.add(ItemRequestDecision.builder().requestId(id).action(ItemRequestDecision.Action.APPROVE).build());
+        }
+
+        // Act & Assert
+        mockMvc.perform(post("/api/admin/item-requests/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(decisions)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.decisions").value("At most 500 decisions can be processed at once"));
+
+        verifyNoInteractions(adminInspectorService);
+    }
+
+    @Test
+    public void testBulkUpdateInventoryRejectsInvalidRowsBeforeApplyingAny() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/admin/inventory/bulk-update")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Arrays.asList(
+                                InventoryItemUpdate.builder().id(1L).quantity(5).build(),
+                                InventoryItemUpdate.builder().quantity(-1).build(),
+                                InventoryItemUpdate.builder().id(3L).price(new BigDecimal("-0.01")).build(),
+                                InventoryItemUpdate.builder().id(4L).build()))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors['updates[1].id']").value("Item ID is required"))
+                .andExpect(jsonPath("$.errors['updates[1].quantity']").value("Quantity cannot be negative"))
+                .andExpect(jsonPath("$.errors['updates[2].price']").value("Price cannot be negative"))
+                .andExpect(jsonPath("$.errors['updates[3].changeGiven']").value("Nothing to update"));
+
+        verifyNoInteractions(inventoryService);
+    }
+
+    @Test
+    public void testBulkUpdateInventoryRejectsOversizedBatches() throws Exception {
+        // Arrange
+        List<InventoryItemUpdate> updates = new ArrayList<>();
+        for (long id = 1; id <= 10_001; id++) {
+            updates.add(InventoryItemUpdate.builder().id(id).quantity(1).build());
+        }
+
+        // Act & Assert
+        mockMvc.perform(post("/api/admin/inventory/bulk-update")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updates)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.updates").value("At most 10000 updates can be applied at once"));
+
+        verifyNoInteractions(inventoryService);
     }
 
     @Test
@@ -116,20 +197,13 @@ public class AdminControllerTest {
                         .name("Low Stock Item")
                         .quantity(5)
                         .price(new BigDecimal("10.00"))
-                        .category(category)
-                        .supplier(supplier)
-                        .build(),
-                InventoryItem.builder()
-                        .id(2L)
-                        .name("Normal Stock Item")
-                        .quantity(50)
-                        .price(new BigDecimal("20.00"))
+                        .status(InventoryItem.ItemStatus.LOW_STOCK)
                         .category(category)
                         .supplier(supplier)
                         .build()
         );
 
-        when(inventoryService.getAllItems()).thenReturn(mockItems);
+        when(inventoryService.getLowStockItems()).thenReturn(mockItems);
 
         // Act & Assert
         mockMvc.perform(get("/api/admin/inventory/low-stock"))
@@ -159,20 +233,13 @@ public class AdminControllerTest {
                         .name("Out of Stock Item")
                         .quantity(0)
                         .price(new BigDecimal("10.00"))
-                        .category(category)
-                        .supplier(supplier)
-                        .build(),
-                InventoryItem.builder()
-                        .id(2L)
-                        .name("In Stock Item")
-                        .quantity(20)
-                        .price(new BigDecimal("20.00"))
+                        .status(InventoryItem.ItemStatus.OUT_OF_STOCK)
                         .category(category)
                         .supplier(supplier)
                         .build()
         );
 
-        when(inventoryService.getAllItems()).thenReturn(mockItems);
+        when(inventoryService.getOutOfStockItems()).thenReturn(mockItems);
 
         // Act & Assert
         mockMvc.perform(get("/api/admin/inventory/out-of-stock"))
@@ -0,0 +1,94 @@
+package com.example.hotel_inventory;
+
+import com.example.hotel_inventory.controller.InspectorController;
+import com.example.hotel_inventory.dto.InspectionItemDto;
+import com.example.hotel_inventory.exception.GlobalExceptionHandler;
+import com.example.hotel_inventory.service.InspectorService;
+import com.example.hotel_inventory.service.InspectorSyncService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+public class InspectorControllerTest {
+
+    @Mock
+    private InspectorService inspectorService;
+
+    @Mock
+    private InspectorSyncService inspectorSyncService;
+
+    @InjectMocks
+    private InspectorController inspectorController;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(inspectorController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    public void testSubmitInspectionRejectsInvalidLines() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/inspector/inspections/submit")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"locationType\":\"ROOM\",\"locationIdentifier\":\"101\",\"items\":["
+                                + "{\"inventoryItemId\":1,\"actualQuantity\":-1},"
+                                + "{\"expectedQuantity\":2,\"conditionStatus\":\"BROKEN\"}]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors['items[0].actualQuantity']").value("Actual quantity cannot be negative"))
+                .andExpect(jsonPath("$.errors['items[1].inventoryItemId']").value("Inventory item is required"))
+                .andExpect(jsonPath("$.errors['items[1].conditionStatus']").value("Condition must be GOOD, DAMAGED or MISSING"));
+
+        verifyNoInteractions(inspectorService);
+    }
+
+    @Test
+    public void testAddInspectionItemRequiresAnItem() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/inspector/inspections/1/items")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"expectedQuantity\":2,\"actualQuantity\":2,\"conditionStatus\":\"GOOD\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.inventoryItemId").value("Inventory item is required"));
+
+        verifyNoInteractions(inspectorService);
+    }
+
+    @Test
+    public void testUpdateInspectionItemValidatesValuesButNotTheItem() throws Exception {
+        // Arrange
+        when(inspectorService.updateInspectionItem(eq(7L), any(InspectionItemDto.class)))
+                .thenReturn(InspectionItemDto.builder().id(7L).actualQuantity(0).conditionStatus("MISSING").build());
+
+        // Act & Assert
+        mockMvc.perform(put("/api/inspector/inspection-items/7")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"expectedQuantity\":-2,\"actualQuantity\":1}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.expectedQuantity").value("Expected quantity cannot be negative"));
+
+        mockMvc.perform(put("/api/inspector/inspection-items/7")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"expectedQuantity\":2,\"actualQuantity\":0,\"conditionStatus\":\"MISSING\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.conditionStatus").value("MISSING"));
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.hotel_inventory.config;
+
+import com.example.hotel_inventory.service.AdminInspectorService;
+import com.example.hotel_inventory.service.InventoryService;
+import com.example.hotel_inventory.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ServiceMetricsTest {
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private AdminInspectorService adminInspectorService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private MeterFilter serviceHistograms;
+
+    @Test
+    void serviceCalls_ShouldBeTimedWithHistogramsOnTheStatsPath() {
+        long before = count("InventoryService", "getInventoryStats", "none");
+
+        inventoryService.getInventoryStats();
+
+        assertEquals(before + 1, count("InventoryService", "getInventoryStats", "none"));
+        assertTrue(histogramEnabled(timer("InventoryService", "getInventoryStats", "none")));
+    }
+
+    @Test
+    void failedServiceCalls_ShouldBeTaggedWithTheException() {
+        long before = count("AdminInspectorService", "approveItemRequest", "RuntimeException");
+
+        assertThrows(RuntimeException.class, () -> adminInspectorService.approveItemRequest(-1L, 1L));
+
+        assertEquals(before + 1, count("AdminInspectorService", "approveItemRequest", "RuntimeException"));
+    }
+
+    @Test
+    void otherServiceMethods_ShouldBeTimedWithoutHistograms() {
+        userService.getAllUsers();
+
+        assertFalse(histogramEnabled(timer("UserService", "getAllUsers", "none")));
+    }
+
+    @Test
+    void actuatorMeters_ShouldCoverRepositoriesPoolAndHibernate() {
+        inventoryService.getAllItems();
+
+        assertNotNull(meterRegistry.find("spring.data.repository.invocations").timer());
+        assertNotNull(meterRegistry.find("hikaricp.connections").meter());
+        assertNotNull(meterRegistry.find("hibernate.statements").meter());
+    }
+
+    // The test registry does not publish histogram buckets, so ask the filter that configures them
+    private boolean histogramEnabled(Timer timer) {
+        return Boolean.TRUE.equals(serviceHistograms
+                .configure(timer.getId(), DistributionStatisticConfig.NONE)
+                .isPercentileHistogram());
+    }
+
+    private long count(String service, String method, String exception) {
+        Timer timer = meterRegistry.find(MetricsConfig.SERVICE_TIMER)
+                .tags("service", service, "method", method, "exception", exception)
+                .timer();
+        return timer != null ? timer.count() : 0;
+    }
+
+    private Timer timer(String service, String method, String exception) {
+        Timer timer = meterRegistry.find(MetricsConfig.SERVICE_TIMER)
+                .tags("service", service, "method", method, "exception", exception)
+                .timer();
+        assertNotNull(timer);
+        return timer;
+    }
+}
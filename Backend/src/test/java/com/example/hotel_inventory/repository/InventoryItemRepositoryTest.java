@@ -0,0 +1,185 @@
+package com.example.hotel_inventory.repository;
+
+import com.example.hotel_inventory.dto.InventoryItemDto;
+import com.example.hotel_inventory.model.Category;
+import com.example.hotel_inventory.model.InventoryItem;
+import com.example.hotel_inventory.model.Supplier;
+import com.example.hotel_inventory.model.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class InventoryItemRepositoryTest {
+
+    @Autowired
+    private InventoryItemRepository inventoryItemRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void findAllWithReferences_QueryCountShouldNotGrowWithItemCount() {
+        seedItems(5);
+        long smallListQueries = countQueriesForListing();
+
+        seedItems(45);
+        long largeListQueries = countQueriesForListing();
+
+        assertEquals(1, smallListQueries);
+        assertEquals(smallListQueries, largeListQueries);
+    }
+
+    @Test
+    void findWithReferencesById_ShouldLoadReferencesInOneQuery() {
+        Long id = seedItems(1).get(0).getId();
+        entityManager.clear();
+        statistics.clear();
+
+        InventoryItemDto dto = InventoryItemDto.fromEntity(inventoryItemRepository.findWithReferencesById(id).orElseThrow());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals("creator-0", dto.getCreatedBy().getUsername());
+    }
+
+    @Test
+    void status_ShouldFollowQuantityInBothDirections() {
+        InventoryItem item = stockItem(0, 5);
+        assertEquals(InventoryItem.ItemStatus.OUT_OF_STOCK, item.getStatus());
+
+        item.setQuantity(3);
+        assertEquals(InventoryItem.ItemStatus.LOW_STOCK, item.getStatus());
+        item.setQuantity(40);
+        assertEquals(InventoryItem.ItemStatus.IN_STOCK, item.getStatus());
+        item.setMinQuantity(50);
+        assertEquals(InventoryItem.ItemStatus.LOW_STOCK, item.getStatus());
+
+        item.setStatus(InventoryItem.ItemStatus.DISCONTINUED);
+        item.setQuantity(0);
+        assertEquals(InventoryItem.ItemStatus.DISCONTINUED, item.getStatus());
+    }
+
+    @Test
+    void decrementStock_ShouldWriteTheSameStatusAsTheEntity() {
+        InventoryItem item = stockItem(10, 5);
+        InventoryItem discontinued = stockItem(10, 5);
+        discontinued.setStatus(InventoryItem.ItemStatus.DISCONTINUED);
+        entityManager.flush();
+
+        inventoryItemRepository.decrementStock(item.getId(), 6, null);
+        inventoryItemRepository.decrementStock(discontinued.getId(), 10, null);
+        entityManager.clear();
+
+        assertEquals(InventoryItem.ItemStatus.LOW_STOCK,
+                inventoryItemRepository.findById(item.getId()).orElseThrow().getStatus());
+        assertEquals(InventoryItem.ItemStatus.DISCONTINUED,
+                inventoryItemRepository.findById(discontinued.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void refreshStatuses_ShouldCorrectOnlyRowsOutOfLine() {
+        InventoryItem restocked = stockItem(40, 5);
+        InventoryItem empty = stockItem(0, 5);
+        InventoryItem low = stockItem(2, 5);
+        InventoryItem discontinued = stockItem(0, 5);
+        discontinued.setStatus(InventoryItem.ItemStatus.DISCONTINUED);
+        entityManager.flush();
+        // Rows as the old code left them: status set once and never moved back
+        entityManager.createNativeQuery("UPDATE inventory_items SET status = 'LOW_STOCK' WHERE id = :id")
+                .setParameter("id", restocked.getId()).executeUpdate();
+        entityManager.createNativeQuery("UPDATE inventory_items SET status = 'IN_STOCK' WHERE id IN (:ids)")
+                .setParameter("ids", List.of(empty.getId(), low.getId())).executeUpdate();
+
+        assertEquals(3, inventoryItemRepository.refreshStatuses());
+        assertEquals(0, inventoryItemRepository.refreshStatuses());
+        entityManager.clear();
+
+        assertEquals(1, inventoryItemRepository.countByStatus(InventoryItem.ItemStatus.IN_STOCK));
+        assertEquals(1, inventoryItemRepository.countByStatus(InventoryItem.ItemStatus.LOW_STOCK));
+        assertEquals(1, inventoryItemRepository.countByStatus(InventoryItem.ItemStatus.OUT_OF_STOCK));
+        assertEquals(1, inventoryItemRepository.countByStatus(InventoryItem.ItemStatus.DISCONTINUED));
+    }
+
+    private InventoryItem stockItem(int quantity, int minQuantity) {
+        InventoryItem item = InventoryItem.builder()
+                .name("stock-" + quantity)
+                .quantity(quantity)
+                .minQuantity(minQuantity)
+                .price(new BigDecimal("1.00"))
+                .build();
+        entityManager.persist(item);
+        return item;
+    }
+
+    private long countQueriesForListing() {
+        entityManager.clear();
+        statistics.clear();
+
+        List<InventoryItemDto> dtos = inventoryItemRepository.findAllWithReferences().stream()
+                .map(InventoryItemDto::fromEntity)
+                .toList();
+
+        assertEquals(inventoryItemRepository.count(), dtos.size());
+        // Exclude the count query issued by the assertion above
+        return statistics.getPrepareStatementCount() - 1;
+    }
+
+    // Every item gets its own category, supplier and users so nothing is served from the persistence context
+    private List<InventoryItem> seedItems(int count) {
+        long offset = inventoryItemRepository.count();
+        List<InventoryItem> items = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            long n = offset + i;
+            Category category = Category.builder().name("category-" + n).isActive(true).build();
+            Supplier supplier = Supplier.builder().name("supplier-" + n).email("supplier" + n + "@hotel.com").isActive(true).build();
+            User creator = user("creator-" + n);
+            User updater = user("updater-" + n);
+            entityManager.persist(category);
+            entityManager.persist(supplier);
+            entityManager.persist(creator);
+            entityManager.persist(updater);
+
+            InventoryItem item = InventoryItem.builder()
+                    .name("item-" + n)
+                    .quantity(10)
+                    .price(new BigDecimal("1.00"))
+                    .category(category)
+                    .supplier(supplier)
+                    .createdBy(creator)
+                    .updatedBy(updater)
+                    .build();
+            entityManager.persist(item);
+            items.add(item);
+        }
+        entityManager.flush();
+        return items;
+    }
+
+    private User user(String username) {
+        return User.builder()
+                .username(username)
+                .email(username + "@hotel.com")
+                .password("password")
+                .role(User.UserRole.STOCK_MANAGER)
+                .build();
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.hotel_inventory.repository;
+
+import com.example.hotel_inventory.model.InventoryItem;
+import com.example.hotel_inventory.model.StockTransaction;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class StockTransactionRepositoryTest {
+
+    private static final int ROWS = 5000;
+
+    @Autowired
+    private StockTransactionRepository stockTransactionRepository;
+
+    @Autowired
+    private InventoryItemRepository inventoryItemRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void saveAll_ShouldInsertInJdbcBatches() {
+        InventoryItem item = inventoryItemRepository.saveAndFlush(InventoryItem.builder()
+                .name("Towel")
+                .quantity(10)
+                .price(new BigDecimal("4.00"))
+                .build());
+
+        List<StockTransaction> transactions = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            transactions.add(StockTransaction.builder()
+                    .item(item)
+                    .type(StockTransaction.TransactionType.ADD)
+                    .quantity(1)
+                    .previousQuantity(i)
+                    .newQuantity(i + 1)
+                    .build());
+        }
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        stockTransactionRepository.saveAll(transactions);
+        entityManager.flush();
+
+        // Timing lives in StockTransactionInsertBenchmark
+        long statements = statistics.getPrepareStatementCount();
+
+        assertEquals(ROWS, statistics.getEntityInsertCount());
+        // One statement per batch of inserts plus one per block of pooled ids, not one per row
+        assertTrue(statements <= ROWS / 10, "expected batched inserts, got " + statements + " statements");
+    }
+}
@@ -0,0 +1,232 @@
+package com.example.hotel_inventory.service;
+
+import com.example.hotel_inventory.dto.request.ItemRequestDecision;
+import com.example.hotel_inventory.dto.response.ItemRequestDecisionResult;
+import com.example.hotel_inventory.model.InventoryItem;
+import com.example.hotel_inventory.model.ItemRequest;
+import com.example.hotel_inventory.model.User;
+import com.example.hotel_inventory.repository.InventoryItemRepository;
+import com.example.hotel_inventory.repository.ItemRequestRepository;
+import com.example.hotel_inventory.repository.StockTransactionRepository;
+import com.example.hotel_inventory.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class AdminInspectorServiceConcurrencyTest {
+
+    private static final int THREADS = 64;
+    private static final int ROUNDS = 20;
+
+    @Autowired
+    private AdminInspectorService adminInspectorService;
+
+    @Autowired
+    private InventoryItemRepository inventoryItemRepository;
+
+    @Autowired
+    private ItemRequestRepository itemRequestRepository;
+
+    @Autowired
+    private StockTransactionRepository stockTransactionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private CreatedRows created;
+
+    private User admin;
+    private User inspector;
+    private InventoryItem item;
+
+    @BeforeEach
+    void setUp() {
+        created = new CreatedRows(jdbcTemplate);
+        admin = created.user(userRepository.save(user("admin", User.UserRole.ADMIN)));
+        inspector = created.user(userRepository.save(user("inspector", User.UserRole.INSPECTOR)));
+        item = created.item(inventoryItemRepository.save(InventoryItem.builder()
+                .name("Towel")
+                .quantity(50)
+                .minQuantity(5)
+                .price(new BigDecimal("4.00"))
+                .status(InventoryItem.ItemStatus.IN_STOCK)
+                .build()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        created.delete();
+    }
+
+    @Test
+    void concurrentApprovals_ShouldNeverOversell() throws Exception {
+        List<Long> requestIds = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            requestIds.add(itemRequestRepository.save(request(1)).getId());
+        }
+
+        int approved = approveConcurrently(requestIds);
+
+        assertEquals(50, approved);
+        assertEquals(0, inventoryItemRepository.findQuantityById(item.getId()));
+        assertEquals(InventoryItem.ItemStatus.OUT_OF_STOCK,
+                inventoryItemRepository.findById(item.getId()).orElseThrow().getStatus());
+        assertEquals(50, stockTransactionRepository.count());
+        assertEquals(THREADS - 50, itemRequestRepository.findByStatusOrderByCreatedAtDesc(ItemRequest.RequestStatus.PENDING).size());
+    }
+
+    @Test
+    void concurrentApprovalsOfSameRequest_ShouldApplyOnce() throws Exception {
+        Long requestId = itemRequestRepository.save(request(3)).getId();
+        List<Long> requestIds = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            requestIds.add(requestId);
+        }
+
+        int approved = approveConcurrently(requestIds);
+
+        assertEquals(1, approved);
+        assertEquals(47, inventoryItemRepository.findQuantityById(item.getId()));
+        assertEquals(1, stockTransactionRepository.count());
+    }
+
+    @Test
+    void concurrentApproveAndReject_ShouldApplyOnlyOne() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            int approvals = 0;
+            for (int round = 0; round < ROUNDS; round++) {
+                Long requestId = itemRequestRepository.save(request(1)).getId();
+                CountDownLatch start = new CountDownLatch(1);
+                Future<Boolean> approve = executor.submit(() -> succeeds(start,
+                        () -> adminInspectorService.approveItemRequest(requestId, admin.getId())));
+                Future<Boolean> reject = executor.submit(() -> succeeds(start,
+                        () -> adminInspectorService.rejectItemRequest(requestId, admin.getId(), "Not needed")));
+                start.countDown();
+
+                boolean approved = approve.get(60, TimeUnit.SECONDS);
+                boolean rejected = reject.get(60, TimeUnit.SECONDS);
+                assertNotEquals(approved, rejected, "round " + round);
+                assertEquals(approved ? ItemRequest.RequestStatus.APPROVED : ItemRequest.RequestStatus.REJECTED,
+                        itemRequestRepository.findById(requestId).orElseThrow().getStatus(), "round " + round);
+                approvals += approved ? 1 : 0;
+            }
+
+            assertEquals(50 - approvals, inventoryItemRepository.findQuantityById(item.getId()));
+            assertEquals(approvals, stockTransactionRepository.findByItemIdOrderByTransactionDateDescIdDesc(item.getId()).size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void processItemRequests_ShouldApplyInOrderAndReportShortfalls() {
+        Long first = itemRequestRepository.save(request(30)).getId();
+        Long second = itemRequestRepository.save(request(30)).getId();
+        Long third = itemRequestRepository.save(request(20)).getId();
+        Long rejected = itemRequestRepository.save(request(5)).getId();
+
+        List<ItemRequestDecisionResult> results = adminInspectorService.processItemRequests(List.of(
+                decision(first, ItemRequestDecision.Action.APPROVE),
+                decision(second, ItemRequestDecision.Action.APPROVE),
+                decision(third, ItemRequestDecision.Action.APPROVE),
+                decision(rejected, ItemRequestDecision.Action.REJECT),
+                decision(first, ItemRequestDecision.Action.APPROVE),
+                decision(-1L, ItemRequestDecision.Action.APPROVE)), admin.getId());
+
+        assertEquals(List.of(true, false, true, true, false, false),
+                results.stream().map(ItemRequestDecisionResult::isSuccess).toList());
+        assertEquals("Insufficient stock. Available: 20, Requested: 30", results.get(1).getMessage());
+        assertEquals(ItemRequest.RequestStatus.REJECTED, results.get(3).getRequest().getStatus());
+        assertEquals(0, inventoryItemRepository.findQuantityById(item.getId()));
+        assertEquals(2, stockTransactionRepository.count());
+        assertEquals(ItemRequest.RequestStatus.PENDING,
+                itemRequestRepository.findById(second).orElseThrow().getStatus());
+    }
+
+    private int approveConcurrently(List<Long> requestIds) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (Long requestId : requestIds) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        adminInspectorService.approveItemRequest(requestId, admin.getId());
+                        return true;
+                    } catch (RuntimeException e) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+
+            int approved = 0;
+            for (Future<Boolean> result : results) {
+                approved += result.get(60, TimeUnit.SECONDS) ? 1 : 0;
+            }
+            return approved;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static boolean succeeds(CountDownLatch start, Runnable decision) throws InterruptedException {
+        start.await();
+        try {
+            decision.run();
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private ItemRequestDecision decision(Long requestId, ItemRequestDecision.Action action) {
+        return ItemRequestDecision.builder().requestId(requestId).action(action).build();
+    }
+
+    private ItemRequest request(int quantity) {
+        return ItemRequest.builder()
+                .inspector(inspector)
+                .inventoryItem(item)
+                .requestedQuantity(quantity)
+                .locationType("ROOM")
+                .locationIdentifier("101")
+                .status(ItemRequest.RequestStatus.PENDING)
+                .build();
+    }
+
+    private User user(String username, User.UserRole role) {
+        return User.builder()
+                .username(username)
+                .email(username + "@hotel.test")
+                .password("secret")
+                .firstName(username)
+                .lastName("Test")
+                .role(role)
+                .isActive(true)
+                .build();
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.hotel_inventory.service;
+
+import com.example.hotel_inventory.model.Frontdesk;
+import com.example.hotel_inventory.model.InventoryItem;
+import com.example.hotel_inventory.model.User;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The users, items, locations and bookings a test created. {@link #delete()} removes them
+ * and the rows hanging off them (transactions, requests, inspections, forecasts, tombstones)
+ * in foreign key order, so test classes sharing the in-memory database leave the seed data
+ * and each other's rows alone.
+ */
+class CreatedRows {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final Set<Long> users = new LinkedHashSet<>();
+    private final Set<Long> items = new LinkedHashSet<>();
+    private final Set<Long> locations = new LinkedHashSet<>();
+    private final Set<Long> bookings = new LinkedHashSet<>();
+
+    CreatedRows(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    User user(User user) {
+        users.add(user.getId());
+        return user;
+    }
+
+    InventoryItem item(InventoryItem item) {
+        items.add(item.getId());
+        return item;
+    }
+
+    List<InventoryItem> items(List<InventoryItem> created) {
+        created.forEach(this::item);
+        return created;
+    }
+
+    Long itemId(Long id) {
+        items.add(id);
+        return id;
+    }
+
+    Long locationId(Long id) {
+        locations.add(id);
+        return id;
+    }
+
+    Frontdesk booking(Frontdesk booking) {
+        bookings.add(booking.getId());
+        return booking;
+    }
+
+    void delete() {
+        update("DELETE FROM inspection_items WHERE inventory_item_id IN (:ids)", items);
+        update("DELETE FROM inspection_items WHERE inspection_id IN "
+                + "(SELECT id FROM inspections WHERE inspector_id IN (:ids))", users);
+        update("DELETE FROM inspections WHERE inspector_id IN (:ids)", users);
+        update("DELETE FROM item_requests WHERE inventory_item_id IN (:ids)", items);
+        update("DELETE FROM item_requests WHERE inspector_id IN (:ids) OR approved_by IN (:ids)", users);
+        update("DELETE FROM stock_transactions WHERE item_id IN (:ids)", items);
+        update("DELETE FROM stock_transactions WHERE performed_by IN (:ids)", users);
+        update("DELETE FROM item_forecasts WHERE item_id IN (:ids)", items);
+        update("DELETE FROM inventory_item_tombstones WHERE item_id IN (:ids)", items);
+        // Par levels go with their location or item, consumption templates with their item
+        update("DELETE FROM locations WHERE id IN (:ids)", locations);
+        update("DELETE FROM frontdesk WHERE id IN (:ids)", bookings);
+        update("DELETE FROM inventory_items WHERE id IN (:ids)", items);
+        update("UPDATE inventory_items SET created_by = NULL WHERE created_by IN (:ids)", users);
+        update("UPDATE inventory_items SET updated_by = NULL WHERE updated_by IN (:ids)", users);
+        update("DELETE FROM users WHERE id IN (:ids)", users);
+        users.clear();
+        items.clear();
+        locations.clear();
+        bookings.clear();
+    }
+
+    private void update(String sql, Collection<Long> ids) {
+        if (!ids.isEmpty()) {
+            jdbcTemplate.update(sql, Map.of("ids", ids));
+        }
+    }
+}
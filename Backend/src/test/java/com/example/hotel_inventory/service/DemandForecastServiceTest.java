@@ -0,0 +1,177 @@
+package com.example.hotel_inventory.service;
+
+import com.example.hotel_inventory.dto.ItemDemandDto;
+import com.example.hotel_inventory.dto.request.RoomTypeConsumptionRequest;
+import com.example.hotel_inventory.model.Frontdesk;
+import com.example.hotel_inventory.model.InventoryItem;
+import com.example.hotel_inventory.repository.FrontdeskRepository;
+import com.example.hotel_inventory.repository.InventoryItemRepository;
+import com.example.hotel_inventory.repository.RoomTypeConsumptionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class DemandForecastServiceTest {
+
+    private static final String DELUXE = "demand-deluxe";
+    private static final String STANDARD = "demand-standard";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DemandForecastService demandForecastService;
+
+    @Autowired
+    private FrontdeskRepository frontdeskRepository;
+
+    @Autowired
+    private RoomTypeConsumptionRepository consumptionRepository;
+
+    @Autowired
+    private InventoryItemRepository inventoryItemRepository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private CreatedRows created;
+
+    private final LocalDate today = LocalDate.now();
+    private InventoryItem towel;
+    private InventoryItem sheets;
+
+    @BeforeEach
+    void setUp() {
+        created = new CreatedRows(jdbcTemplate);
+        towel = created.item(inventoryItemRepository.save(item("Bath Towel", 20)));
+        sheets = created.item(inventoryItemRepository.save(item("Bed Sheet Set", 50)));
+        template(DELUXE, towel, 0, 2);
+        template(DELUXE, sheets, 1, 0);
+        template(STANDARD, towel, 0, 1);
+
+        // Three identical reservations, which the database folds into one group
+        for (int i = 0; i < 3; i++) {
+            booking(DELUXE, Frontdesk.BookingStatus.RESERVED, null, day(0, 14), day(2, 11), 2);
+        }
+        // Checked in yesterday, so only tonight falls in the window; no guest count means one guest
+        booking(DELUXE, Frontdesk.BookingStatus.CHECKED_IN, day(-1, 15), day(-1, 14), day(1, 11), null);
+        booking(STANDARD, Frontdesk.BookingStatus.RESERVED, null, day(1, 14), day(5, 11), 2);
+        booking(DELUXE, Frontdesk.BookingStatus.CANCELLED, null, day(0, 14), day(2, 11), 2);
+        booking(DELUXE, Frontdesk.BookingStatus.RESERVED, null, day(3, 14), day(4, 11), 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        created.delete();
+    }
+
+    @Test
+    void projectDemand_ShouldMultiplyNightlyOccupancyByTemplates() {
+        List<ItemDemandDto> demand = demandForecastService.projectDemand(3);
+
+        assertEquals(2, demand.size());
+        ItemDemandDto towels = demand.get(0);
+        assertEquals(towel.getId(), towels.getItemId());
+        // Deluxe guests 7, 6, 0 at two towels each; standard guests 0, 2, 2 at one
+        assertEquals(List.of(14.0, 14.0, 2.0), towels.getDaily().stream().map(ItemDemandDto.DailyDemand::getQuantity).toList());
+        assertEquals(30, towels.getTotalDemand());
+        assertEquals(10, towels.getShortfall());
+        assertEquals(today, towels.getDaily().get(0).getDate());
+
+        ItemDemandDto sheetSets = demand.get(1);
+        assertEquals(List.of(4.0, 3.0, 0.0), sheetSets.getDaily().stream().map(ItemDemandDto.DailyDemand::getQuantity).toList());
+        assertEquals(7, sheetSets.getTotalDemand());
+        assertEquals(0, sheetSets.getShortfall());
+    }
+
+    @Test
+    void summarizeStays_ShouldGroupBookingsInTheDatabase() {
+        long groups = frontdeskRepository.summarizeStays(
+                List.of(Frontdesk.BookingStatus.RESERVED, Frontdesk.BookingStatus.CHECKED_IN),
+                today.atStartOfDay(), today.plusDays(3).atStartOfDay())
+                .stream()
+                .filter(stay -> stay.getRoomType().startsWith("demand-"))
+                .count();
+
+        assertEquals(3, groups);
+    }
+
+    @Test
+    void saveConsumptionTemplate_ShouldReplaceTheTemplateForTheSameRoomTypeAndItem() {
+        demandForecastService.saveConsumptionTemplate(
+                new RoomTypeConsumptionRequest(" " + STANDARD + " ", towel.getId(), 0, 3));
+
+        assertEquals(3, consumptionRepository.count());
+        assertEquals(3.0, consumptionRepository.findByRoomTypeAndItemId(STANDARD, towel.getId())
+                .orElseThrow().getPerGuestNight());
+    }
+
+    @Test
+    void deletingAnItem_ShouldDeleteItsTemplates() {
+        inventoryItemRepository.deleteById(sheets.getId());
+
+        assertEquals(2, consumptionRepository.count());
+        assertTrue(consumptionRepository.findByRoomTypeAndItemId(DELUXE, sheets.getId()).isEmpty());
+    }
+
+    @Test
+    void demandEndpoint_ShouldReturnTheProjection() throws Exception {
+        mockMvc.perform(get("/api/frontdesk/demand").param("days", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].itemName").value("Bath Towel"))
+                .andExpect(jsonPath("$[0].totalDemand").value(28))
+                .andExpect(jsonPath("$[0].daily.length()").value(2));
+    }
+
+    private LocalDateTime day(int offset, int hour) {
+        return today.plusDays(offset).atTime(hour, 0);
+    }
+
+    private static InventoryItem item(String name, int quantity) {
+        return InventoryItem.builder()
+                .name(name)
+                .quantity(quantity)
+                .minQuantity(5)
+                .price(new BigDecimal("3.00"))
+                .build();
+    }
+
+    private void template(String roomType, InventoryItem item, double perRoomNight, double perGuestNight) {
+        demandForecastService.saveConsumptionTemplate(
+                new RoomTypeConsumptionRequest(roomType, item.getId(), perRoomNight, perGuestNight));
+    }
+
+    private void booking(String roomType, Frontdesk.BookingStatus status, LocalDateTime checkIn,
+                         LocalDateTime expectedCheckIn, LocalDateTime expectedCheckOut, Integer guests) {
+        created.booking(frontdeskRepository.save(Frontdesk.builder()
+                .guestName("Guest")
+                .roomNumber("D" + frontdeskRepository.count())
+                .roomType(roomType)
+                .status(status)
+                .checkInDate(checkIn)
+                .expectedCheckIn(expectedCheckIn)
+                .expectedCheckOut(expectedCheckOut)
+                .numberOfGuests(guests)
+                .build()));
+    }
+}
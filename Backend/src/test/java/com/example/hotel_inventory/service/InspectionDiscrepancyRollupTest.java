@@ -0,0 +1,350 @@
+package com.example.hotel_inventory.service;
+
+import com.example.hotel_inventory.dto.InspectionItemDto;
+import com.example.hotel_inventory.dto.response.DiscrepancyStatsDto;
+import com.example.hotel_inventory.dto.response.RollupRunSummary;
+import com.example.hotel_inventory.model.Inspection;
+import com.example.hotel_inventory.model.InspectionDailyRollup;
+import com.example.hotel_inventory.model.InspectionItem;
+import com.example.hotel_inventory.model.InventoryItem;
+import com.example.hotel_inventory.model.User;
+import com.example.hotel_inventory.repository.InspectionDailyRollupRepository;
+import com.example.hotel_inventory.repository.InspectionItemRepository;
+import com.example.hotel_inventory.repository.InspectionRepository;
+import com.example.hotel_inventory.repository.InventoryItemRepository;
+import com.example.hotel_inventory.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class InspectionDiscrepancyRollupTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private InspectionDiscrepancyRollup rollup;
+
+    @Autowired
+    private AdminInspectorService adminInspectorService;
+
+    @Autowired
+    private InspectorService inspectorService;
+
+    @Autowired
+    private InspectionDailyRollupRepository rollupRepository;
+
+    @Autowired
+    private InspectionRepository inspectionRepository;
+
+    @Autowired
+    private InspectionItemRepository inspectionItemRepository;
+
+    @Autowired
+    private InventoryItemRepository inventoryItemRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private CreatedRows created;
+
+    private final LocalDate today = LocalDate.now();
+    private User alice;
+    private InventoryItem towel;
+    private InventoryItem soap;
+    private Inspection first;
+    private Inspection second;
+    private Inspection open;
+    private InspectionItem shortTowel;
+    private InspectionItem damagedSoap;
+
+    @BeforeEach
+    void setUp() {
+        created = new CreatedRows(jdbcTemplate);
+        // Rollups are derived and the nightly job is off in tests; start with no day rolled up
+        rollupRepository.deleteAll();
+        alice = created.user(userRepository.save(inspector("alice")));
+        User bob = created.user(userRepository.save(inspector("bob")));
+        towel = created.item(inventoryItemRepository.save(item("Towel")));
+        soap = created.item(inventoryItemRepository.save(item("Soap")));
+
+        first = inspection(alice, "ROOM", "101", Inspection.InspectionStatus.COMPLETED, 3);
+        shortTowel = line(first, towel, 2, 1, "GOOD");
+        damagedSoap = line(first, soap, 1, 1, "DAMAGED");
+        second = inspection(bob, "ROOM", "102", Inspection.InspectionStatus.COMPLETED, 2);
+        line(second, towel, 2, 0, "MISSING");
+        line(second, soap, 1, 1, "GOOD");
+        Inspection todays = inspection(alice, "KITCHEN", "K1", Inspection.InspectionStatus.COMPLETED, 0);
+        line(todays, towel, 5, 5, "GOOD");
+        // Not finished, so not counted
+        open = inspection(bob, "ROOM", "103", Inspection.InspectionStatus.IN_PROGRESS, 2);
+        line(open, towel, 9, 0, "MISSING");
+    }
+
+    @AfterEach
+    void tearDown() {
+        rollupRepository.deleteAll();
+        created.delete();
+    }
+
+    @Test
+    void report_ShouldBeTheSameBeforeAndAfterRollingUp() {
+        Map<String, DiscrepancyStatsDto> live = byKey(InspectionDailyRollup.Dimension.ITEM);
+
+        RollupRunSummary summary = rollup.run(today.minusDays(1));
+        Map<String, DiscrepancyStatsDto> rolledUp = byKey(InspectionDailyRollup.Dimension.ITEM);
+
+        assertEquals(today.minusDays(3), summary.getFromDate());
+        assertEquals(live, rolledUp);
+        DiscrepancyStatsDto towels = rolledUp.get(String.valueOf(towel.getId()));
+        assertEquals("Towel", towels.getLabel());
+        assertEquals(3, towels.getLines());
+        assertEquals(2, towels.getShortLines());
+        assertEquals(3, towels.getShortUnits());
+        assertEquals(1, towels.getMissingLines());
+        assertEquals(0.6667, towels.getShortageRate());
+        assertEquals(1, rolledUp.get(String.valueOf(soap.getId())).getDamagedLines());
+    }
+
+    @Test
+    void blankLines_ShouldNotCountLiveOrRolledUp() {
+        // Prefilled from a par level and never filled in
+        inspectionItemRepository.save(InspectionItem.builder()
+                .inspection(second)
+                .inventoryItem(towel)
+                .expectedQuantity(4)
+                .build());
+
+        DiscrepancyStatsDto live = byKey(InspectionDailyRollup.Dimension.ITEM).get(String.valueOf(towel.getId()));
+        rollup.run(today.minusDays(1));
+        DiscrepancyStatsDto rolledUp = byKey(InspectionDailyRollup.Dimension.ITEM).get(String.valueOf(towel.getId()));
+
+        assertEquals(3, live.getLines());
+        assertEquals(0.6667, live.getShortageRate());
+        assertEquals(live, rolledUp);
+    }
+
+    @Test
+    void run_ShouldOnlyRollUpNewDays() {
+        rollup.run(today.minusDays(1));
+
+        RollupRunSummary again = rollup.run(today.minusDays(1));
+
+        assertNull(again.getFromDate());
+        // Three days of ALL rows, one of them without inspections
+        assertEquals(3, rollupRepository.findAll().stream()
+                .filter(row -> row.getDimension() == InspectionDailyRollup.Dimension.ALL)
+                .count());
+    }
+
+    @Test
+    void report_ShouldGroupByLocationTypeAndLocation() {
+        rollup.run(today.minusDays(1));
+
+        Map<String, DiscrepancyStatsDto> types = byKey(InspectionDailyRollup.Dimension.LOCATION_TYPE);
+        Map<String, DiscrepancyStatsDto> locations = byKey(InspectionDailyRollup.Dimension.LOCATION);
+
+        assertEquals(4, types.get("ROOM").getLines());
+        assertEquals(1, types.get("KITCHEN").getLines());
+        assertEquals(2, locations.get("ROOM/102").getShortUnits());
+        assertEquals(3, locations.size());
+    }
+
+    @Test
+    void editingARolledUpInspection_ShouldReRollItsDay() {
+        rollup.run(today.minusDays(1));
+
+        inspectorService.updateInspectionItem(shortTowel.getId(), InspectionItemDto.builder()
+                .expectedQuantity(2)
+                .actualQuantity(2)
+                .conditionStatus("GOOD")
+                .build());
+
+        DiscrepancyStatsDto towels = byKey(InspectionDailyRollup.Dimension.ITEM).get(String.valueOf(towel.getId()));
+        assertEquals(1, towels.getShortLines());
+        assertEquals(2, towels.getShortUnits());
+    }
+
+    @Test
+    void completingAnInspection_ShouldReRollTheDayItMovesToAndTheDayItLeaves() {
+        rollup.run(today.minusDays(1));
+        // As if the nightly run had covered today before these completions committed
+        rollupRepository.save(InspectionDailyRollup.builder()
+                .day(today)
+                .dimension(InspectionDailyRollup.Dimension.ALL)
+                .dimensionKey("")
+                .build());
+        rollup.refreshDay(today);
+
+        inspectorService.completeInspection(open.getId());
+        inspectorService.completeInspection(first.getId());
+
+        DiscrepancyStatsDto towels = byKey(InspectionDailyRollup.Dimension.ITEM).get(String.valueOf(towel.getId()));
+        assertEquals(4, towels.getLines());
+        assertEquals(2, towels.getMissingLines());
+        Map<String, DiscrepancyStatsDto> threeDaysAgo = adminInspectorService.getDiscrepancyStats(
+                        InspectionDailyRollup.Dimension.LOCATION, today.minusDays(3), today.minusDays(3)).stream()
+                .collect(Collectors.toMap(DiscrepancyStatsDto::getKey, Function.identity()));
+        assertEquals(Set.of(), threeDaysAgo.keySet());
+    }
+
+    @Test
+    void concurrentEditsOfOneDay_ShouldAllReachItsRollup() throws Exception {
+        rollup.run(today.minusDays(1));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int round = 0; round < 10; round++) {
+                int actual = round % 2;
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<InspectionItemDto>> edits = new ArrayList<>();
+                for (InspectionItem line : List.of(shortTowel, damagedSoap)) {
+                    edits.add(executor.submit(() -> {
+                        start.await();
+                        return inspectorService.updateInspectionItem(line.getId(), InspectionItemDto.builder()
+                                .expectedQuantity(line.getExpectedQuantity())
+                                .actualQuantity(actual)
+                                .conditionStatus("GOOD")
+                                .build());
+                    }));
+                }
+                start.countDown();
+                for (Future<InspectionItemDto> edit : edits) {
+                    edit.get(60, TimeUnit.SECONDS);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Map<String, DiscrepancyStatsDto> rolledUp = byKey(InspectionDailyRollup.Dimension.ITEM);
+        rollupRepository.deleteAll();
+        assertEquals(byKey(InspectionDailyRollup.Dimension.ITEM), rolledUp);
+    }
+
+    @Test
+    void refreshDay_ShouldNotFailTheEditWhenTheRollupFails() {
+        InspectionDailyRollupRepository failing = mock(InspectionDailyRollupRepository.class);
+        when(failing.findLatestDay()).thenReturn(today);
+        doThrow(new IllegalStateException("rollup table locked")).when(failing).deleteByDayBetween(any(), any());
+        InspectionDiscrepancyRollup failingRollup = new InspectionDiscrepancyRollup(failing,
+                inspectionItemRepository, inspectionRepository, transactionTemplate);
+
+        assertDoesNotThrow(() -> transactionTemplate.executeWithoutResult(status -> failingRollup.refreshDay(today)));
+        verify(failing).deleteByDayBetween(today, today);
+    }
+
+    @Test
+    void discrepancyEndpoint_ShouldReportPerInspector() throws Exception {
+        rollup.run(today.minusDays(1));
+
+        mockMvc.perform(get("/api/admin/inspections/discrepancies")
+                        .param("groupBy", "INSPECTOR")
+                        .param("from", today.minusDays(7).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[?(@.key == '" + alice.getId() + "')].label").value("Test alice"))
+                .andExpect(jsonPath("$[?(@.key == '" + alice.getId() + "')].lines").value(3));
+    }
+
+    @Test
+    void rollupEndpoint_ShouldRejectDaysThatAreNotOver() throws Exception {
+        for (LocalDate through : List.of(today, today.plusDays(30))) {
+            mockMvc.perform(post("/api/admin/inspections/rollup").param("through", through.toString()))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("Inspections can only be rolled up through yesterday or earlier"));
+        }
+
+        assertEquals(0, rollupRepository.count());
+    }
+
+    private Map<String, DiscrepancyStatsDto> byKey(InspectionDailyRollup.Dimension dimension) {
+        return adminInspectorService.getDiscrepancyStats(dimension, today.minusDays(7), today).stream()
+                .collect(Collectors.toMap(DiscrepancyStatsDto::getKey, Function.identity()));
+    }
+
+    private static User inspector(String name) {
+        return User.builder()
+                .username("rollup-" + name)
+                .email("rollup-" + name + "@hotel.test")
+                .password("secret")
+                .firstName("Test")
+                .lastName(name)
+                .role(User.UserRole.INSPECTOR)
+                .build();
+    }
+
+    private static InventoryItem item(String name) {
+        return InventoryItem.builder()
+                .name(name)
+                .quantity(100)
+                .minQuantity(5)
+                .price(new BigDecimal("1.00"))
+                .build();
+    }
+
+    private Inspection inspection(User inspector, String locationType, String locationIdentifier,
+                                  Inspection.InspectionStatus status, int daysAgo) {
+        return inspectionRepository.save(Inspection.builder()
+                .inspector(inspector)
+                .locationType(locationType)
+                .locationIdentifier(locationIdentifier)
+                .status(status)
+                .completedAt(status == Inspection.InspectionStatus.COMPLETED
+                        ? today.minusDays(daysAgo).atTime(10, 0) : null)
+                .build());
+    }
+
+    private InspectionItem line(Inspection inspection, InventoryItem item, int expected, int actual, String condition) {
+        return inspectionItemRepository.save(InspectionItem.builder()
+                .inspection(inspection)
+                .inventoryItem(item)
+                .expectedQuantity(expected)
+                .actualQuantity(actual)
+                .conditionStatus(condition)
+                .build());
+    }
+}
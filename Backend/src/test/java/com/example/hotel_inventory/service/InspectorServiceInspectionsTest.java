@@ -0,0 +1,239 @@
+package com.example.hotel_inventory.service;
+
+import com.example.hotel_inventory.dto.InspectionDto;
+import com.example.hotel_inventory.dto.InspectionItemDto;
+import com.example.hotel_inventory.dto.request.CreateInspectionRequest;
+import com.example.hotel_inventory.dto.request.SubmitInspectionRequest;
+import com.example.hotel_inventory.model.Inspection;
+import com.example.hotel_inventory.model.InspectionItem;
+import com.example.hotel_inventory.model.InventoryItem;
+import com.example.hotel_inventory.model.Location;
+import com.example.hotel_inventory.model.ParLevel;
+import com.example.hotel_inventory.model.User;
+import com.example.hotel_inventory.repository.InspectionItemRepository;
+import com.example.hotel_inventory.repository.InspectionRepository;
+import com.example.hotel_inventory.repository.InventoryItemRepository;
+import com.example.hotel_inventory.repository.LocationRepository;
+import com.example.hotel_inventory.repository.ParLevelRepository;
+import com.example.hotel_inventory.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class InspectorServiceInspectionsTest {
+
+    private static final int INSPECTIONS = 30;
+    private static final int LINES = 3;
+
+    @Autowired
+    private InspectorService inspectorService;
+
+    @Autowired
+    private InspectionRepository inspectionRepository;
+
+    @Autowired
+    private InspectionItemRepository inspectionItemRepository;
+
+    @Autowired
+    private InventoryItemRepository inventoryItemRepository;
+
+    @Autowired
+    private LocationRepository locationRepository;
+
+    @Autowired
+    private ParLevelRepository parLevelRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private CreatedRows created;
+
+    private User inspector;
+    private List<InventoryItem> items;
+
+    @BeforeEach
+    void setUp() {
+        created = new CreatedRows(jdbcTemplate);
+        inspector = created.user(userRepository.save(User.builder()
+                .username("inspections-inspector")
+                .email("inspections-inspector@hotel.test")
+                .password("secret")
+                .firstName("Ina")
+                .lastName("Spector")
+                .role(User.UserRole.INSPECTOR)
+                .build()));
+        items = new ArrayList<>();
+        for (int i = 0; i < LINES; i++) {
+            items.add(created.item(inventoryItemRepository.save(InventoryItem.builder()
+                    .name("Minibar item " + i)
+                    .quantity(10)
+                    .minQuantity(2)
+                    .price(new BigDecimal("1.00"))
+                    .build())));
+        }
+        List<InspectionItem> lines = new ArrayList<>();
+        for (int i = 0; i < INSPECTIONS; i++) {
+            Inspection inspection = inspectionRepository.save(Inspection.builder()
+                    .inspector(inspector)
+                    .locationType("ROOM")
+                    .locationIdentifier("R" + i)
+                    .build());
+            for (InventoryItem item : items) {
+                lines.add(InspectionItem.builder()
+                        .inspection(inspection)
+                        .inventoryItem(item)
+                        .expectedQuantity(2)
+                        .actualQuantity(1)
+                        .conditionStatus("GOOD")
+                        .build());
+            }
+        }
+        inspectionItemRepository.saveAll(lines);
+    }
+
+    @AfterEach
+    void tearDown() {
+        created.delete();
+    }
+
+    @Test
+    void getMyInspectionsPage_ShouldLoadLinesInOneQuery() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Page<InspectionDto> page = inspectorService.getMyInspections(inspector.getId(),
+                PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+        assertEquals(INSPECTIONS, page.getTotalElements());
+        assertEquals(20, page.getContent().size());
+        assertTrue(page.getContent().stream().allMatch(inspection -> inspection.getInspectionItems().size() == LINES));
+        assertEquals("Minibar item 0", page.getContent().get(0).getInspectionItems().get(0).getItemName());
+        assertEquals("Ina Spector", page.getContent().get(0).getInspectorName());
+        // Page, count and lines
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getMyInspections_ShouldNotQueryPerInspection() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<InspectionDto> inspections = inspectorService.getMyInspections(inspector.getId());
+
+        assertEquals(INSPECTIONS, inspections.size());
+        assertEquals(INSPECTIONS * LINES, inspections.stream().mapToInt(i -> i.getInspectionItems().size()).sum());
+        // Inspector check, inspections and lines
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void submitInspection_ShouldInsertAllLinesWithAFewStatements() {
+        List<InspectionItemDto> lines = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            lines.add(InspectionItemDto.builder()
+                    .inventoryItemId(items.get(i % LINES).getId())
+                    .expectedQuantity(2)
+                    .actualQuantity(i % 2)
+                    .conditionStatus("GOOD")
+                    .build());
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        InspectionDto submitted = inspectorService.submitInspection(SubmitInspectionRequest.builder()
+                .locationType("ROOM")
+                .locationIdentifier("R101")
+                .complete(true)
+                .items(lines)
+                .build(), inspector.getId());
+
+        assertEquals(Inspection.InspectionStatus.COMPLETED, submitted.getStatus());
+        assertNotNull(submitted.getCompletedAt());
+        assertEquals(40, submitted.getInspectionItems().size());
+        assertEquals("Minibar item 1", submitted.getInspectionItems().get(1).getItemName());
+        assertEquals(40, inspectionItemRepository.findWithInventoryItemByInspectionIdIn(List.of(submitted.getId())).size());
+        // Inspector, items, location lookup, inspection insert, line ids and one batch of line inserts
+        assertTrue(statistics.getPrepareStatementCount() <= 7,
+                "expected batched inserts, got " + statistics.getPrepareStatementCount() + " statements");
+    }
+
+    @Test
+    void createInspection_ShouldStartWithTheLocationsParLevelsInOneBatch() {
+        Location room = locationRepository.save(Location.builder()
+                .locationType("ROOM")
+                .identifier("R201")
+                .build());
+        created.locationId(room.getId());
+        List<ParLevel> parLevels = new ArrayList<>();
+        for (int i = 0; i < LINES; i++) {
+            parLevels.add(ParLevel.builder()
+                    .location(room)
+                    .item(items.get(LINES - 1 - i))
+                    .parQuantity(i + 1)
+                    .build());
+        }
+        parLevelRepository.saveAll(parLevels);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        InspectionDto started = inspectorService.createInspection(CreateInspectionRequest.builder()
+                .locationId(room.getId())
+                .build(), inspector.getId());
+
+        assertEquals(room.getId(), started.getLocationId());
+        assertEquals("ROOM", started.getLocationType());
+        assertEquals("R201", started.getLocationIdentifier());
+        assertEquals(LINES, started.getInspectionItems().size());
+        assertEquals("Minibar item 0", started.getInspectionItems().get(0).getItemName());
+        assertEquals(Integer.valueOf(LINES), started.getInspectionItems().get(0).getExpectedQuantity());
+        assertEquals(LINES, inspectionItemRepository.findWithInventoryItemByInspectionIdIn(List.of(started.getId())).size());
+        // Inspector, location, inspection insert, par levels with their items, line ids and one batch of line inserts
+        assertTrue(statistics.getPrepareStatementCount() <= 6,
+                "expected batched inserts, got " + statistics.getPrepareStatementCount() + " statements");
+    }
+
+    @Test
+    void submitInspection_ShouldRejectUnknownItemsWithoutSavingAnything() {
+        long inspections = inspectionRepository.count();
+        SubmitInspectionRequest request = SubmitInspectionRequest.builder()
+                .locationType("ROOM")
+                .locationIdentifier("R102")
+                .items(List.of(
+                        InspectionItemDto.builder().inventoryItemId(items.get(0).getId()).actualQuantity(1).build(),
+                        InspectionItemDto.builder().inventoryItemId(-1L).actualQuantity(1).build()))
+                .build();
+
+        RuntimeException error = assertThrows(RuntimeException.class,
+                () -> inspectorService.submitInspection(request, inspector.getId()));
+
+        assertTrue(error.getMessage().contains("-1"), error.getMessage());
+        assertEquals(inspections, inspectionRepository.count());
+    }
+}
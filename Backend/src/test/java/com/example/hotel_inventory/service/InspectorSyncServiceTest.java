@@ -0,0 +1,269 @@
+package com.example.hotel_inventory.service;
+
+import com.example.hotel_inventory.dto.InspectionItemDto;
+import com.example.hotel_inventory.dto.SyncItemDto;
+import com.example.hotel_inventory.dto.request.CreateItemRequestRequest;
+import com.example.hotel_inventory.dto.request.SubmitInspectionRequest;
+import com.example.hotel_inventory.dto.request.SyncUploadRequest;
+import com.example.hotel_inventory.dto.response.InspectorSyncResponse;
+import com.example.hotel_inventory.dto.response.SyncUploadResponse;
+import com.example.hotel_inventory.dto.response.SyncUploadResult;
+import com.example.hotel_inventory.model.Inspection;
+import com.example.hotel_inventory.model.InventoryItem;
+import com.example.hotel_inventory.model.User;
+import com.example.hotel_inventory.repository.InspectionRepository;
+import com.example.hotel_inventory.repository.InventoryItemRepository;
+import com.example.hotel_inventory.repository.ItemRequestRepository;
+import com.example.hotel_inventory.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class InspectorSyncServiceTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private InspectorSyncService syncService;
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private InventoryItemRepository inventoryItemRepository;
+
+    @Autowired
+    private InspectionRepository inspectionRepository;
+
+    @Autowired
+    private ItemRequestRepository itemRequestRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private CreatedRows created;
+
+    private User inspector;
+    private InventoryItem soap;
+    private InventoryItem towel;
+    private InventoryItem robe;
+
+    @BeforeEach
+    void setUp() {
+        created = new CreatedRows(jdbcTemplate);
+        inspector = created.user(userRepository.save(User.builder()
+                .username("sync-inspector")
+                .email("sync-inspector@hotel.test")
+                .password("secret")
+                .firstName("Sync")
+                .lastName("Inspector")
+                .role(User.UserRole.INSPECTOR)
+                .build()));
+        soap = created.item(inventoryItemRepository.save(item("Soap", 50)));
+        towel = created.item(inventoryItemRepository.save(item("Towel", 20)));
+        robe = created.item(inventoryItemRepository.save(item("Robe", 8)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        created.delete();
+    }
+
+    @Test
+    void pullChanges_ShouldSendEverythingFirstAndThenOnlyChanges() {
+        InspectorSyncResponse snapshot = syncService.pullChanges(null);
+        assertTrue(snapshot.isFull());
+        assertEquals(inventoryItemRepository.count(), snapshot.getItems().size());
+        assertTrue(ids(snapshot.getItems()).containsAll(List.of(soap.getId(), towel.getId(), robe.getId())));
+        assertTrue(snapshot.getVersion().isBefore(LocalDateTime.now()));
+
+        LocalDateTime since = LocalDateTime.now();
+        towel.setQuantity(3);
+        inventoryItemRepository.save(towel);
+        inventoryService.deleteItem(robe.getId());
+
+        InspectorSyncResponse changes = syncService.pullChanges(since);
+        assertFalse(changes.isFull());
+        assertEquals(List.of(towel.getId()), ids(changes.getItems()));
+        assertEquals(InventoryItem.ItemStatus.LOW_STOCK, changes.getItems().get(0).getStatus());
+        assertEquals(List.of(robe.getId()), changes.getDeletedItemIds());
+    }
+
+    @Test
+    void pushChanges_ShouldStoreEachEntryOnceAndReportConflicts() {
+        LocalDateTime baseVersion = LocalDateTime.now();
+        LocalDateTime inspectedAt = LocalDateTime.now().minusDays(1).withNano(0);
+        towel.setQuantity(3);
+        inventoryItemRepository.save(towel);
+        inventoryService.deleteItem(robe.getId());
+        SyncUploadRequest upload = SyncUploadRequest.builder()
+                .baseVersion(baseVersion)
+                .inspections(List.of(
+                        inspection("inspection-1", soap.getId(), inspectedAt),
+                        inspection("inspection-2", robe.getId(), inspectedAt)))
+                .itemRequests(List.of(
+                        request("request-1", soap.getId(), 5),
+                        request("request-2", towel.getId(), 5),
+                        request(null, soap.getId(), 1)))
+                .build();
+
+        SyncUploadResponse first = syncService.pushChanges(upload, inspector.getId());
+        SyncUploadResponse again = syncService.pushChanges(upload, inspector.getId());
+
+        assertEquals(List.of(SyncUploadResult.Outcome.CREATED, SyncUploadResult.Outcome.CONFLICT),
+                outcomes(first.getInspections()));
+        assertEquals(List.of(SyncUploadResult.Outcome.CREATED, SyncUploadResult.Outcome.CONFLICT,
+                SyncUploadResult.Outcome.FAILED), outcomes(first.getItemRequests()));
+        assertTrue(first.getItemRequests().get(1).getMessage().contains("Available: 3"),
+                first.getItemRequests().get(1).getMessage());
+        assertEquals(List.of(SyncUploadResult.Outcome.DUPLICATE, SyncUploadResult.Outcome.CONFLICT),
+                outcomes(again.getInspections()));
+        assertEquals(first.getInspections().get(0).getId(), again.getInspections().get(0).getId());
+        assertEquals(first.getItemRequests().get(0).getId(), again.getItemRequests().get(0).getId());
+        assertEquals(1, inspectionRepository.count());
+        assertEquals(1, itemRequestRepository.count());
+        Inspection stored = inspectionRepository.findById(first.getInspections().get(0).getId()).orElseThrow();
+        assertEquals(Inspection.InspectionStatus.COMPLETED, stored.getStatus());
+        assertEquals(inspectedAt, stored.getCompletedAt());
+    }
+
+    @Test
+    void pushChanges_ShouldReportDiscontinuedItemsAsConflicts() {
+        towel.setStatus(InventoryItem.ItemStatus.DISCONTINUED);
+        inventoryItemRepository.save(towel);
+        LocalDateTime inspectedAt = LocalDateTime.now().minusDays(1);
+
+        SyncUploadResponse response = syncService.pushChanges(SyncUploadRequest.builder()
+                .inspections(List.of(inspection("inspection-1", towel.getId(), inspectedAt)))
+                .itemRequests(List.of(request("request-1", towel.getId(), 1)))
+                .build(), inspector.getId());
+
+        assertEquals(List.of(SyncUploadResult.Outcome.CONFLICT), outcomes(response.getInspections()));
+        assertEquals("Inventory items are discontinued: [Towel]", response.getInspections().get(0).getMessage());
+        assertEquals(List.of(SyncUploadResult.Outcome.CONFLICT), outcomes(response.getItemRequests()));
+        assertEquals(0, inspectionRepository.count());
+    }
+
+    @Test
+    void concurrentUploadsOfTheSameEntry_ShouldStoreItOnceAndReportDuplicates() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int round = 0; round < 5; round++) {
+                SyncUploadRequest upload = SyncUploadRequest.builder()
+                        .inspections(List.of(inspection("inspection-" + round, soap.getId(), LocalDateTime.now())))
+                        .itemRequests(List.of(request("request-" + round, soap.getId(), 1)))
+                        .build();
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<SyncUploadResponse>> responses = new ArrayList<>();
+                for (int i = 0; i < 2; i++) {
+                    responses.add(executor.submit(() -> {
+                        start.await();
+                        return syncService.pushChanges(upload, inspector.getId());
+                    }));
+                }
+                start.countDown();
+
+                List<SyncUploadResult> inspections = new ArrayList<>();
+                List<SyncUploadResult> requests = new ArrayList<>();
+                for (Future<SyncUploadResponse> response : responses) {
+                    inspections.addAll(response.get(30, TimeUnit.SECONDS).getInspections());
+                    requests.addAll(response.get().getItemRequests());
+                }
+                // The loser either sees the winner's row or runs into its unique key; never FAILED
+                for (List<SyncUploadResult> results : List.of(inspections, requests)) {
+                    assertTrue(Set.of(SyncUploadResult.Outcome.CREATED, SyncUploadResult.Outcome.DUPLICATE)
+                            .containsAll(outcomes(results)), results.toString());
+                    assertEquals(results.get(0).getId(), results.get(1).getId());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(5, inspectionRepository.count());
+        assertEquals(5, itemRequestRepository.count());
+    }
+
+    @Test
+    void syncEndpoint_ShouldReturnTheSnapshot() throws Exception {
+        mockMvc.perform(get("/api/inspector/sync"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.full").value(true))
+                .andExpect(jsonPath("$.items.length()").value(inventoryItemRepository.count()))
+                .andExpect(jsonPath("$.items[?(@.id == " + soap.getId() + ")].name").value("Soap"))
+                .andExpect(jsonPath("$.version").isNotEmpty());
+    }
+
+    private static List<Long> ids(List<SyncItemDto> items) {
+        return items.stream().map(SyncItemDto::getId).toList();
+    }
+
+    private static List<SyncUploadResult.Outcome> outcomes(List<SyncUploadResult> results) {
+        return results.stream().map(SyncUploadResult::getOutcome).toList();
+    }
+
+    private static InventoryItem item(String name, int quantity) {
+        return InventoryItem.builder()
+                .name(name)
+                .quantity(quantity)
+                .minQuantity(5)
+                .price(new BigDecimal("1.50"))
+                .build();
+    }
+
+    private static SubmitInspectionRequest inspection(String clientRef, Long itemId, LocalDateTime completedAt) {
+        return SubmitInspectionRequest.builder()
+                .clientRef(clientRef)
+                .locationType("ROOM")
+                .locationIdentifier("S" + clientRef)
+                .complete(true)
+                .completedAt(completedAt)
+                .items(List.of(InspectionItemDto.builder()
+                        .inventoryItemId(itemId)
+                        .expectedQuantity(2)
+                        .actualQuantity(2)
+                        .conditionStatus("GOOD")
+                        .build()))
+                .build();
+    }
+
+    private static CreateItemRequestRequest request(String clientRef, Long itemId, int quantity) {
+        return CreateItemRequestRequest.builder()
+                .clientRef(clientRef)
+                .inventoryItemId(itemId)
+                .requestedQuantity(quantity)
+                .locationType("ROOM")
+                .locationIdentifier("S1")
+                .build();
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.hotel_inventory.service;
+
+import com.example.hotel_inventory.dto.request.InventoryItemUpdate;
+import com.example.hotel_inventory.model.InventoryItem;
+import com.example.hotel_inventory.model.User;
+import com.example.hotel_inventory.repository.InventoryItemRepository;
+import com.example.hotel_inventory.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class InventoryChangeStreamTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private InventoryChangeStream changeStream;
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private InventoryItemRepository inventoryItemRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private CreatedRows created;
+
+    private User admin;
+    private InventoryItem item;
+
+    @BeforeEach
+    void setUp() {
+        created = new CreatedRows(jdbcTemplate);
+        admin = created.user(userRepository.save(User.builder()
+                .username("stream-admin")
+                .email("stream-admin@hotel.test")
+                .password("secret")
+                .firstName("Admin")
+                .lastName("Test")
+                .role(User.UserRole.ADMIN)
+                .build()));
+        item = created.item(inventoryItemRepository.save(InventoryItem.builder()
+                .name("Hand Towel")
+                .quantity(20)
+                .minQuantity(5)
+                .price(new BigDecimal("2.00"))
+                .build()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        created.delete();
+    }
+
+    @Test
+    void stream_ShouldStartWithSnapshotThenPushCommittedChanges() throws Exception {
+        MvcResult stream = subscribe();
+        awaitContent(stream, content -> content.contains("event:snapshot"));
+
+        inventoryService.bulkUpdateItems(List.of(InventoryItemUpdate.builder()
+                .id(item.getId())
+                .quantity(3)
+                .build()), admin.getId());
+
+        String content = awaitContent(stream, c -> c.contains("event:changes"));
+        assertTrue(content.contains("{\"id\":" + item.getId() + ",\"quantity\":3,\"status\":\"LOW_STOCK\"}"), content);
+        assertTrue(content.contains("\"lowStockItems\":1"), content);
+        assertTrue(content.contains("\"totalTransactions\":1"), content);
+    }
+
+    @Test
+    void stream_ShouldCoalesceChangesToTheSameItem() throws Exception {
+        MvcResult stream = subscribe();
+        String snapshot = awaitContent(stream, content -> content.contains("event:snapshot"));
+
+        // Holding the stream's lock keeps every change in the same tick
+        synchronized (changeStream) {
+            for (int quantity = 1; quantity <= 50; quantity++) {
+                changeStream.itemChanged(item.getId(), quantity, InventoryItem.ItemStatus.IN_STOCK);
+            }
+        }
+
+        String changes = awaitContent(stream, c -> c.contains("\"quantity\":50")).substring(snapshot.length());
+        assertEquals(1, count(changes, "\"id\":" + item.getId() + ","), changes);
+    }
+
+    @Test
+    void stream_ShouldAskClientsToResyncWhenTooManyItemsChangeAtOnce() throws Exception {
+        MvcResult stream = subscribe();
+        awaitContent(stream, content -> content.contains("event:snapshot"));
+
+        synchronized (changeStream) {
+            for (long id = 1; id <= InventoryChangeStream.MAX_BACKLOG_ITEMS + 1; id++) {
+                changeStream.itemChanged(-id, 1, InventoryItem.ItemStatus.IN_STOCK);
+            }
+        }
+
+        String content = awaitContent(stream, c -> c.contains("event:resync"));
+        assertFalse(content.contains("event:changes"), content);
+    }
+
+    private MvcResult subscribe() throws Exception {
+        return mockMvc.perform(get("/api/inventory/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    // Waits until the condition holds and the last event has been written completely
+    private static String awaitContent(MvcResult stream, Predicate<String> condition) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        String content = stream.getResponse().getContentAsString();
+        while (!condition.test(content) || !content.endsWith("\n\n")) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("Stream did not produce the expected event: " + content);
+            }
+            Thread.sleep(20);
+            content = stream.getResponse().getContentAsString();
+        }
+        return content;
+    }
+
+    private static int count(String content, String fragment) {
+        Matcher matcher = Pattern.compile(Pattern.quote(fragment)).matcher(content);
+        int count = 0;
+        while (matcher.find()) {
+            count++;
+        }
+        return count;
+    }
+}
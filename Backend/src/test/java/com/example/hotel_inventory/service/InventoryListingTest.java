@@ -0,0 +1,182 @@
+package com.example.hotel_inventory.service;
+
+import com.example.hotel_inventory.model.Category;
+import com.example.hotel_inventory.model.InventoryItem;
+import com.example.hotel_inventory.model.Supplier;
+import com.example.hotel_inventory.repository.CategoryRepository;
+import com.example.hotel_inventory.repository.InventoryItemRepository;
+import com.example.hotel_inventory.repository.SupplierRepository;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class InventoryListingTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private InventoryItemRepository inventoryItemRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private SupplierRepository supplierRepository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private Category linen;
+    private Supplier mill;
+    private Supplier weaver;
+    private final List<Long> linenIds = new ArrayList<>();
+    private final List<Long> itemIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        linen = categoryRepository.save(Category.builder()
+                .name("Listing linen")
+                .isActive(true)
+                .build());
+        mill = supplierRepository.save(supplier("Listing mill"));
+        weaver = supplierRepository.save(supplier("Listing weaver"));
+        for (InventoryItem item : List.of(
+                item("Bath towel", 0, "2.00", mill, InventoryItem.ItemStatus.OUT_OF_STOCK),
+                item("Hand towel", 3, "4.00", mill, InventoryItem.ItemStatus.LOW_STOCK),
+                item("Pillow", 20, "10.00", weaver, InventoryItem.ItemStatus.IN_STOCK),
+                item("Robe", 40, "25.00", weaver, InventoryItem.ItemStatus.IN_STOCK),
+                item("Sheet", 4, "1.00", null, InventoryItem.ItemStatus.LOW_STOCK))) {
+            linenIds.add(inventoryItemRepository.save(item).getId());
+        }
+        itemIds.addAll(linenIds);
+    }
+
+    @AfterEach
+    void tearDown() {
+        // Only this test's rows: the in-memory database is shared with the other test classes
+        jdbcTemplate.update("DELETE FROM inventory_items WHERE id IN (:ids)", Map.of("ids", itemIds));
+        jdbcTemplate.update("DELETE FROM categories WHERE id = :id", Map.of("id", linen.getId()));
+        jdbcTemplate.update("DELETE FROM suppliers WHERE id IN (:ids)", Map.of("ids", List.of(mill.getId(), weaver.getId())));
+        linenIds.clear();
+        itemIds.clear();
+    }
+
+    @Test
+    void page_ShouldCombineFilters() throws Exception {
+        assertEquals(List.of("Bath towel", "Hand towel", "Pillow", "Robe", "Sheet"), names(""));
+        assertEquals(List.of("Bath towel", "Hand towel"), names("&supplierId=" + mill.getId()));
+        assertEquals(List.of("Hand towel", "Sheet"), names("&status=LOW_STOCK"));
+        assertEquals(List.of("Hand towel", "Pillow", "Sheet"), names("&minQuantity=3&maxQuantity=20"));
+        assertEquals(List.of("Hand towel", "Pillow"), names("&minPrice=4.00&maxPrice=10.00"));
+        assertEquals(List.of("Robe"), names("&supplierId=" + weaver.getId() + "&minPrice=10.01"));
+        assertEquals(List.of("Pillow"), names("&supplierId=" + weaver.getId() + "&status=IN_STOCK&maxQuantity=39"));
+        assertEquals(List.of(), names("&supplierId=" + mill.getId() + "&status=IN_STOCK"));
+    }
+
+    @Test
+    void page_ShouldReportPositionAndTotals() throws Exception {
+        mockMvc.perform(get("/api/inventory/page?categoryId=" + linen.getId() + "&page=1&size=2&sort=name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[0].name").value("Pillow"))
+                .andExpect(jsonPath("$.content[1].name").value("Robe"))
+                .andExpect(jsonPath("$.content[0].category.name").value("Listing linen"))
+                .andExpect(jsonPath("$.page").value(1))
+                .andExpect(jsonPath("$.size").value(2))
+                .andExpect(jsonPath("$.totalElements").value(5))
+                .andExpect(jsonPath("$.totalPages").value(3));
+
+        mockMvc.perform(get("/api/inventory/page?categoryId=" + linen.getId() + "&page=2&size=2&sort=name,desc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].name").value("Bath towel"))
+                .andExpect(jsonPath("$.page").value(2));
+    }
+
+    @Test
+    void export_ShouldStreamEveryMatchingRowInIdOrder() throws Exception {
+        // Several fetch blocks' worth of rows
+        List<InventoryItem> bulk = new ArrayList<>();
+        for (int i = 0; i < 1200; i++) {
+            bulk.add(item("Napkin " + i, 10, "0.50", null, InventoryItem.ItemStatus.IN_STOCK));
+        }
+        List<Long> ids = new ArrayList<>(linenIds);
+        inventoryItemRepository.saveAll(bulk).forEach(item -> ids.add(item.getId()));
+        itemIds.addAll(ids);
+        ids.sort(Long::compare);
+
+        List<Number> exported = JsonPath.read(export("?categoryId=" + linen.getId()), "$[*].id");
+        assertEquals(ids, exported.stream().map(Number::longValue).toList());
+
+        List<Number> everything = JsonPath.read(export(""), "$[*].id");
+        assertEquals(inventoryItemRepository.count(), everything.size());
+        assertTrue(everything.stream().map(Number::longValue).toList().containsAll(ids));
+
+        List<String> filtered = JsonPath.read(export("?categoryId=" + linen.getId() + "&supplierId=" + mill.getId()),
+                "$[*].name");
+        assertEquals(List.of("Bath towel", "Hand towel"), filtered);
+    }
+
+    private List<String> names(String filters) throws Exception {
+        String body = mockMvc.perform(get("/api/inventory/page?categoryId=" + linen.getId() + "&sort=name" + filters))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        return JsonPath.read(body, "$.content[*].name");
+    }
+
+    private String export(String query) throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/inventory/export" + query))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+    }
+
+    private InventoryItem item(String name, int quantity, String price, Supplier supplier,
+                               InventoryItem.ItemStatus status) {
+        return InventoryItem.builder()
+                .name(name)
+                .quantity(quantity)
+                .minQuantity(5)
+                .status(status)
+                .price(new BigDecimal(price))
+                .category(linen)
+                .supplier(supplier)
+                .build();
+    }
+
+    private static Supplier supplier(String name) {
+        return Supplier.builder()
+                .name(name)
+                .email(name.replace(' ', '-') + "@hotel.test")
+                .isActive(true)
+                .build();
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.hotel_inventory.service;
+
+import com.example.hotel_inventory.model.InventoryItem;
+import com.example.hotel_inventory.repository.InventoryItemRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class InventorySearchIndexTest {
+
+    @Mock
+    private InventoryItemRepository itemRepository;
+
+    @InjectMocks
+    private InventorySearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        when(itemRepository.findAllSearchableText()).thenReturn(List.of(
+                text(1L, "Bath Towel", "Large white cotton towel"),
+                text(2L, "Hand Towel", "Small towel for the bathroom sink"),
+                text(3L, "Shampoo", "Travel size bottle"),
+                text(4L, "Conditioner", "Pairs with the shampoo"),
+                text(5L, "Feather Pillow", null)));
+        searchIndex.rebuild();
+    }
+
+    @Test
+    void search_ShouldRankNameMatchesAboveDescriptionMatches() {
+        assertEquals(List.of(3L, 4L), searchIndex.search("shampoo", 10));
+    }
+
+    @Test
+    void search_ShouldPreferItemsMatchingEveryQueryWord() {
+        assertEquals(1L, searchIndex.search("bath towel", 10).get(0));
+        assertEquals(2L, searchIndex.search("towel hand", 10).get(0));
+    }
+
+    @Test
+    void search_ShouldMatchPrefixes() {
+        assertEquals(List.of(3L, 4L), searchIndex.search("sham", 10));
+        assertEquals(List.of(5L), searchIndex.search("PIL", 10));
+    }
+
+    @Test
+    void search_ShouldTolerateTypos() {
+        assertEquals(List.of(5L), searchIndex.search("pilow", 10));
+        assertEquals(List.of(4L), searchIndex.search("condtioner", 10));
+        assertEquals(List.of(3L, 4L), searchIndex.search("shapmoo", 10));
+    }
+
+    @Test
+    void search_ShouldReturnAtMostLimitResults() {
+        assertEquals(1, searchIndex.search("towel", 1).size());
+        assertTrue(searchIndex.search("   ", 10).isEmpty());
+        assertTrue(searchIndex.search("zzzz", 10).isEmpty());
+    }
+
+    @Test
+    void itemChanged_ShouldReplaceThePreviousText() {
+        searchIndex.itemChanged(item(3L, "Body Wash", "Travel size bottle"));
+
+        assertEquals(List.of(4L), searchIndex.search("shampoo", 10));
+        assertEquals(List.of(3L), searchIndex.search("wash", 10));
+    }
+
+    @Test
+    void itemAddedAndRemoved_ShouldUpdateTheIndex() {
+        searchIndex.itemAdded(item(6L, "Beach Towel", "Striped"));
+        assertEquals(6L, searchIndex.search("beach towel", 10).get(0));
+
+        searchIndex.itemRemoved(6L);
+        searchIndex.itemRemoved(1L);
+        assertEquals(List.of(2L), searchIndex.search("towel", 10));
+        assertEquals(4, searchIndex.size());
+    }
+
+    @Test
+    void rebuild_ShouldKeepWritesThatArriveWhileItLoads() {
+        InventorySearchIndex fresh = new InventorySearchIndex(itemRepository);
+        // Both snapshots are read before the rename commits
+        when(itemRepository.findAllSearchableText()).thenAnswer(invocation -> {
+            fresh.itemChanged(item(3L, "Body Wash", "Travel size bottle"));
+            searchIndex.itemChanged(item(3L, "Body Wash", "Travel size bottle"));
+            return List.of(text(3L, "Shampoo", "Travel size bottle"));
+        });
+
+        fresh.rebuild();
+        searchIndex.rebuild();
+
+        assertEquals(List.of(3L), fresh.search("wash", 10));
+        assertTrue(fresh.search("shampoo", 10).isEmpty());
+        assertEquals(List.of(3L), searchIndex.search("wash", 10));
+    }
+
+    @Test
+    void editDistance_ShouldCountAdjacentSwapsAsOneEdit() {
+        assertEquals(1, InventorySearchIndex.editDistance("towle", "towel", 2));
+        assertEquals(1, InventorySearchIndex.editDistance("pilow", "pillow", 2));
+        assertEquals(3, InventorySearchIndex.editDistance("towel", "pillow", 2));
+    }
+
+    private static InventoryItem item(Long id, String name, String description) {
+        InventoryItem item = new InventoryItem();
+        item.setId(id);
+        item.setName(name);
+        item.setDescription(description);
+        return item;
+    }
+
+    private static InventoryItemRepository.SearchableText text(Long id, String name, String description) {
+        return new InventoryItemRepository.SearchableText() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public String getDescription() {
+                return description;
+            }
+        };
+    }
+}
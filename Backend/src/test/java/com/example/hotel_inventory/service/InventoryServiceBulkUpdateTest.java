@@ -0,0 +1,189 @@
+package com.example.hotel_inventory.service;
+
+import com.example.hotel_inventory.dto.request.InventoryItemUpdate;
+import com.example.hotel_inventory.dto.response.BulkUpdateSummary;
+import com.example.hotel_inventory.model.InventoryItem;
+import com.example.hotel_inventory.model.StockTransaction;
+import com.example.hotel_inventory.model.User;
+import com.example.hotel_inventory.repository.InventoryItemRepository;
+import com.example.hotel_inventory.repository.StockTransactionRepository;
+import com.example.hotel_inventory.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class InventoryServiceBulkUpdateTest {
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private InventoryItemRepository inventoryItemRepository;
+
+    @Autowired
+    private StockTransactionRepository stockTransactionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private CreatedRows created;
+
+    private User admin;
+
+    @BeforeEach
+    void setUp() {
+        created = new CreatedRows(jdbcTemplate);
+        admin = created.user(userRepository.save(User.builder()
+                .username("admin")
+                .email("admin@hotel.test")
+                .password("secret")
+                .firstName("Admin")
+                .lastName("Test")
+                .role(User.UserRole.ADMIN)
+                .build()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        created.delete();
+    }
+
+    @Test
+    void bulkUpdateItems_ShouldApplyAcrossChunksAndRecordAdjustments() {
+        List<InventoryItem> items = new ArrayList<>();
+        for (int i = 0; i < 1200; i++) {
+            items.add(item("Item " + i, 20));
+        }
+        items = created.items(inventoryItemRepository.saveAll(items));
+
+        List<InventoryItemUpdate> updates = new ArrayList<>();
+        for (int i = items.size() - 1; i >= 0; i--) {
+            InventoryItem item = items.get(i);
+            updates.add(InventoryItemUpdate.builder()
+                    .id(item.getId())
+                    .quantity(i % 3 == 0 ? 20 : i % 2)
+                    .price(new BigDecimal("3.00"))
+                    .build());
+        }
+
+        long transactions = stockTransactionRepository.count();
+
+        BulkUpdateSummary summary = inventoryService.bulkUpdateItems(updates, admin.getId());
+
+        assertEquals(1200, summary.getRequested());
+        assertEquals(1200, summary.getUpdated());
+        assertEquals(0, summary.getFailed());
+        assertEquals(800, summary.getStockTransactions());
+        assertEquals(transactions + 800, stockTransactionRepository.count());
+        Map<InventoryItem.ItemStatus, Long> statuses = inventoryItemRepository
+                .findAllById(items.stream().map(InventoryItem::getId).toList()).stream()
+                .collect(Collectors.groupingBy(InventoryItem::getStatus, Collectors.counting()));
+        assertEquals(400L, statuses.get(InventoryItem.ItemStatus.OUT_OF_STOCK));
+        assertEquals(400L, statuses.get(InventoryItem.ItemStatus.LOW_STOCK));
+
+        StockTransaction adjustment = stockTransactionRepository.findByItemIdOrderByTransactionDateDescIdDesc(items.get(1).getId()).get(0);
+        assertEquals(StockTransaction.TransactionType.ADJUSTMENT, adjustment.getType());
+        assertEquals(20, adjustment.getPreviousQuantity());
+    }
+
+    @Test
+    void bulkUpdateItems_ShouldReportFailedRowsByPosition() {
+        InventoryItem item = created.item(inventoryItemRepository.save(item("Towel", 20)));
+
+        BulkUpdateSummary summary = inventoryService.bulkUpdateItems(List.of(
+                InventoryItemUpdate.builder().id(item.getId()).quantity(25).build(),
+                InventoryItemUpdate.builder().id(-1L).quantity(5).build(),
+                InventoryItemUpdate.builder().id(item.getId()).price(new BigDecimal("4.00")).build(),
+                InventoryItemUpdate.builder().id(-2L).price(new BigDecimal("1.00")).build()),
+                admin.getId());
+
+        assertEquals(1, summary.getUpdated());
+        assertEquals(1, summary.getUnchanged());
+        assertEquals(2, summary.getFailed());
+        assertEquals(List.of(1, 3), summary.getFailures().stream().map(BulkUpdateSummary.RowFailure::getIndex).toList());
+        assertEquals("Item not found", summary.getFailures().get(0).getMessage());
+        assertEquals(25, inventoryItemRepository.findQuantityById(item.getId()));
+    }
+
+    @Test
+    void bulkUpdateItems_ShouldNotLoseADecrementCommittedWhileItRuns() throws Exception {
+        InventoryItem repriced = created.item(inventoryItemRepository.save(item("Towel", 10)));
+        InventoryItem recounted = created.item(inventoryItemRepository.save(item("Soap", 10)));
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch decremented = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        try {
+            // An approval takes stock from both items and holds its row locks until released
+            Future<?> approval = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                inventoryItemRepository.decrementStock(repriced.getId(), 3, null);
+                inventoryItemRepository.decrementStock(recounted.getId(), 3, null);
+                decremented.countDown();
+                try {
+                    commit.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            assertTrue(decremented.await(10, TimeUnit.SECONDS));
+
+            Future<BulkUpdateSummary> bulk = executor.submit(() -> inventoryService.bulkUpdateItems(List.of(
+                    InventoryItemUpdate.builder().id(repriced.getId()).price(new BigDecimal("3.00")).build(),
+                    InventoryItemUpdate.builder().id(recounted.getId()).quantity(20).build()), admin.getId()));
+            // Let the bulk update reach the locked rows before the approval commits
+            Thread.sleep(300);
+            commit.countDown();
+            approval.get(10, TimeUnit.SECONDS);
+
+            assertEquals(2, bulk.get(10, TimeUnit.SECONDS).getUpdated());
+        } finally {
+            commit.countDown();
+            executor.shutdownNow();
+        }
+
+        InventoryItem towel = inventoryItemRepository.findById(repriced.getId()).orElseThrow();
+        assertEquals(7, towel.getQuantity());
+        assertEquals(0, new BigDecimal("3.00").compareTo(towel.getPrice()));
+        assertEquals(20, inventoryItemRepository.findQuantityById(recounted.getId()));
+        StockTransaction adjustment = stockTransactionRepository
+                .findByItemIdOrderByTransactionDateDescIdDesc(recounted.getId()).get(0);
+        assertEquals(7, adjustment.getPreviousQuantity());
+        assertEquals(13, adjustment.getQuantity());
+    }
+
+    private InventoryItem item(String name, int quantity) {
+        return InventoryItem.builder()
+                .name(name)
+                .quantity(quantity)
+                .minQuantity(5)
+                .price(new BigDecimal("4.00"))
+                .status(InventoryItem.ItemStatus.IN_STOCK)
+                .build();
+    }
+}
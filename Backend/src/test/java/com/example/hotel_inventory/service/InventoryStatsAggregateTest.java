@@ -0,0 +1,141 @@
+package com.example.hotel_inventory.service;
+
+import com.example.hotel_inventory.dto.StockSummary;
+import com.example.hotel_inventory.model.InventoryItem;
+import com.example.hotel_inventory.repository.InventoryItemRepository;
+import com.example.hotel_inventory.repository.StockTransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class InventoryStatsAggregateTest {
+
+    @Mock
+    private InventoryItemRepository itemRepository;
+
+    @Mock
+    private StockTransactionRepository transactionRepository;
+
+    @InjectMocks
+    private InventoryStatsAggregate statsAggregate;
+
+    @BeforeEach
+    void setUp() {
+        when(itemRepository.summarizeStock())
+                .thenReturn(new StockSummary(2L, 1L, 0L, new BigDecimal("100.00")));
+        when(transactionRepository.count()).thenReturn(3L);
+        statsAggregate.rebuild();
+    }
+
+    @Test
+    void itemAdded_ShouldIncrementCountersAndValue() {
+        statsAggregate.itemAdded(item(0, 5, "10.00"));
+
+        InventoryStatsAggregate.Totals totals = statsAggregate.current();
+        assertEquals(3, totals.getTotalItems());
+        assertEquals(1, totals.getLowStockItems());
+        assertEquals(1, totals.getOutOfStockItems());
+        assertEquals(0, new BigDecimal("100.00").compareTo(totals.getTotalValue()));
+    }
+
+    @Test
+    void itemChanged_ShouldMoveItemBetweenBuckets() {
+        InventoryItem item = item(4, 5, "2.50");
+        InventoryStatsAggregate.StockLevel before = InventoryStatsAggregate.StockLevel.of(item);
+        item.setQuantity(40);
+
+        statsAggregate.itemChanged(before, item);
+
+        InventoryStatsAggregate.Totals totals = statsAggregate.current();
+        assertEquals(2, totals.getTotalItems());
+        assertEquals(0, totals.getLowStockItems());
+        assertEquals(0, new BigDecimal("190.00").compareTo(totals.getTotalValue()));
+    }
+
+    @Test
+    void itemRemovedAndTransactionsRecorded_ShouldUpdateTotals() {
+        statsAggregate.itemRemoved(InventoryStatsAggregate.StockLevel.of(item(4, 5, "5.00")));
+        statsAggregate.transactionsRecorded(2);
+
+        InventoryStatsAggregate.Totals totals = statsAggregate.current();
+        assertEquals(1, totals.getTotalItems());
+        assertEquals(0, totals.getLowStockItems());
+        assertEquals(0, new BigDecimal("80.00").compareTo(totals.getTotalValue()));
+        assertEquals(5, totals.getTotalTransactions());
+    }
+
+    @Test
+    void rebuild_ShouldQueryAgainWhenAChangeLandsWhileItRuns() {
+        // The first summary is read before the new item commits, whose delta arrives mid-rebuild
+        when(itemRepository.summarizeStock())
+                .thenAnswer(invocation -> {
+                    statsAggregate.itemAdded(item(0, 5, "10.00"));
+                    return new StockSummary(2L, 1L, 0L, new BigDecimal("100.00"));
+                })
+                .thenReturn(new StockSummary(3L, 1L, 1L, new BigDecimal("100.00")));
+
+        InventoryStatsAggregate.Totals totals = statsAggregate.rebuild();
+
+        assertEquals(3, totals.getTotalItems());
+        assertEquals(1, totals.getOutOfStockItems());
+        verify(itemRepository, times(3)).summarizeStock();
+    }
+
+    @Test
+    void rebuild_ShouldNotCountACommittedChangeTwice() throws Exception {
+        // The new item is already in the database when the rebuild starts, but its delta is
+        // applied only afterwards
+        when(itemRepository.summarizeStock())
+                .thenReturn(new StockSummary(3L, 1L, 1L, new BigDecimal("100.00")));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            statsAggregate.itemAdded(item(0, 5, "10.00"));
+            List<TransactionSynchronization> synchronizations =
+                    TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+            CompletableFuture<Void> applied = CompletableFuture.runAsync(() -> {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(50));
+                synchronizations.forEach(synchronization -> {
+                    synchronization.afterCommit();
+                    synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+                });
+            });
+
+            statsAggregate.rebuild();
+            applied.get(5, TimeUnit.SECONDS);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        InventoryStatsAggregate.Totals totals = statsAggregate.current();
+        assertEquals(3, totals.getTotalItems());
+        assertEquals(1, totals.getOutOfStockItems());
+    }
+
+    private InventoryItem item(int quantity, int minQuantity, String price) {
+        return InventoryItem.builder()
+                .name("Item")
+                .quantity(quantity)
+                .minQuantity(minQuantity)
+                .price(new BigDecimal(price))
+                .build();
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.hotel_inventory.service;
+
+import com.example.hotel_inventory.model.InventoryItem;
+import com.example.hotel_inventory.model.StockTransaction;
+import com.example.hotel_inventory.repository.InventoryItemRepository;
+import com.example.hotel_inventory.repository.StockTransactionRepository;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class InventoryTransactionHistoryTest {
+
+    private static final LocalDateTime NOON = LocalDateTime.of(2024, 3, 5, 12, 0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private InventoryItemRepository inventoryItemRepository;
+
+    @Autowired
+    private StockTransactionRepository stockTransactionRepository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private final List<Long> itemIds = new ArrayList<>();
+
+    private InventoryItem item;
+    private List<StockTransaction> history;
+
+    @BeforeEach
+    void setUp() {
+        item = inventoryItemRepository.save(item("Towel"));
+        InventoryItem other = inventoryItemRepository.save(item("Soap"));
+        itemIds.add(item.getId());
+        itemIds.add(other.getId());
+        transaction(other, StockTransaction.TransactionType.REMOVE, NOON);
+
+        history = new ArrayList<>();
+        history.add(transaction(item, StockTransaction.TransactionType.ADD, NOON.minusDays(2)));
+        history.add(transaction(item, StockTransaction.TransactionType.REMOVE, NOON.minusDays(1)));
+        // Three at the same instant, so page boundaries fall between rows with equal dates
+        history.add(transaction(item, StockTransaction.TransactionType.ADD, NOON));
+        history.add(transaction(item, StockTransaction.TransactionType.REMOVE, NOON));
+        history.add(transaction(item, StockTransaction.TransactionType.REMOVE, NOON));
+        history.add(transaction(item, StockTransaction.TransactionType.REMOVE, NOON.plusDays(1)));
+        history.add(transaction(item, StockTransaction.TransactionType.ADJUSTMENT, NOON.plusDays(2)));
+        history.sort(Comparator.comparing(StockTransaction::getTransactionDate)
+                .thenComparing(StockTransaction::getId).reversed());
+    }
+
+    @AfterEach
+    void tearDown() {
+        // Only this test's rows: the in-memory database is shared with the other test classes
+        Map<String, List<Long>> ids = Map.of("ids", itemIds);
+        jdbcTemplate.update("DELETE FROM stock_transactions WHERE item_id IN (:ids)", ids);
+        jdbcTemplate.update("DELETE FROM inventory_items WHERE id IN (:ids)", ids);
+        itemIds.clear();
+    }
+
+    @Test
+    void pages_ShouldWalkTheHistoryNewestFirstWithoutDuplicatesOrGaps() throws Exception {
+        for (int limit = 1; limit <= 3; limit++) {
+            assertEquals(ids(transaction -> true), walk(limit, ""), "limit " + limit);
+        }
+    }
+
+    @Test
+    void lastPage_ShouldHaveNoCursor() throws Exception {
+        mockMvc.perform(get(path()).param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(history.size()))
+                .andExpect(jsonPath("$.hasMore").value(false))
+                .andExpect(jsonPath("$.nextCursor").isEmpty());
+    }
+
+    @Test
+    void filters_ShouldApplyOnEveryPage() throws Exception {
+        assertEquals(ids(transaction -> transaction.getType() == StockTransaction.TransactionType.REMOVE),
+                walk(1, "&type=REMOVE"));
+        // from is inclusive, to exclusive
+        assertEquals(ids(transaction -> transaction.getTransactionDate().equals(NOON)),
+                walk(1, "&from=" + NOON + "&to=" + NOON.plusDays(1)));
+        assertEquals(ids(transaction -> !transaction.getTransactionDate().isBefore(NOON)),
+                walk(2, "&from=" + NOON));
+        assertEquals(ids(transaction -> transaction.getTransactionDate().isBefore(NOON)),
+                walk(2, "&to=" + NOON));
+        assertEquals(ids(transaction -> transaction.getType() == StockTransaction.TransactionType.REMOVE
+                        && !transaction.getTransactionDate().isBefore(NOON)),
+                walk(1, "&type=REMOVE&from=" + NOON));
+    }
+
+    @Test
+    void badCursor_ShouldBeRejected() throws Exception {
+        for (String cursor : List.of("not a cursor!", encode("yesterday|1"), encode(NOON + "|x"),
+                encode(NOON + "|1|2"), encode(NOON.toString()))) {
+            mockMvc.perform(get(path()).param("cursor", cursor))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("Invalid cursor: " + cursor));
+        }
+    }
+
+    private List<Long> walk(int limit, String filters) throws Exception {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            MockHttpServletRequestBuilder request = get(path() + "?limit=" + limit + filters);
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            String body = mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+            List<Number> page = JsonPath.read(body, "$.items[*].id");
+            assertTrue(page.size() <= limit);
+            page.forEach(id -> ids.add(id.longValue()));
+            cursor = JsonPath.read(body, "$.nextCursor");
+            assertEquals(cursor != null, JsonPath.<Boolean>read(body, "$.hasMore"));
+            assertTrue(++pages <= history.size() + 1, "cursor does not advance");
+        } while (cursor != null);
+        return ids;
+    }
+
+    private List<Long> ids(Predicate<StockTransaction> filter) {
+        return history.stream().filter(filter).map(StockTransaction::getId).toList();
+    }
+
+    private String path() {
+        return "/api/inventory/" + item.getId() + "/transactions/page";
+    }
+
+    private static String encode(String position) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private StockTransaction transaction(InventoryItem item, StockTransaction.TransactionType type, LocalDateTime date) {
+        return stockTransactionRepository.save(StockTransaction.builder()
+                .item(item)
+                .type(type)
+                .quantity(1)
+                .transactionDate(date)
+                .build());
+    }
+
+    private static InventoryItem item(String name) {
+        return InventoryItem.builder()
+                .name(name)
+                .quantity(10)
+                .minQuantity(2)
+                .price(new BigDecimal("1.00"))
+                .build();
+    }
+}
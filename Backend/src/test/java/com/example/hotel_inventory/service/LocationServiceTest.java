@@ -0,0 +1,258 @@
+package com.example.hotel_inventory.service;
+
+import com.example.hotel_inventory.dto.InspectionDto;
+import com.example.hotel_inventory.dto.ItemRequestDto;
+import com.example.hotel_inventory.dto.LocationDto;
+import com.example.hotel_inventory.dto.ParLevelDto;
+import com.example.hotel_inventory.dto.request.CreateInspectionRequest;
+import com.example.hotel_inventory.dto.request.CreateItemRequestRequest;
+import com.example.hotel_inventory.dto.request.CreateLocationRequest;
+import com.example.hotel_inventory.dto.request.ParLevelRequest;
+import com.example.hotel_inventory.model.InventoryItem;
+import com.example.hotel_inventory.model.ItemRequest;
+import com.example.hotel_inventory.model.User;
+import com.example.hotel_inventory.repository.InventoryItemRepository;
+import com.example.hotel_inventory.repository.ItemRequestRepository;
+import com.example.hotel_inventory.repository.ParLevelRepository;
+import com.example.hotel_inventory.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class LocationServiceTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private LocationService locationService;
+
+    @Autowired
+    private InspectorService inspectorService;
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private ParLevelRepository parLevelRepository;
+
+    @Autowired
+    private ItemRequestRepository itemRequestRepository;
+
+    @Autowired
+    private InventoryItemRepository inventoryItemRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private CreatedRows created;
+
+    private User inspector;
+    private InventoryItem towel;
+    private InventoryItem sheet;
+    private InventoryItem soap;
+    private LocationDto room;
+
+    @BeforeEach
+    void setUp() {
+        created = new CreatedRows(jdbcTemplate);
+        inspector = created.user(userRepository.save(User.builder()
+                .username("location-inspector")
+                .email("location-inspector@hotel.test")
+                .password("secret")
+                .firstName("Loc")
+                .lastName("Inspector")
+                .role(User.UserRole.INSPECTOR)
+                .build()));
+        towel = created.item(inventoryItemRepository.save(item("Towel")));
+        sheet = created.item(inventoryItemRepository.save(item("Bed sheet")));
+        soap = created.item(inventoryItemRepository.save(item("Soap")));
+        room = locationService.createLocation(CreateLocationRequest.builder()
+                .locationType("ROOM")
+                .identifier("101")
+                .description("Deluxe double")
+                .build());
+        created.locationId(room.getId());
+        locationService.replaceParLevels(room.getId(), List.of(par(towel, 4), par(sheet, 2)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        created.delete();
+    }
+
+    @Test
+    void replaceParLevels_ShouldUpdateAddAndRemoveInPlace() {
+        Long towelParId = locationService.getParLevels(room.getId()).get(1).getId();
+
+        List<ParLevelDto> parLevels = locationService.replaceParLevels(room.getId(),
+                List.of(par(towel, 6), par(soap, 1)));
+
+        assertEquals(List.of("Soap", "Towel"), parLevels.stream().map(ParLevelDto::getItemName).toList());
+        assertEquals(6, parLevels.get(1).getParQuantity());
+        assertEquals(towelParId, parLevels.get(1).getId());
+        assertEquals(parLevels, locationService.getLocation(room.getId()).getParLevels());
+        assertEquals(2, parLevelRepository.count());
+    }
+
+    @Test
+    void replaceParLevels_ShouldRejectBadEntriesWithoutChangingAnything() {
+        RuntimeException duplicate = assertThrows(RuntimeException.class,
+                () -> locationService.replaceParLevels(room.getId(), List.of(par(soap, 1), par(soap, 2))));
+        assertTrue(duplicate.getMessage().contains(String.valueOf(soap.getId())), duplicate.getMessage());
+
+        RuntimeException missing = assertThrows(RuntimeException.class,
+                () -> locationService.replaceParLevels(room.getId(), List.of(
+                        par(soap, 1), ParLevelRequest.builder().itemId(-1L).parQuantity(1).build())));
+        assertTrue(missing.getMessage().contains("-1"), missing.getMessage());
+
+        assertEquals(List.of("Bed sheet", "Towel"), locationService.getParLevels(room.getId()).stream()
+                .map(ParLevelDto::getItemName).toList());
+    }
+
+    @Test
+    void createInspection_ShouldLinkAKnownTypeAndIdentifierOnly() {
+        InspectionDto known = inspectorService.createInspection(CreateInspectionRequest.builder()
+                .locationType("ROOM")
+                .locationIdentifier("101")
+                .build(), inspector.getId());
+        InspectionDto freeText = inspectorService.createInspection(CreateInspectionRequest.builder()
+                .locationType("ROOM")
+                .locationIdentifier("999")
+                .build(), inspector.getId());
+
+        assertEquals(room.getId(), known.getLocationId());
+        assertEquals(2, known.getInspectionItems().size());
+        assertEquals(Integer.valueOf(2), known.getInspectionItems().get(0).getExpectedQuantity());
+        assertNull(freeText.getLocationId());
+        assertTrue(freeText.getInspectionItems().isEmpty());
+        assertEquals(List.of(known.getId()), inspectorService.getInspectionsAtLocation(room.getId()).stream()
+                .map(InspectionDto::getId).toList());
+    }
+
+    @Test
+    void creatingOrRenamingALocation_ShouldLinkWhatWasRecordedUnderItsName() {
+        InspectionDto early = inspectorService.createInspection(CreateInspectionRequest.builder()
+                .locationType("ROOM")
+                .locationIdentifier("102")
+                .build(), inspector.getId());
+        ItemRequestDto request = inspectorService.createItemRequest(CreateItemRequestRequest.builder()
+                .inventoryItemId(towel.getId())
+                .requestedQuantity(2)
+                .locationType("ROOM")
+                .locationIdentifier("102")
+                .build(), inspector.getId());
+        InspectionDto renamedTo = inspectorService.createInspection(CreateInspectionRequest.builder()
+                .locationType("SUITE")
+                .locationIdentifier("102")
+                .build(), inspector.getId());
+        assertNull(early.getLocationId());
+
+        LocationDto next = locationService.createLocation(CreateLocationRequest.builder()
+                .locationType("ROOM")
+                .identifier("102")
+                .build());
+        created.locationId(next.getId());
+
+        assertEquals(List.of(early.getId()), inspectorService.getInspectionsAtLocation(next.getId()).stream()
+                .map(InspectionDto::getId).toList());
+        assertEquals(List.of(request.getId()), itemRequestRepository.findByLocationIdOrderByCreatedAtDesc(next.getId())
+                .stream().map(ItemRequest::getId).toList());
+
+        locationService.updateLocation(next.getId(), CreateLocationRequest.builder()
+                .locationType("SUITE")
+                .identifier("102")
+                .build());
+
+        assertEquals(Set.of(renamedTo.getId(), early.getId()), inspectorService.getInspectionsAtLocation(next.getId())
+                .stream().map(InspectionDto::getId).collect(Collectors.toSet()));
+        // Already linked ones keep the name they were made under
+        assertEquals("ROOM", inspectorService.getInspectionById(early.getId()).getLocationType());
+    }
+
+    @Test
+    void deletes_ShouldDropParLevelsAndKeepInspections() {
+        inventoryService.deleteItem(sheet.getId());
+        assertEquals(List.of("Towel"), locationService.getParLevels(room.getId()).stream()
+                .map(ParLevelDto::getItemName).toList());
+        InspectionDto inspection = inspectorService.createInspection(CreateInspectionRequest.builder()
+                .locationId(room.getId())
+                .build(), inspector.getId());
+        assertEquals(1, inspection.getInspectionItems().size());
+
+        locationService.deleteLocation(room.getId());
+
+        assertEquals(0, parLevelRepository.count());
+        InspectionDto kept = inspectorService.getInspectionById(inspection.getId());
+        assertNull(kept.getLocationId());
+        assertEquals("101", kept.getLocationIdentifier());
+    }
+
+    @Test
+    void locationEndpoints_ShouldListRejectDuplicatesAndReplaceParLevels() throws Exception {
+        mockMvc.perform(get("/api/locations").param("type", "ROOM"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].identifier").value("101"));
+
+        mockMvc.perform(post("/api/locations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"locationType\":\"ROOM\",\"identifier\":\"101\"}"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(put("/api/locations/" + room.getId() + "/par-levels")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"itemId\":" + soap.getId() + ",\"parQuantity\":3}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].itemName").value("Soap"));
+
+        mockMvc.perform(post("/api/inspector/inspections")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"notes\":\"no location\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private static InventoryItem item(String name) {
+        return InventoryItem.builder()
+                .name(name)
+                .quantity(20)
+                .minQuantity(5)
+                .price(new BigDecimal("1.00"))
+                .build();
+    }
+
+    private static ParLevelRequest par(InventoryItem item, int quantity) {
+        return ParLevelRequest.builder()
+                .itemId(item.getId())
+                .parQuantity(quantity)
+                .build();
+    }
+}
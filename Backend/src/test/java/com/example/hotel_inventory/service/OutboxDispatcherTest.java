@@ -0,0 +1,196 @@
+package com.example.hotel_inventory.service;
+
+import com.example.hotel_inventory.event.DomainEventHandler;
+import com.example.hotel_inventory.event.ItemRequestApproved;
+import com.example.hotel_inventory.model.InventoryItem;
+import com.example.hotel_inventory.model.ItemRequest;
+import com.example.hotel_inventory.model.OutboxEvent;
+import com.example.hotel_inventory.model.User;
+import com.example.hotel_inventory.repository.InventoryItemRepository;
+import com.example.hotel_inventory.repository.ItemRequestRepository;
+import com.example.hotel_inventory.repository.OutboxEventRepository;
+import com.example.hotel_inventory.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class OutboxDispatcherTest {
+
+    @Autowired
+    private AdminInspectorService adminInspectorService;
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+
+    @Autowired
+    private RecordingHandler approvals;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private InventoryItemRepository inventoryItemRepository;
+
+    @Autowired
+    private ItemRequestRepository itemRequestRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private CreatedRows created;
+
+    private User admin;
+    private User inspector;
+    private InventoryItem item;
+
+    @BeforeEach
+    void setUp() {
+        created = new CreatedRows(jdbcTemplate);
+        // The outbox is a queue that nothing else drains in tests; start it empty
+        outboxEventRepository.deleteAll();
+        approvals.received.clear();
+        approvals.failing = false;
+        admin = created.user(userRepository.save(user("outbox-admin", User.UserRole.ADMIN)));
+        inspector = created.user(userRepository.save(user("outbox-inspector", User.UserRole.INSPECTOR)));
+        item = created.item(inventoryItemRepository.save(InventoryItem.builder()
+                .name("Shampoo")
+                .quantity(10)
+                .minQuantity(5)
+                .price(new BigDecimal("1.50"))
+                .status(InventoryItem.ItemStatus.IN_STOCK)
+                .build()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxEventRepository.deleteAll();
+        created.delete();
+    }
+
+    @Test
+    void approval_ShouldPublishEventsThatAreDispatchedAfterwards() {
+        Long requestId = itemRequestRepository.save(request(6)).getId();
+        double alertsBefore = meterRegistry.counter("hotel.inventory.reorder.alerts").count();
+
+        adminInspectorService.approveItemRequest(requestId, admin.getId());
+
+        List<String> types = outboxEventRepository.findAll().stream().map(OutboxEvent::getType).toList();
+        assertEquals(List.of("StockChanged", "ItemRequestApproved"), types);
+        assertTrue(approvals.received.isEmpty());
+
+        assertEquals(2, outboxDispatcher.dispatchBatch());
+
+        assertEquals(1, approvals.received.size());
+        assertEquals(requestId, approvals.received.get(0).getRequestId());
+        assertEquals(6, approvals.received.get(0).getQuantity());
+        // 10 -> 4 crosses the minimum of 5
+        assertEquals(alertsBefore + 1, meterRegistry.counter("hotel.inventory.reorder.alerts").count());
+        assertEquals(0, outboxEventRepository.count());
+    }
+
+    @Test
+    void failedApproval_ShouldPublishNothing() {
+        Long requestId = itemRequestRepository.save(request(11)).getId();
+
+        assertThrows(RuntimeException.class, () -> adminInspectorService.approveItemRequest(requestId, admin.getId()));
+
+        assertEquals(0, outboxEventRepository.count());
+    }
+
+    @Test
+    void failingHandler_ShouldBeRetriedThenLeftForInspection() {
+        Long requestId = itemRequestRepository.save(request(1)).getId();
+        adminInspectorService.approveItemRequest(requestId, admin.getId());
+        approvals.failing = true;
+
+        for (int attempt = 0; attempt < OutboxDispatcher.MAX_ATTEMPTS; attempt++) {
+            assertEquals(0, outboxDispatcher.dispatchBatch());
+        }
+
+        assertEquals(OutboxDispatcher.MAX_ATTEMPTS, approvals.received.size());
+        // The batch rolled back each time, so the other event was never deleted either
+        assertEquals(2, outboxEventRepository.count());
+        OutboxEvent parked = outboxEventRepository.findAll().stream()
+                .filter(event -> event.getType().equals("ItemRequestApproved"))
+                .findFirst().orElseThrow();
+        assertEquals(OutboxDispatcher.MAX_ATTEMPTS, parked.getAttempts());
+        assertTrue(parked.getLastError().contains("Consumer unavailable"), parked.getLastError());
+
+        // Parked events are no longer offered and no longer hold up the rest
+        assertEquals(1, outboxDispatcher.dispatchBatch());
+        assertEquals(OutboxDispatcher.MAX_ATTEMPTS, approvals.received.size());
+        assertEquals(1, outboxEventRepository.count());
+        assertEquals(1, outboxEventRepository.countByAttemptsGreaterThanEqual(OutboxDispatcher.MAX_ATTEMPTS));
+    }
+
+    private ItemRequest request(int quantity) {
+        return ItemRequest.builder()
+                .inspector(inspector)
+                .inventoryItem(item)
+                .requestedQuantity(quantity)
+                .locationType("ROOM")
+                .locationIdentifier("101")
+                .status(ItemRequest.RequestStatus.PENDING)
+                .build();
+    }
+
+    private static User user(String username, User.UserRole role) {
+        return User.builder()
+                .username(username)
+                .email(username + "@hotel.test")
+                .password("secret")
+                .firstName(username)
+                .lastName("Test")
+                .role(role)
+                .build();
+    }
+
+    static class RecordingHandler implements DomainEventHandler<ItemRequestApproved> {
+        final List<ItemRequestApproved> received = new ArrayList<>();
+        volatile boolean failing;
+
+        @Override
+        public Class<ItemRequestApproved> eventType() {
+            return ItemRequestApproved.class;
+        }
+
+        @Override
+        public void handle(List<ItemRequestApproved> events) {
+            received.addAll(events);
+            if (failing) {
+                throw new IllegalStateException("Consumer unavailable");
+            }
+        }
+    }
+
+    @TestConfiguration
+    static class Handlers {
+        @Bean
+        RecordingHandler recordingHandler() {
+            return new RecordingHandler();
+        }
+    }
+}
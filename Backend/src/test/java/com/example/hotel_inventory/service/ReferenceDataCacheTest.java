@@ -0,0 +1,123 @@
+package com.example.hotel_inventory.service;
+
+import com.example.hotel_inventory.config.CacheConfig;
+import com.example.hotel_inventory.dto.CategoryDto;
+import com.example.hotel_inventory.dto.request.CreateCategoryRequest;
+import com.example.hotel_inventory.dto.request.CreateUserRequest;
+import com.example.hotel_inventory.dto.request.UpdateUserRequest;
+import com.example.hotel_inventory.model.User;
+import com.example.hotel_inventory.repository.CategoryRepository;
+import com.example.hotel_inventory.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ReferenceDataCacheTest {
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    @AfterEach
+    void clearCaches() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    void getAllCategories_ShouldBeServedFromCacheUntilAWriteEvictsIt() {
+        long hits = stats(CacheConfig.CATEGORIES).hitCount();
+        List<CategoryDto> first = categoryService.getAllCategories();
+        List<CategoryDto> second = categoryService.getAllCategories();
+        assertSame(first, second);
+        assertEquals(hits + 1, stats(CacheConfig.CATEGORIES).hitCount());
+
+        CategoryDto created = categoryService.createCategory(CreateCategoryRequest.builder()
+                .name("Minibar")
+                .isActive(true)
+                .build());
+        try {
+            List<CategoryDto> afterCreate = categoryService.getAllCategories();
+            assertEquals(first.size() + 1, afterCreate.size());
+
+            categoryService.updateCategory(created.getId(), CreateCategoryRequest.builder()
+                    .name("Minibar Stock")
+                    .isActive(true)
+                    .build());
+            assertEquals("Minibar Stock", categoryService.getCategory(created.getId()).orElseThrow().getName());
+        } finally {
+            categoryRepository.deleteById(created.getId());
+        }
+    }
+
+    @Test
+    void lookupsById_ShouldNotCacheAMiss() {
+        Long missing = Long.MAX_VALUE;
+        assertTrue(categoryService.getCategory(missing).isEmpty());
+        assertTrue(userService.getUserByUsername("not-yet-created").isEmpty());
+
+        assertNull(cacheManager.getCache(CacheConfig.CATEGORY).get(missing));
+        assertNull(cacheManager.getCache(CacheConfig.USER_BY_USERNAME).get("not-yet-created"));
+    }
+
+    @Test
+    void userLookups_ShouldBeEvictedOnUpdateAndDelete() {
+        Long id = userService.createUser(CreateUserRequest.builder()
+                .username("cache-user")
+                .email("cache-user@hotel.test")
+                .password("secret123")
+                .firstName("Cache")
+                .lastName("User")
+                .role(User.UserRole.INSPECTOR)
+                .isActive(true)
+                .build()).getId();
+        try {
+            long hits = stats(CacheConfig.USER).hitCount();
+            userService.getUserById(id);
+            userService.getUserById(id);
+            assertEquals(hits + 1, stats(CacheConfig.USER).hitCount());
+
+            userService.updateUser(id, UpdateUserRequest.builder().firstName("Renamed").build());
+            assertEquals("Renamed", userService.getUserById(id).orElseThrow().getFirstName());
+            assertEquals("Renamed", userService.getUserByUsername("cache-user").orElseThrow().getFirstName());
+
+            userService.deleteUser(id);
+            assertTrue(userService.getUserById(id).isEmpty());
+            assertTrue(userService.getUserByUsername("cache-user").isEmpty());
+        } finally {
+            if (userRepository.existsById(id)) {
+                userRepository.deleteById(id);
+            }
+        }
+    }
+
+    private CacheStats stats(String cacheName) {
+        return ((CaffeineCache) cacheManager.getCache(cacheName)).getNativeCache().stats();
+    }
+}
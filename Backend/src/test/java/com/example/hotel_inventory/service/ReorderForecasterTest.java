@@ -0,0 +1,199 @@
+package com.example.hotel_inventory.service;
+
+import com.example.hotel_inventory.dto.response.ForecastRunSummary;
+import com.example.hotel_inventory.model.InventoryItem;
+import com.example.hotel_inventory.model.ItemForecast;
+import com.example.hotel_inventory.model.StockTransaction;
+import com.example.hotel_inventory.repository.InventoryItemRepository;
+import com.example.hotel_inventory.repository.ItemForecastRepository;
+import com.example.hotel_inventory.repository.StockTransactionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReorderForecasterTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2024, 3, 1);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ReorderForecaster forecaster;
+
+    @Autowired
+    private ItemForecastRepository forecastRepository;
+
+    @Autowired
+    private InventoryItemRepository inventoryItemRepository;
+
+    @Autowired
+    private StockTransactionRepository stockTransactionRepository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private CreatedRows created;
+
+    private InventoryItem item;
+
+    @BeforeEach
+    void setUp() {
+        created = new CreatedRows(jdbcTemplate);
+        // Forecasts are derived and the nightly job is off in tests; start with none so the watermark is ours
+        forecastRepository.deleteAll();
+        item = created.item(inventoryItemRepository.save(InventoryItem.builder()
+                .name("Toilet Paper")
+                .quantity(40)
+                .minQuantity(10)
+                .price(new BigDecimal("0.80"))
+                .build()));
+        // Ten units a day for ten days, with an idle day in the middle and an ADD that is not usage
+        for (int day = 0; day < 10; day++) {
+            if (day != 4) {
+                removed(FIRST_DAY.plusDays(day), 4);
+                removed(FIRST_DAY.plusDays(day), 6);
+            }
+        }
+        stockTransactionRepository.save(StockTransaction.builder()
+                .item(item)
+                .type(StockTransaction.TransactionType.ADD)
+                .quantity(500)
+                .transactionDate(FIRST_DAY.plusDays(2).atTime(9, 0))
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        forecastRepository.deleteAll();
+        created.delete();
+    }
+
+    @Test
+    void run_ShouldDeriveUsageAndReorderPointFromRemovals() {
+        ForecastRunSummary summary = forecaster.run(FIRST_DAY.plusDays(9));
+
+        assertEquals(FIRST_DAY, summary.getFromDate());
+        assertEquals(9, summary.getLedgerRows());
+        ItemForecast forecast = forecaster.forecastFor(item.getId());
+        assertNotNull(forecast);
+        assertTrue(forecast.getDailyUsage() > 0 && forecast.getDailyUsage() < 10, forecast.toString());
+        assertTrue(forecast.getReorderPoint() > forecast.getDailyUsage() * 7, forecast.toString());
+        assertEquals(FIRST_DAY.plusDays(9), forecast.getForecastDate());
+    }
+
+    @Test
+    void run_ShouldOnlyReadDaysAfterThePreviousRun() {
+        forecaster.run(FIRST_DAY.plusDays(9));
+
+        assertEquals(0, forecaster.run(FIRST_DAY.plusDays(9)).getLedgerRows());
+        assertEquals(0, forecaster.run(FIRST_DAY.plusDays(10)).getLedgerRows());
+    }
+
+    @Test
+    void incrementalRuns_ShouldMatchASingleRunOverTheWholeHistory() {
+        for (int day = 0; day <= 12; day++) {
+            forecaster.run(FIRST_DAY.plusDays(day));
+        }
+        ItemForecast incremental = forecaster.forecastFor(item.getId());
+
+        forecastRepository.deleteAll();
+        forecaster.run(FIRST_DAY.plusDays(12));
+        ItemForecast full = forecaster.forecastFor(item.getId());
+
+        assertEquals(full.getDailyUsage(), incremental.getDailyUsage(), 1e-9);
+        assertEquals(full.getDailyUsageVariance(), incremental.getDailyUsageVariance(), 1e-9);
+        assertEquals(full.getReorderPoint(), incremental.getReorderPoint());
+    }
+
+    @Test
+    void concurrentRuns_ShouldFoldEachDayInOnce() throws Exception {
+        forecaster.run(FIRST_DAY.plusDays(9));
+        ItemForecast single = forecaster.forecastFor(item.getId());
+        forecastRepository.deleteAll();
+
+        // A manual run overlapping the nightly one
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<ForecastRunSummary>> runs = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                runs.add(executor.submit(() -> {
+                    start.await();
+                    return forecaster.run(FIRST_DAY.plusDays(9));
+                }));
+            }
+            start.countDown();
+            long ledgerRows = 0;
+            for (Future<ForecastRunSummary> run : runs) {
+                ledgerRows += run.get(60, TimeUnit.SECONDS).getLedgerRows();
+            }
+            assertEquals(9, ledgerRows);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        ItemForecast concurrent = forecaster.forecastFor(item.getId());
+        assertEquals(single.getDailyUsage(), concurrent.getDailyUsage(), 1e-9);
+        assertEquals(single.getReorderPoint(), concurrent.getReorderPoint());
+    }
+
+    @Test
+    void itemDto_ShouldCarryTheForecast() throws Exception {
+        forecaster.run(FIRST_DAY.plusDays(9));
+        ItemForecast forecast = forecaster.forecastFor(item.getId());
+
+        mockMvc.perform(get("/api/inventory/{id}", item.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.forecast.reorderPoint").value(forecast.getReorderPoint()))
+                .andExpect(jsonPath("$.forecast.forecastDate").value(FIRST_DAY.plusDays(9).toString()))
+                .andExpect(jsonPath("$.forecast.reorderNeeded").value(forecast.getReorderPoint() >= 40));
+    }
+
+    @Test
+    void runEndpoint_ShouldRejectDaysThatAreNotOver() throws Exception {
+        for (LocalDate through : List.of(LocalDate.now(), LocalDate.now().plusDays(30))) {
+            mockMvc.perform(post("/api/admin/forecast/run").param("through", through.toString()))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("Forecasts can only run through yesterday or earlier"));
+        }
+
+        assertEquals(0, forecastRepository.count());
+    }
+
+    private void removed(LocalDate day, int quantity) {
+        stockTransactionRepository.save(StockTransaction.builder()
+                .item(item)
+                .type(StockTransaction.TransactionType.REMOVE)
+                .quantity(quantity)
+                .transactionDate(day.atTime(10, quantity))
+                .build());
+    }
+}